@@ -1,6 +1,8 @@
 plugins {
     id("org.openrewrite.build.recipe-library") version "latest.release"
     id("org.openrewrite.build.moderne-source-available-license") version "latest.release"
+    id("me.champeau.jmh") version "latest.release"
+    `java-test-fixtures`
 }
 
 group = "org.openrewrite.recipe"
@@ -16,6 +18,7 @@ dependencies {
     implementation(platform("org.openrewrite:rewrite-bom:$rewriteVersion"))
 
     implementation("org.openrewrite:rewrite-java")
+    implementation("org.openrewrite:rewrite-properties")
     implementation("org.openrewrite:rewrite-xml")
     runtimeOnly("org.openrewrite:rewrite-java-21")
 
@@ -26,4 +29,45 @@ dependencies {
     testImplementation("org.openrewrite:rewrite-test")
 
     testRuntimeOnly("javax.servlet:javax.servlet-api:4.0.1")
+
+    testFixturesImplementation(platform("org.openrewrite:rewrite-bom:$rewriteVersion"))
+    testFixturesImplementation("org.openrewrite:rewrite-java")
+    testFixturesImplementation("org.openrewrite:rewrite-properties")
+    testFixturesImplementation("org.openrewrite:rewrite-xml")
+
+    jmhImplementation(testFixtures(project))
+    jmhRuntimeOnly("org.openrewrite:rewrite-java-21")
+}
+
+// Every recipe of this module, so that StrutsRecipeBenchmark measures new recipes without being updated
+val recipeNames = provider {
+    val javaRecipes = fileTree("src/main/java") { include("**/*.java") }.files
+        .filter { Regex("extends (Scanning)?Recipe\\b").containsMatchIn(it.readText()) }
+        .map { it.relativeTo(file("src/main/java")).invariantSeparatorsPath.removeSuffix(".java").replace('/', '.') }
+    val declarativeRecipes = fileTree("src/main/resources/META-INF/rewrite") { include("*.yml") }.files
+        .flatMap { Regex("type: specs\\.openrewrite\\.org/v1beta/recipe\\s+name: (\\S+)").findAll(it.readText()) }
+        .map { it.groupValues[1] }
+    (javaRecipes + declarativeRecipes).sorted()
+}
+
+jmh {
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    benchmarkParameters.put("recipeName", objects.listProperty<String>().value(recipeNames))
+}
+
+tasks.named<Test>("test") {
+    useJUnitPlatform {
+        excludeTags("scale")
+    }
+}
+
+val scaleTest by tasks.registering(Test::class) {
+    description = "Runs the recipes over generated corpora of increasing size."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("scale")
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.LargeSourceSet;
+import org.openrewrite.RecipeRun;
+import org.openrewrite.SourceFile;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.struts.migrate6.MigrateStaticOgnlMethodAccess;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link MigrateStaticOgnlMethodAccess} without a scan cache to a run against a warm cache, to check that
+ * hashing the content of a file for a cache hit is cheaper than the scan it skips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class StaticOgnlScanCacheBenchmark {
+
+    @Param({"none", "warm"})
+    String cache;
+
+    @Param({"100", "1000"})
+    int modules;
+
+    MigrateStaticOgnlMethodAccess recipe;
+    LargeSourceSet sourceSet;
+
+    @Setup
+    public void setup() throws IOException {
+        StrutsMonorepoGenerator corpus = new StrutsMonorepoGenerator(42, modules, 2 * modules, modules);
+        List<SourceFile> sources = corpus.parse(new InMemoryExecutionContext());
+        sourceSet = new InMemoryLargeSourceSet(sources);
+
+        Path cacheDirectory = Files.createTempDirectory("struts-scan-cache");
+        recipe = new MigrateStaticOgnlMethodAccess("warm".equals(cache) ? cacheDirectory.toString() : null,
+                null, null, null, null, null, null, null);
+        recipe.run(sourceSet, new InMemoryExecutionContext());
+    }
+
+    @Benchmark
+    public RecipeRun run() {
+        return recipe.run(sourceSet, new InMemoryExecutionContext());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.LargeSourceSet;
+import org.openrewrite.Recipe;
+import org.openrewrite.RecipeRun;
+import org.openrewrite.config.Environment;
+import org.openrewrite.config.OptionDescriptor;
+import org.openrewrite.config.RecipeDescriptor;
+import org.openrewrite.config.YamlResourceLoader;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs each recipe of this module over a {@link StrutsMonorepoGenerator} corpus of increasing size, with a Struts XML
+ * file, two templates and an action class per module. Compare runs with {@code ./gradlew jmh}, which also reports the
+ * allocation rate of every benchmark through the GC profiler. The build passes the names of all recipes in the
+ * sources as {@code recipeName}, and required options are set to the example of the option.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class StrutsRecipeBenchmark {
+
+    @Param
+    String recipeName;
+
+    @Param({"10", "100", "1000"})
+    int modules;
+
+    Recipe recipe;
+    LargeSourceSet sourceSet;
+
+    @Setup
+    public void setup() {
+        Environment environment = Environment.builder()
+                .scanRuntimeClasspath("org.openrewrite.java.struts")
+                .build();
+        StringBuilder options = new StringBuilder();
+        for (RecipeDescriptor descriptor : environment.listRecipeDescriptors()) {
+            if (descriptor.getName().equals(recipeName)) {
+                for (OptionDescriptor option : descriptor.getOptions()) {
+                    if (option.isRequired() && option.getExample() != null) {
+                        options.append("\n      ").append(option.getName()).append(": '").append(option.getExample()).append("'");
+                    }
+                }
+            }
+        }
+        String yaml = "type: specs.openrewrite.org/v1beta/recipe\n" +
+                      "name: org.openrewrite.java.struts.StrutsRecipeBenchmark\n" +
+                      "recipeList:\n" +
+                      "  - " + recipeName + (options.length() == 0 ? "" : ":" + options) + "\n";
+        recipe = Environment.builder()
+                .scanRuntimeClasspath("org.openrewrite.java.struts")
+                .load(new YamlResourceLoader(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)),
+                        URI.create("benchmark.yml"), new Properties()))
+                .build()
+                .activateRecipes("org.openrewrite.java.struts.StrutsRecipeBenchmark");
+        StrutsMonorepoGenerator corpus = new StrutsMonorepoGenerator(42, modules, 2 * modules, modules);
+        sourceSet = new InMemoryLargeSourceSet(corpus.parse(new InMemoryExecutionContext()));
+    }
+
+    @Benchmark
+    public RecipeRun run() {
+        return recipe.run(sourceSet, new InMemoryExecutionContext());
+    }
+}
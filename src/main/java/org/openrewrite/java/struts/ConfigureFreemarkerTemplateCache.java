@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.struts.internal.Projects;
+import org.openrewrite.java.struts.internal.StrutsConstants;
+import org.openrewrite.java.struts.internal.TagUtils;
+import org.openrewrite.java.struts.table.FreemarkerCacheOverrides;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.properties.PropertiesIsoVisitor;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.xml.XPathMatcher;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.*;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Configure template caching for FreeMarker results.
+ * <p>
+ * Unless {@code struts.freemarker.templatesCache} is enabled, and {@code struts.freemarker.templatesCache.updateDelay}
+ * is long enough, FreeMarker checks the template of a result on disk whenever it is rendered. The caching constants
+ * are added to {@code struts.xml} when a result or the default result type of a package is FreeMarker based, and
+ * constants that disable caching are changed. Settings of {@code freemarker.properties}, which take precedence over the
+ * constants, are reported instead. Constants that disable caching are only reported, not changed, when
+ * {@code struts.devMode} is configured to anything but {@code false}, as they are then usually meant for development.
+ * Each project of a multi-module repository is configured on its own.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class ConfigureFreemarkerTemplateCache extends ScanningRecipe<ConfigureFreemarkerTemplateCache.Accumulator> {
+
+    private static final String TEMPLATES_CACHE = "struts.freemarker.templatesCache";
+    private static final String UPDATE_DELAY = "struts.freemarker.templatesCache.updateDelay";
+    private static final String MRU_MAX_STRONG_SIZE = "struts.freemarker.mru.max.strong.size";
+    private static final String DEV_MODE = "struts.devMode";
+
+    private static final int DEFAULT_UPDATE_DELAY = 3600;
+    private static final int DEFAULT_MRU_MAX_STRONG_SIZE = 250;
+
+    // freemarker.properties settings that replace the template update delay or cache storage Struts configures
+    private static final Set<String> CACHE_SETTINGS = new HashSet<>(asList(
+            "template_update_delay", "templateUpdateDelay", "template_update_delay_milliseconds",
+            "templateUpdateDelayMilliseconds", "cache_storage", "cacheStorage"));
+
+    private static final XPathMatcher CONSTANT_MATCHER = new XPathMatcher("/struts/constant");
+    private static final XPathMatcher RESULT_TYPE_MATCHER = new XPathMatcher("/struts/package/result-types/result-type");
+    private static final XPathMatcher RESULT_MATCHER = new XPathMatcher("//result");
+
+    @Option(displayName = "Update delay",
+            description = "The number of seconds FreeMarker waits before checking a cached template for changes. Defaults to 3600.",
+            example = "3600",
+            required = false)
+    @Nullable
+    Integer updateDelay;
+
+    @Option(displayName = "Strongly cached templates",
+            description = "The maximum number of templates that are strongly referenced by the template cache. Defaults to 250.",
+            example = "250",
+            required = false)
+    @Nullable
+    Integer maxStrongSize;
+
+    transient FreemarkerCacheOverrides table = new FreemarkerCacheOverrides(this);
+
+    String displayName = "Configure FreeMarker template caching";
+
+    String description = "Enables `struts.freemarker.templatesCache`, and sets `struts.freemarker.templatesCache.updateDelay` " +
+            "and `struts.freemarker.mru.max.strong.size` when FreeMarker results are used, so that templates are no " +
+            "longer checked on disk on every render. Reports `freemarker.properties` settings that override them.";
+
+    @Value
+    public static class Accumulator {
+        // Project name to its Struts application
+        Map<String, Application> applications = new HashMap<>();
+
+        Application application(SourceFile sourceFile) {
+            return applications.computeIfAbsent(Projects.name(sourceFile), p -> new Application());
+        }
+    }
+
+    @Data
+    public static class Application {
+        // Result types that render FreeMarker templates
+        final Set<String> freemarkerResultTypes = new HashSet<>(Collections.singletonList("freemarker"));
+
+        // Result types used by results and as the default of packages
+        final Set<String> usedResultTypes = new HashSet<>();
+
+        // Struts constants configured in XML or properties files, by name
+        final Map<String, String> constants = new HashMap<>();
+
+        // The Struts XML file new constants are added to
+        @Nullable
+        String configFile;
+
+        boolean isDevMode() {
+            String devMode = constants.get(DEV_MODE);
+            return devMode != null && !"false".equals(devMode);
+        }
+
+        boolean usesFreemarker() {
+            for (String resultType : usedResultTypes) {
+                if (freemarkerResultTypes.contains(resultType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (tree instanceof Xml.Document && "struts".equals(((Xml.Document) tree).getRoot().getName())) {
+                    Application application = acc.application((Xml.Document) tree);
+                    String sourcePath = ((Xml.Document) tree).getSourcePath().toString();
+                    if (application.getConfigFile() == null || sourcePath.endsWith("struts.xml")) {
+                        application.setConfigFile(sourcePath);
+                    }
+                    new StrutsXmlScanner(application).visit(tree, ctx);
+                } else if (tree instanceof Properties.File &&
+                           ((Properties.File) tree).getSourcePath().toString().endsWith("struts.properties")) {
+                    Application application = acc.application((Properties.File) tree);
+                    new PropertiesIsoVisitor<ExecutionContext>() {
+                        @Override
+                        public Properties.Entry visitEntry(Properties.Entry entry, ExecutionContext ctx) {
+                            application.getConstants().put(entry.getKey(), entry.getValue().getText().trim());
+                            return entry;
+                        }
+                    }.visit(tree, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static class StrutsXmlScanner extends XmlIsoVisitor<ExecutionContext> {
+        private final Application application;
+
+        StrutsXmlScanner(Application application) {
+            this.application = application;
+        }
+
+        @Override
+        public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+            Xml.Tag t = super.visitTag(tag, ctx);
+            if (CONSTANT_MATCHER.matches(getCursor())) {
+                application.getConstants().put(TagUtils.getAttribute(t, "name", "").trim(),
+                        TagUtils.getAttribute(t, "value", "").trim());
+            } else if (RESULT_TYPE_MATCHER.matches(getCursor())) {
+                String name = TagUtils.getAttribute(t, "name", "");
+                if (TagUtils.getAttribute(t, "class", "").endsWith(".FreemarkerResult")) {
+                    application.getFreemarkerResultTypes().add(name);
+                }
+                if ("true".equals(TagUtils.getAttribute(t, "default", ""))) {
+                    application.getUsedResultTypes().add(name);
+                }
+            } else if (RESULT_MATCHER.matches(getCursor())) {
+                application.getUsedResultTypes().add(TagUtils.getAttribute(t, "type", ""));
+            }
+            return t;
+        }
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        String delay = Integer.toString(updateDelay == null ? DEFAULT_UPDATE_DELAY : updateDelay);
+        String strongSize = Integer.toString(maxStrongSize == null ? DEFAULT_MRU_MAX_STRONG_SIZE : maxStrongSize);
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile) || !acc.application((SourceFile) tree).usesFreemarker()) {
+                    return tree;
+                }
+                if (tree instanceof Xml.Document) {
+                    return new ConstantConfigurer(acc.application((Xml.Document) tree), delay, strongSize).visit(tree, ctx);
+                } else if (((SourceFile) tree).getSourcePath().toString().replace('\\', '/').endsWith("freemarker.properties")) {
+                    return reportOverrides((SourceFile) tree, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private Tree reportOverrides(SourceFile properties, ExecutionContext ctx) {
+        boolean found = false;
+        for (String line : properties.printAll().split("\\r?\\n")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#") || trimmed.startsWith("!")) {
+                continue;
+            }
+            int separator = 0;
+            while (separator < trimmed.length() && "=: \t".indexOf(trimmed.charAt(separator)) < 0) {
+                separator++;
+            }
+            String key = trimmed.substring(0, separator);
+            if (CACHE_SETTINGS.contains(key)) {
+                String value = trimmed.substring(separator).replaceFirst("^[\\s=:]+", "");
+                table.insertRow(ctx, new FreemarkerCacheOverrides.Row(properties.getSourcePath().toString(), key, value));
+                found = true;
+            }
+        }
+        return found ? SearchResult.found(properties, "Overrides the template cache configured by Struts") : properties;
+    }
+
+    private static class ConstantConfigurer extends XmlIsoVisitor<ExecutionContext> {
+        private final Application application;
+        private final String updateDelay;
+        private final String maxStrongSize;
+
+        ConstantConfigurer(Application application, String updateDelay, String maxStrongSize) {
+            this.application = application;
+            this.updateDelay = updateDelay;
+            this.maxStrongSize = maxStrongSize;
+        }
+
+        @Override
+        public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+            Xml.Document doc = super.visitDocument(document, ctx);
+            if (doc.getSourcePath().toString().equals(application.getConfigFile())) {
+                Xml.Tag struts = doc.getRoot();
+                if (!application.getConstants().containsKey(TEMPLATES_CACHE)) {
+                    doAfterVisit(StrutsConstants.addConstant(struts, TEMPLATES_CACHE, "true"));
+                }
+                if (!application.getConstants().containsKey(UPDATE_DELAY)) {
+                    doAfterVisit(StrutsConstants.addConstant(struts, UPDATE_DELAY, updateDelay));
+                }
+                if (!application.getConstants().containsKey(MRU_MAX_STRONG_SIZE)) {
+                    doAfterVisit(StrutsConstants.addConstant(struts, MRU_MAX_STRONG_SIZE, maxStrongSize));
+                }
+            }
+            return doc;
+        }
+
+        @Override
+        public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+            Xml.Tag t = super.visitTag(tag, ctx);
+            if (!CONSTANT_MATCHER.matches(getCursor())) {
+                return t;
+            }
+            String name = TagUtils.getAttribute(t, "name", "").trim();
+            String value = TagUtils.getAttribute(t, "value", "").trim();
+            if (TEMPLATES_CACHE.equals(name) && "false".equals(value) ||
+                UPDATE_DELAY.equals(name) && "0".equals(value)) {
+                if (application.isDevMode()) {
+                    return SearchResult.found(t, "Disables template caching, kept as struts.devMode is configured");
+                }
+                return TagUtils.withAttributeValue(t, "value", TEMPLATES_CACHE.equals(name) ? "true" : updateDelay);
+            }
+            return t;
+        }
+    }
+}
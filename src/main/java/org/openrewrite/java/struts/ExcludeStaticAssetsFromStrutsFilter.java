@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.struts.internal.Projects;
+import org.openrewrite.java.struts.internal.TagUtils;
+import org.openrewrite.xml.AddToTagVisitor;
+import org.openrewrite.xml.XPathMatcher;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Keep requests for static assets out of the Struts filter.
+ * <p>
+ * When the Struts filter is mapped to {@code /*}, every stylesheet, script and image request goes through
+ * {@code Dispatcher.prepare} and the action mapper. The directories of the web application that hold static assets are
+ * inferred from the source tree, and added as a {@code struts.action.excludePattern} init-param of the filter, unless an
+ * exclude pattern is already configured. Struts' own static content is kept cacheable by the browser. Each project of a
+ * multi-module repository is a web application of its own, with its own assets and constants.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class ExcludeStaticAssetsFromStrutsFilter extends ScanningRecipe<ExcludeStaticAssetsFromStrutsFilter.Accumulator> {
+
+    private static final String EXCLUDE_PATTERN = "struts.action.excludePattern";
+    private static final String BROWSER_CACHE = "struts.serve.static.browserCache";
+    private static final String SERVE_STATIC = "struts.serve.static";
+
+    private static final Set<String> STRUTS_FILTERS = new HashSet<>(asList(
+            "org.apache.struts2.dispatcher.filter.StrutsPrepareAndExecuteFilter",
+            "org.apache.struts2.dispatcher.ng.filter.StrutsPrepareAndExecuteFilter",
+            "org.apache.struts2.dispatcher.FilterDispatcher"));
+
+    private static final Set<String> STATIC_EXTENSIONS = new HashSet<>(asList(
+            "css", "js", "mjs", "map", "png", "jpg", "jpeg", "gif", "svg", "ico", "webp",
+            "woff", "woff2", "ttf", "eot", "otf", "htm", "html"));
+
+    private static final XPathMatcher FILTER_MATCHER = new XPathMatcher("/web-app/filter");
+    private static final XPathMatcher INIT_PARAM_MATCHER = new XPathMatcher("/web-app/filter/init-param");
+    private static final XPathMatcher CONSTANT_MATCHER = new XPathMatcher("/struts/constant");
+
+    String displayName = "Exclude static assets from the Struts filter";
+
+    String description = "Adds a `struts.action.excludePattern` for the static asset directories of the web application " +
+            "to a Struts filter mapped to `/*`, so that stylesheets, scripts and images no longer go through the " +
+            "action mapper. Also re-enables `struts.serve.static.browserCache` where Struts still serves static content.";
+
+    @Value
+    public static class Accumulator {
+        // Project name to its web application
+        Map<String, WebApplication> webApplications = new HashMap<>();
+
+        WebApplication webApplication(SourceFile sourceFile) {
+            return webApplications.computeIfAbsent(Projects.name(sourceFile), p -> new WebApplication());
+        }
+    }
+
+    @Value
+    public static class WebApplication {
+        // Top level directories of the web application that contain static assets
+        Set<String> staticDirectories = new TreeSet<>();
+
+        // Constants configured anywhere in the project, by name
+        Set<String> configuredConstants = new HashSet<>();
+
+        // Constants explicitly set to false
+        Set<String> disabledConstants = new HashSet<>();
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                SourceFile sourceFile = (SourceFile) tree;
+                WebApplication webApp = acc.webApplication(sourceFile);
+                String staticDirectory = staticDirectory(sourceFile.getSourcePath().toString().replace('\\', '/'));
+                if (staticDirectory != null) {
+                    webApp.getStaticDirectories().add(staticDirectory);
+                }
+                if (tree instanceof Xml.Document) {
+                    new XmlIsoVisitor<ExecutionContext>() {
+                        @Override
+                        public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                            Xml.Tag t = super.visitTag(tag, ctx);
+                            if (CONSTANT_MATCHER.matches(getCursor())) {
+                                configured(webApp, TagUtils.getAttribute(t, "name", ""), TagUtils.getAttribute(t, "value", ""));
+                            } else if (INIT_PARAM_MATCHER.matches(getCursor()) && isInitParamOfStrutsFilter(getCursor())) {
+                                configured(webApp, t.getChildValue("param-name").orElse(""), t.getChildValue("param-value").orElse(""));
+                            }
+                            return t;
+                        }
+                    }.visit(tree, ctx);
+                } else if (sourceFile.getSourcePath().toString().endsWith("struts.properties") &&
+                           sourceFile.printAll().contains(EXCLUDE_PATTERN)) {
+                    webApp.getConfiguredConstants().add(EXCLUDE_PATTERN);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static boolean isStrutsFilter(Xml.Tag filter) {
+        return STRUTS_FILTERS.contains(filter.getChildValue("filter-class").map(String::trim).orElse(""));
+    }
+
+    /**
+     * Whether the init-param at the cursor belongs to a Struts filter, rather than to any other filter of the web
+     * application that happens to use the same parameter names.
+     */
+    private static boolean isInitParamOfStrutsFilter(Cursor initParam) {
+        Object filter = initParam.getParentTreeCursor().getValue();
+        return filter instanceof Xml.Tag && isStrutsFilter((Xml.Tag) filter);
+    }
+
+    private static void configured(WebApplication webApp, String name, String value) {
+        webApp.getConfiguredConstants().add(name.trim());
+        if ("false".equals(value.trim())) {
+            webApp.getDisabledConstants().add(name.trim());
+        }
+    }
+
+    private static @Nullable String staticDirectory(String path) {
+        int webapp = path.indexOf("src/main/webapp/");
+        if (webapp < 0) {
+            return null;
+        }
+        String relative = path.substring(webapp + "src/main/webapp/".length());
+        int slash = relative.indexOf('/');
+        int dot = relative.lastIndexOf('.');
+        if (slash <= 0 || dot < 0 || !STATIC_EXTENSIONS.contains(relative.substring(dot + 1).toLowerCase())) {
+            return null;
+        }
+        String directory = relative.substring(0, slash);
+        return "WEB-INF".equals(directory) || "META-INF".equals(directory) ? null : directory;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new XmlIsoVisitor<ExecutionContext>() {
+            @Nullable
+            WebApplication webApp;
+
+            @Override
+            public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                webApp = acc.webApplication(document);
+                return super.visitDocument(document, ctx);
+            }
+
+            @Override
+            public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                Xml.Tag t = super.visitTag(tag, ctx);
+                WebApplication webApp = this.webApp;
+                if (webApp == null) {
+                    return t;
+                }
+                boolean serveStatic = !webApp.getDisabledConstants().contains(SERVE_STATIC);
+
+                if (FILTER_MATCHER.matches(getCursor()) && isStrutsFilterMappedToRoot(t) &&
+                    !webApp.getStaticDirectories().isEmpty() &&
+                    !webApp.getConfiguredConstants().contains(EXCLUDE_PATTERN)) {
+                    doAfterVisit(new AddToTagVisitor<>(t, Xml.Tag.build(
+                            "<init-param>\n" +
+                            "<param-name>" + EXCLUDE_PATTERN + "</param-name>\n" +
+                            "<param-value>" + excludePattern(webApp.getStaticDirectories()) + "</param-value>\n" +
+                            "</init-param>")));
+                } else if (serveStatic && INIT_PARAM_MATCHER.matches(getCursor()) && isInitParamOfStrutsFilter(getCursor()) &&
+                           BROWSER_CACHE.equals(t.getChildValue("param-name").map(String::trim).orElse(null)) &&
+                           "false".equals(t.getChildValue("param-value").map(String::trim).orElse(null))) {
+                    return t.withChildValue("param-value", "true");
+                } else if (serveStatic && CONSTANT_MATCHER.matches(getCursor()) &&
+                           BROWSER_CACHE.equals(TagUtils.getAttribute(t, "name", ""))) {
+                    return TagUtils.withAttributeValue(t, "value", "true");
+                }
+
+                return t;
+            }
+
+            private boolean isStrutsFilterMappedToRoot(Xml.Tag filter) {
+                if (!isStrutsFilter(filter)) {
+                    return false;
+                }
+                String filterName = filter.getChildValue("filter-name").map(String::trim).orElse("");
+                Xml.Tag webApp = getCursor().firstEnclosingOrThrow(Xml.Document.class).getRoot();
+                for (Xml.Tag mapping : webApp.getChildren("filter-mapping")) {
+                    if (filterName.equals(mapping.getChildValue("filter-name").map(String::trim).orElse(null))) {
+                        for (Xml.Tag urlPattern : mapping.getChildren("url-pattern")) {
+                            if ("/*".equals(urlPattern.getValue().map(String::trim).orElse(null))) {
+                                return true;
+                            }
+                        }
+                    }
+                }
+                return false;
+            }
+        };
+    }
+
+    private static String excludePattern(Set<String> directories) {
+        StringJoiner pattern = new StringJoiner(",");
+        for (String directory : directories) {
+            pattern.add("/" + directory.replaceAll("([\\\\.\\[\\]{}()*+?^$|])", "\\\\$1") + "/.*");
+        }
+        return pattern.toString();
+    }
+}
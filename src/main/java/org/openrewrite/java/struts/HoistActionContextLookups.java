@@ -0,0 +1,534 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.emptyList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hoist repeated {@code ActionContext.getContext()} and {@code ServletActionContext} lookups within a method into a
+ * local variable, and replace {@code findValue("property")} on the value stack of the action context by the action's
+ * own getter.
+ * <p>
+ * Each lookup reads a {@code ThreadLocal} and the context map, and {@code findValue} parses and evaluates an OGNL
+ * expression against the value stack. {@code ActionContext.getContext()} only reads a {@code ThreadLocal}, and is hoisted
+ * when it occurs more than once in a method, or inside a loop, with the local declared right before the top level
+ * statement of the first occurrence. The {@code ServletActionContext} lookups fail without an action context, so they
+ * are only hoisted when they occur more than once, into the innermost block that holds all occurrences, and only when
+ * the first occurrence runs whenever its statement in that block does. A lookup behind an {@code if}, a loop or a
+ * {@code try} is never moved out of it. Lookups in lambdas and in anonymous or local classes are left alone, as are
+ * methods that change the action context.
+ * <p>
+ * Only {@code ActionContext.getContext().getValueStack().findValue(..)} is replaced, as other value stacks need not
+ * have the action on top. The getter is cast to {@code Object} when passed to an overloaded method, so that the same
+ * overload is still called.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class HoistActionContextLookups extends Recipe {
+
+    // Lookups that only read the action context of the current thread, with the name of the local they are hoisted into
+    private static final Map<MethodMatcher, String> LOOKUPS = new LinkedHashMap<>();
+
+    static {
+        LOOKUPS.put(new MethodMatcher("com.opensymphony.xwork2.ActionContext getContext()"), "actionContext");
+        LOOKUPS.put(new MethodMatcher("org.apache.struts2.ActionContext getContext()"), "actionContext");
+        LOOKUPS.put(new MethodMatcher("org.apache.struts2.ServletActionContext getRequest()"), "request");
+        LOOKUPS.put(new MethodMatcher("org.apache.struts2.ServletActionContext getResponse()"), "response");
+        LOOKUPS.put(new MethodMatcher("org.apache.struts2.ServletActionContext getServletContext()"), "servletContext");
+    }
+
+    private static final List<MethodMatcher> CONTEXT_CHANGES = Arrays.asList(
+            new MethodMatcher("com.opensymphony.xwork2.ActionContext setContext(..)"),
+            new MethodMatcher("org.apache.struts2.ActionContext setContext(..)"),
+            new MethodMatcher("org.apache.struts2.ActionContext bind()"),
+            new MethodMatcher("org.apache.struts2.ActionContext clear()"),
+            new MethodMatcher("org.apache.struts2.ServletActionContext set*(..)"));
+
+    private static final List<MethodMatcher> FIND_VALUE = Arrays.asList(
+            new MethodMatcher("com.opensymphony.xwork2.util.ValueStack findValue(java.lang.String)", true),
+            new MethodMatcher("org.apache.struts2.util.ValueStack findValue(java.lang.String)", true));
+    private static final List<MethodMatcher> GET_VALUE_STACK = Arrays.asList(
+            new MethodMatcher("com.opensymphony.xwork2.ActionContext getValueStack()"),
+            new MethodMatcher("org.apache.struts2.ActionContext getValueStack()"));
+    private static final List<MethodMatcher> GET_CONTEXT = Arrays.asList(
+            new MethodMatcher("com.opensymphony.xwork2.ActionContext getContext()"),
+            new MethodMatcher("org.apache.struts2.ActionContext getContext()"));
+    private static final List<MethodMatcher> PUSH = Arrays.asList(
+            new MethodMatcher("com.opensymphony.xwork2.util.ValueStack push(..)", true),
+            new MethodMatcher("org.apache.struts2.util.ValueStack push(..)", true));
+
+    private static final Pattern PROPERTY = Pattern.compile("[a-zA-Z_$][a-zA-Z0-9_$]*");
+
+    String displayName = "Hoist repeated action context lookups";
+
+    String description = "Hoists repeated `ActionContext.getContext()` and `ServletActionContext` lookups within a " +
+            "method into a local variable, and replaces `findValue(\"property\")` on the value stack of an action " +
+            "with a call to the action's getter, avoiding `ThreadLocal` lookups and OGNL evaluation per call.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(Preconditions.or(
+                new UsesType<>("com.opensymphony.xwork2.ActionContext", true),
+                new UsesType<>("org.apache.struts2.ActionContext", true),
+                new UsesType<>("org.apache.struts2.ServletActionContext", true),
+                new UsesType<>("com.opensymphony.xwork2.util.ValueStack", true),
+                new UsesType<>("org.apache.struts2.util.ValueStack", true)
+        ), new JavaIsoVisitor<ExecutionContext>() {
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                if (!matchesAny(FIND_VALUE, m) || !isActionContextValueStack(m.getSelect()) ||
+                    !(m.getArguments().get(0) instanceof J.Literal)) {
+                    return m;
+                }
+                Object property = ((J.Literal) m.getArguments().get(0)).getValue();
+                if (!(property instanceof String) || !PROPERTY.matcher((String) property).matches()) {
+                    return m;
+                }
+
+                // The action must be the object the expression is evaluated against, and be `this` at the call site
+                Cursor enclosing = getCursor().dropParentUntil(v -> v instanceof J.ClassDeclaration ||
+                                                                   v instanceof J.NewClass ||
+                                                                   v instanceof J.MethodDeclaration);
+                if (!(enclosing.getValue() instanceof J.MethodDeclaration)) {
+                    return m;
+                }
+                J.MethodDeclaration md = enclosing.getValue();
+                J.ClassDeclaration cd = enclosing.firstEnclosing(J.ClassDeclaration.class);
+                if (md.hasModifier(J.Modifier.Type.Static) || cd == null || !isAction(cd.getType()) ||
+                    pushesOntoValueStack(md)) {
+                    return m;
+                }
+
+                String getter = findGetter(cd.getType(), (String) property);
+                if (getter == null) {
+                    return m;
+                }
+                return JavaTemplate.builder((isOverloadedArgument(getCursor()) ? "(Object) " : "") + getter + "()")
+                        .contextSensitive()
+                        .build()
+                        .apply(getCursor(), m.getCoordinates().replace());
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                if (m.getBody() == null || m.isConstructor()) {
+                    return m;
+                }
+
+                LookupCollector collector = new LookupCollector();
+                collector.visit(m.getBody(), ctx, getCursor());
+                if (collector.changesContext) {
+                    return m;
+                }
+
+                Set<String> namesInUse = namesInUse(m);
+                Map<UUID, J.Identifier> replacements = new HashMap<>();
+                List<Hoist> hoists = new ArrayList<>();
+                for (Lookups lookups : collector.lookups.values()) {
+                    Level target = lookups.target();
+                    if (target == null) {
+                        continue;
+                    }
+                    J.MethodInvocation first = lookups.invocations.get(0);
+                    JavaType.FullyQualified type = first.getMethodType() == null ? null :
+                            TypeUtils.asFullyQualified(first.getMethodType().getReturnType());
+                    if (type == null) {
+                        continue;
+                    }
+
+                    Statement statement = findBlock(m, target.getBlock()).getStatements().get(target.getStatementIndex());
+                    String name = existingLocal(m, statement, first);
+                    boolean reuseLocal = name != null;
+                    if (name == null) {
+                        name = uniqueName(lookups.baseName, namesInUse);
+                        hoists.add(new Hoist(target.getBlock(), target.getStatementIndex(), hoists.size(), name, type, first));
+                    }
+                    for (J.MethodInvocation invocation : lookups.invocations) {
+                        // The initializer of a reused local stays as it is
+                        if (!reuseLocal || invocation != first) {
+                            replacements.put(invocation.getId(), new J.Identifier(Tree.randomId(), Space.EMPTY,
+                                    Markers.EMPTY, emptyList(), name, type, null));
+                        }
+                    }
+                }
+                if (replacements.isEmpty()) {
+                    return m;
+                }
+
+                m = (J.MethodDeclaration) new LookupReplacer(replacements).visitNonNull(m, ctx, getCursor().getParentOrThrow());
+
+                // Insert from the last statement to the first, so the indices of the statements before stay the same
+                hoists.sort(Comparator.comparingInt(Hoist::getStatementIndex).reversed().thenComparingInt(Hoist::getOrder));
+                for (Hoist hoist : hoists) {
+                    Statement anchor = findBlock(m, hoist.getBlock()).getStatements().get(hoist.getStatementIndex());
+                    m = JavaTemplate.builder(hoist.getType().getClassName() + " " + hoist.getName() +
+                                             " = #{any(" + hoist.getType().getFullyQualifiedName() + ")};")
+                            .contextSensitive()
+                            .imports(hoist.getType().getFullyQualifiedName())
+                            .build()
+                            .apply(updateCursor(m), anchor.getCoordinates().before(), hoist.getInitializer());
+                    maybeAddImport(hoist.getType().getFullyQualifiedName());
+                }
+                return m;
+            }
+        });
+    }
+
+    private static class Lookups {
+        final String baseName;
+        // Whether the lookup can be evaluated where the code did not evaluate it, as it neither fails nor has effects
+        final boolean speculative;
+        final List<J.MethodInvocation> invocations = new ArrayList<>();
+        // For each invocation, the blocks that enclose it, from the method body inwards
+        final List<List<Level>> levels = new ArrayList<>();
+        boolean inLoop;
+
+        Lookups(String baseName, boolean speculative) {
+            this.baseName = baseName;
+            this.speculative = speculative;
+        }
+
+        /**
+         * @return The statement to declare the local before, or {@code null} when the lookup is not hoisted.
+         */
+        @Nullable Level target() {
+            List<Level> first = levels.get(0);
+            if (speculative) {
+                return invocations.size() < 2 && !inLoop ? null : first.get(0);
+            }
+            if (invocations.size() < 2) {
+                return null;
+            }
+            int depth = first.size() - 1;
+            for (List<Level> other : levels) {
+                int common = 0;
+                while (common <= depth && common < other.size() &&
+                       other.get(common).getBlock().equals(first.get(common).getBlock())) {
+                    common++;
+                }
+                depth = common - 1;
+            }
+            return first.get(depth).isConditional() ? null : first.get(depth);
+        }
+    }
+
+    @Value
+    private static class Level {
+        UUID block;
+        int statementIndex;
+        // Whether the invocation may not be evaluated when the statement runs
+        boolean conditional;
+    }
+
+    @Value
+    private static class Hoist {
+        UUID block;
+        int statementIndex;
+        int order;
+        String name;
+        JavaType.FullyQualified type;
+        J.MethodInvocation initializer;
+    }
+
+    private static class LookupCollector extends JavaIsoVisitor<ExecutionContext> {
+        final Map<String, Lookups> lookups = new LinkedHashMap<>();
+        boolean changesContext;
+
+        @Override
+        public J.Lambda visitLambda(J.Lambda lambda, ExecutionContext ctx) {
+            return lambda;
+        }
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            return classDecl;
+        }
+
+        @Override
+        public J.NewClass visitNewClass(J.NewClass newClass, ExecutionContext ctx) {
+            return newClass.getBody() == null ? super.visitNewClass(newClass, ctx) : newClass;
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            if (matchesAny(CONTEXT_CHANGES, method)) {
+                changesContext = true;
+            }
+            for (Map.Entry<MethodMatcher, String> lookup : LOOKUPS.entrySet()) {
+                if (lookup.getKey().matches(method) && method.getMethodType() != null) {
+                    Lookups found = lookups.computeIfAbsent(
+                            method.getMethodType().getDeclaringType().getFullyQualifiedName() + "#" + method.getSimpleName(),
+                            k -> new Lookups(lookup.getValue(), matchesAny(GET_CONTEXT, method)));
+                    found.invocations.add(method);
+                    found.levels.add(levels());
+                    if (getCursor().firstEnclosing(Loop.class) != null) {
+                        found.inLoop = true;
+                    }
+                }
+            }
+            return super.visitMethodInvocation(method, ctx);
+        }
+
+        private List<Level> levels() {
+            List<Level> levels = new ArrayList<>();
+            boolean conditional = false;
+            Object child = getCursor().getValue();
+            for (Cursor c = getCursor().getParentTreeCursor(); !(c.getValue() instanceof J.MethodDeclaration);
+                 c = c.getParentTreeCursor()) {
+                Object parent = c.getValue();
+                // No local can be declared between the cases of a switch
+                if (parent instanceof J.Block && !(c.getParentTreeCursor().getValue() instanceof J.Switch)) {
+                    List<Statement> statements = ((J.Block) parent).getStatements();
+                    for (int i = 0; i < statements.size(); i++) {
+                        if (statements.get(i) == child) {
+                            levels.add(0, new Level(((J.Block) parent).getId(), i, conditional));
+                        }
+                    }
+                } else if (isConditional(parent, child)) {
+                    conditional = true;
+                }
+                child = parent;
+            }
+            return levels;
+        }
+    }
+
+    /**
+     * @return Whether the child is only evaluated under a condition, or may be skipped by an exception, when the parent is.
+     */
+    private static boolean isConditional(Object parent, Object child) {
+        if (parent instanceof J.If) {
+            return child != ((J.If) parent).getIfCondition();
+        } else if (parent instanceof J.Ternary) {
+            return child != ((J.Ternary) parent).getCondition();
+        } else if (parent instanceof J.Binary) {
+            J.Binary.Type operator = ((J.Binary) parent).getOperator();
+            return (operator == J.Binary.Type.And || operator == J.Binary.Type.Or) && child == ((J.Binary) parent).getRight();
+        } else if (parent instanceof J.Switch) {
+            return child != ((J.Switch) parent).getSelector();
+        }
+        return parent instanceof J.If.Else || parent instanceof Loop || parent instanceof J.Try ||
+               parent instanceof J.Try.Catch || parent instanceof J.Case || parent instanceof J.SwitchExpression;
+    }
+
+    private static J.Block findBlock(J.MethodDeclaration method, UUID id) {
+        AtomicReference<J.Block> found = new AtomicReference<>();
+        new JavaIsoVisitor<AtomicReference<J.Block>>() {
+            @Override
+            public J.Block visitBlock(J.Block block, AtomicReference<J.Block> f) {
+                if (block.getId().equals(id)) {
+                    f.set(block);
+                    return block;
+                }
+                return super.visitBlock(block, f);
+            }
+        }.visit(method, found);
+        return requireNonNull(found.get());
+    }
+
+    private static class LookupReplacer extends JavaVisitor<ExecutionContext> {
+        private final Map<UUID, J.Identifier> replacements;
+
+        LookupReplacer(Map<UUID, J.Identifier> replacements) {
+            this.replacements = replacements;
+        }
+
+        @Override
+        public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.Identifier replacement = replacements.get(method.getId());
+            if (replacement != null) {
+                return replacement.withPrefix(method.getPrefix());
+            }
+            return super.visitMethodInvocation(method, ctx);
+        }
+    }
+
+    /**
+     * @return The name of the local variable that the first lookup initializes, as long as it is never reassigned.
+     */
+    private static @Nullable String existingLocal(J.MethodDeclaration method, Statement statement, J.MethodInvocation first) {
+        if (!(statement instanceof J.VariableDeclarations) || ((J.VariableDeclarations) statement).getVariables().size() != 1) {
+            return null;
+        }
+        J.VariableDeclarations.NamedVariable variable = ((J.VariableDeclarations) statement).getVariables().get(0);
+        if (variable.getInitializer() != first) {
+            return null;
+        }
+        String name = variable.getSimpleName();
+        AtomicBoolean reassigned = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Assignment visitAssignment(J.Assignment assignment, AtomicBoolean found) {
+                if (assignment.getVariable() instanceof J.Identifier &&
+                    name.equals(((J.Identifier) assignment.getVariable()).getSimpleName())) {
+                    found.set(true);
+                }
+                return super.visitAssignment(assignment, found);
+            }
+        }.visit(method.getBody(), reassigned);
+        return reassigned.get() ? null : name;
+    }
+
+    /**
+     * Collect every identifier of the method, so a new local neither clashes with another local nor shadows a field
+     * that the method refers to without qualifier.
+     */
+    private static Set<String> namesInUse(J.MethodDeclaration method) {
+        Set<String> names = new HashSet<>();
+        new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Set<String> n) {
+                n.add(identifier.getSimpleName());
+                return identifier;
+            }
+        }.visit(method, names);
+        return names;
+    }
+
+    private static String uniqueName(String baseName, Set<String> namesInUse) {
+        String name = baseName;
+        for (int i = 1; namesInUse.contains(name); i++) {
+            name = baseName + i;
+        }
+        namesInUse.add(name);
+        return name;
+    }
+
+    private static boolean isAction(JavaType.@Nullable FullyQualified type) {
+        return TypeUtils.isAssignableTo("com.opensymphony.xwork2.Action", type) ||
+               TypeUtils.isAssignableTo("org.apache.struts2.action.Action", type);
+    }
+
+    private static boolean isActionContextValueStack(@Nullable Expression select) {
+        return select instanceof J.MethodInvocation && matchesAny(GET_VALUE_STACK, (J.MethodInvocation) select) &&
+               ((J.MethodInvocation) select).getSelect() instanceof J.MethodInvocation &&
+               matchesAny(GET_CONTEXT, (J.MethodInvocation) ((J.MethodInvocation) select).getSelect());
+    }
+
+    /**
+     * @return Whether the invocation is an argument of a method or constructor that has overloads with the same number
+     * of parameters, or whose type is unknown, where passing a more specific type than {@code Object} could change the
+     * overload that is called.
+     */
+    private static boolean isOverloadedArgument(Cursor cursor) {
+        J.MethodInvocation argument = cursor.getValue();
+        Object parent = cursor.getParentTreeCursor().getValue();
+        List<Expression> arguments;
+        JavaType.Method called;
+        if (parent instanceof J.MethodInvocation) {
+            arguments = ((J.MethodInvocation) parent).getArguments();
+            called = ((J.MethodInvocation) parent).getMethodType();
+        } else if (parent instanceof J.NewClass) {
+            arguments = ((J.NewClass) parent).getArguments();
+            called = ((J.NewClass) parent).getConstructorType();
+        } else {
+            return false;
+        }
+        boolean isArgument = false;
+        for (Expression a : arguments) {
+            isArgument |= a.getId().equals(argument.getId());
+        }
+        if (!isArgument) {
+            return false;
+        }
+        if (called == null) {
+            return true;
+        }
+        // Overridden methods have the same parameter types, and constructors are not inherited
+        Set<String> overloads = new HashSet<>();
+        for (JavaType.FullyQualified t = called.getDeclaringType(); t != null;
+             t = called.isConstructor() ? null : t.getSupertype()) {
+            for (JavaType.Method method : t.getMethods()) {
+                if (method.getName().equals(called.getName()) &&
+                    method.getParameterTypes().size() == called.getParameterTypes().size()) {
+                    overloads.add(method.getParameterTypes().toString());
+                }
+            }
+        }
+        return overloads.size() > 1;
+    }
+
+    private static boolean pushesOntoValueStack(J.MethodDeclaration method) {
+        AtomicBoolean pushes = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation m, AtomicBoolean found) {
+                if (matchesAny(PUSH, m)) {
+                    found.set(true);
+                }
+                return super.visitMethodInvocation(m, found);
+            }
+        }.visit(method.getBody(), pushes);
+        return pushes.get();
+    }
+
+    /**
+     * @return The name of the public getter the action declares or inherits for the property, unless the action is
+     * model driven, in which case the model is on top of the value stack.
+     */
+    private static @Nullable String findGetter(JavaType.@Nullable FullyQualified type, String property) {
+        if (type == null ||
+            TypeUtils.isAssignableTo("com.opensymphony.xwork2.ModelDriven", type) ||
+            TypeUtils.isAssignableTo("org.apache.struts2.ModelDriven", type)) {
+            return null;
+        }
+        String capitalized = StringUtils.capitalize(property);
+        for (JavaType.FullyQualified t = type; t != null; t = t.getSupertype()) {
+            for (JavaType.Method method : t.getMethods()) {
+                if (!method.getParameterTypes().isEmpty() || !method.hasFlags(Flag.Public) ||
+                    method.hasFlags(Flag.Static)) {
+                    continue;
+                }
+                if (method.getName().equals("get" + capitalized) ||
+                    method.getName().equals("is" + capitalized) && method.getReturnType() == JavaType.Primitive.Boolean) {
+                    return method.getName();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean matchesAny(List<MethodMatcher> matchers, J.MethodInvocation method) {
+        for (MethodMatcher matcher : matchers) {
+            if (matcher.matches(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -19,7 +19,9 @@ import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.struts.internal.RecipeTimings;
 import org.openrewrite.java.struts.search.FindStrutsXml;
+import org.openrewrite.java.struts.table.StrutsRecipeTimings;
 import org.openrewrite.xml.XmlIsoVisitor;
 import org.openrewrite.xml.tree.Xml;
 
@@ -33,17 +35,20 @@ public class MigrateStrutsDtd extends Recipe {
             valid = { "2.3", "2.5", "6.0" })
     String strutsVersion;
 
+    transient StrutsRecipeTimings timings = new StrutsRecipeTimings(this);
+
     String displayName = "Migrate DTD to a specific Struts version";
 
     String description = "Update Struts DTD to reflect the specified version.";
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new FindStrutsXml(), new XmlIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(new FindStrutsXml(), RecipeTimings.edit(this, timings, new XmlIsoVisitor<ExecutionContext>() {
             @Override
             public Xml.DocTypeDecl visitDocTypeDecl(Xml.DocTypeDecl docTypeDecl, ExecutionContext ctx) {
                 return docTypeDecl.withInternalSubset(ListUtils.map(docTypeDecl.getInternalSubset(), (n, ref) -> {
                     if (n == 0 && !ref.getName().equals("\"-//Apache Software Foundation//DTD Struts Configuration " + strutsVersion + "//EN\"")) {
+                        RecipeTimings.matched(ctx);
                         return ref.withName("\"-//Apache Software Foundation//DTD Struts Configuration " + strutsVersion + "//EN\"");
                     }
                     if (n == 1 && !ref.getName().equals("\"https://struts.apache.org/dtds/struts-" + strutsVersion + ".dtd\"")) {
@@ -52,6 +57,6 @@ public class MigrateStrutsDtd extends Recipe {
                     return ref;
                 }));
             }
-        });
+        }));
     }
 }
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.struts.internal.TagUtils;
+import org.openrewrite.java.struts.search.FindStrutsXml;
+import org.openrewrite.java.struts.table.DiagnosticInterceptors;
+import org.openrewrite.xml.XPathMatcher;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.*;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Remove the {@code timer}, {@code logger}, {@code profiling} and {@code debugging} interceptors, and any
+ * interceptor declared with one of their classes, from the interceptor stacks and actions of Struts XML files.
+ * <p>
+ * Stack references are resolved through the {@code extends} hierarchy of the packages found in the sources, down to
+ * the stock stacks of {@code struts-default}, so that every action that ran one of these interceptors is reported,
+ * whether it referenced it directly, through a stack or through a {@code <default-interceptor-ref>}. The stock
+ * {@code defaultStack} runs {@code debugging}, which is reported but cannot be removed from the stack. Interceptor
+ * names are resolved per package, as a package may declare a diagnostic class under a name that another package uses
+ * for something else. A reference is only removed when at least one other interceptor reference remains, as an action
+ * without any reference would silently fall back to the package default.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class RemoveDiagnosticInterceptors extends ScanningRecipe<RemoveDiagnosticInterceptors.Accumulator> {
+
+    private static final Set<String> DIAGNOSTIC_INTERCEPTORS = new HashSet<>(asList("timer", "logger", "profiling", "debugging"));
+    private static final Set<String> DIAGNOSTIC_INTERCEPTOR_CLASSES = new HashSet<>(asList(
+            "TimerInterceptor", "LoggingInterceptor", "ProfilingActivationInterceptor", "DebuggingInterceptor"));
+
+    private static final XPathMatcher PACKAGE_MATCHER = new XPathMatcher("/struts/package");
+
+    private static final String STRUTS_DEFAULT = "struts-default";
+
+    // The stock interceptor stacks of struts-default.xml, which no source declares
+    private static final PackageDefinition STRUTS_DEFAULT_PACKAGE;
+
+    static {
+        List<String> basicStack = asList("exception", "servletConfig", "prepare", "checkbox", "datetime", "multiselect",
+                "actionMappingParams", "params", "conversionError");
+        Map<String, List<String>> stacks = new HashMap<>();
+        stacks.put("basicStack", basicStack);
+        stacks.put("validationWorkflowStack", asList("basicStack", "validation", "workflow"));
+        stacks.put("fileUploadStack", asList("fileUpload", "basicStack"));
+        stacks.put("modelDrivenStack", asList("modelDriven", "basicStack"));
+        stacks.put("chainStack", asList("chain", "basicStack"));
+        stacks.put("i18nStack", asList("i18n", "basicStack"));
+        stacks.put("paramsPrepareParamsStack", asList("exception", "alias", "i18n", "checkbox", "datetime",
+                "multiselect", "params", "servletConfig", "prepare", "chain", "modelDriven", "fileUpload", "staticParams",
+                "actionMappingParams", "params", "conversionError", "validation", "workflow"));
+        stacks.put("defaultStack", asList("exception", "alias", "servletConfig", "i18n", "prepare", "chain",
+                "scopedModelDriven", "modelDriven", "fileUpload", "checkbox", "datetime", "multiselect", "staticParams",
+                "actionMappingParams", "params", "conversionError", "validation", "workflow", "debugging"));
+        stacks.put("completeStack", Collections.singletonList("defaultStack"));
+        stacks.put("executeAndWaitStack", asList("execAndWait", "defaultStack", "execAndWait"));
+        STRUTS_DEFAULT_PACKAGE = new PackageDefinition(Collections.emptyList(), stacks, Collections.emptyMap(), "defaultStack");
+    }
+
+    transient DiagnosticInterceptors table = new DiagnosticInterceptors(this);
+
+    String displayName = "Remove diagnostic interceptors";
+
+    String description = "Removes the `timer`, `logger`, `profiling` and `debugging` interceptors from interceptor " +
+            "stacks and actions, as they add work and log I/O to every request in production.";
+
+    @Value
+    public static class Accumulator {
+        // Package name to its definition, across all Struts XML files
+        Map<String, PackageDefinition> packages = new HashMap<>();
+    }
+
+    @Value
+    public static class PackageDefinition {
+        List<String> parents;
+        Map<String, List<String>> stacks;
+
+        // Interceptors declared in the package, to whether their class is a diagnostic one
+        Map<String, Boolean> interceptors;
+
+        String defaultInterceptorRef;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return Preconditions.check(new FindStrutsXml(), new XmlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                if (!PACKAGE_MATCHER.matches(getCursor())) {
+                    return super.visitTag(tag, ctx);
+                }
+
+                List<String> parents = new ArrayList<>();
+                for (String parent : TagUtils.getAttribute(tag, "extends", "").split(",")) {
+                    if (!parent.trim().isEmpty()) {
+                        parents.add(parent.trim());
+                    }
+                }
+
+                Map<String, List<String>> stacks = new HashMap<>();
+                Map<String, Boolean> interceptors = new HashMap<>();
+                String defaultInterceptorRef = "";
+                for (Xml.Tag child : tag.getChildren()) {
+                    if ("interceptors".equals(child.getName())) {
+                        for (Xml.Tag interceptor : child.getChildren("interceptor")) {
+                            String className = TagUtils.getAttribute(interceptor, "class", "");
+                            interceptors.put(TagUtils.getAttribute(interceptor, "name", ""),
+                                    DIAGNOSTIC_INTERCEPTOR_CLASSES.contains(className.substring(className.lastIndexOf('.') + 1)));
+                        }
+                        for (Xml.Tag stack : child.getChildren("interceptor-stack")) {
+                            stacks.put(TagUtils.getAttribute(stack, "name", ""), interceptorRefs(stack));
+                        }
+                    } else if ("default-interceptor-ref".equals(child.getName())) {
+                        defaultInterceptorRef = TagUtils.getAttribute(child, "name", "");
+                    }
+                }
+
+                acc.getPackages().put(TagUtils.getAttribute(tag, "name", ""),
+                        new PackageDefinition(parents, stacks, interceptors, defaultInterceptorRef));
+                return tag;
+            }
+        });
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return Preconditions.check(new FindStrutsXml(), new XmlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                Xml.Tag t = super.visitTag(tag, ctx);
+
+                if ("action".equals(t.getName())) {
+                    String pkg = packageName();
+                    reportAction(pkg, t, ctx);
+                    return removeDiagnosticRefs(acc, pkg, t);
+                } else if ("interceptor-stack".equals(t.getName())) {
+                    return removeDiagnosticRefs(acc, packageName(), t);
+                }
+
+                return t;
+            }
+
+            private String packageName() {
+                return getCursor().getPathAsStream()
+                        .filter(v -> v instanceof Xml.Tag && "package".equals(((Xml.Tag) v).getName()))
+                        .map(v -> TagUtils.getAttribute((Xml.Tag) v, "name", ""))
+                        .findFirst()
+                        .orElse("");
+            }
+
+            private void reportAction(String pkg, Xml.Tag action, ExecutionContext ctx) {
+                List<String> refs = interceptorRefs(action);
+                String via = "action";
+                if (refs.isEmpty()) {
+                    String defaultRef = findDefaultInterceptorRef(acc, pkg, new HashSet<>());
+                    if (defaultRef == null) {
+                        return;
+                    }
+                    refs = Collections.singletonList(defaultRef);
+                    via = defaultRef;
+                }
+
+                Map<String, String> found = new LinkedHashMap<>();
+                for (String ref : refs) {
+                    collectDiagnosticInterceptors(acc, pkg, ref, via, found, new HashSet<>());
+                }
+                for (Map.Entry<String, String> diagnostic : found.entrySet()) {
+                    table.insertRow(ctx, new DiagnosticInterceptors.Row(
+                            getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
+                            pkg,
+                            TagUtils.getAttribute(action, "name", ""),
+                            diagnostic.getKey(),
+                            diagnostic.getValue()));
+                }
+            }
+        });
+    }
+
+    private static Xml.Tag removeDiagnosticRefs(Accumulator acc, String pkg, Xml.Tag tag) {
+        List<String> refs = interceptorRefs(tag);
+        boolean anyRemaining = false;
+        for (String ref : refs) {
+            if (!isDiagnostic(acc, pkg, ref)) {
+                anyRemaining = true;
+                break;
+            }
+        }
+        if (!anyRemaining || tag.getContent() == null) {
+            return tag;
+        }
+        return tag.withContent(ListUtils.map(tag.getContent(), content -> {
+            if (content instanceof Xml.Tag && isDiagnosticRef(acc, pkg, (Xml.Tag) content)) {
+                return null;
+            }
+            return content;
+        }));
+    }
+
+    private static boolean isDiagnosticRef(Accumulator acc, String pkg, Xml.Tag tag) {
+        return "interceptor-ref".equals(tag.getName()) && isDiagnostic(acc, pkg, TagUtils.getAttribute(tag, "name", ""));
+    }
+
+    /**
+     * Whether an interceptor name refers to a diagnostic interceptor in a package, as declared by the package or the
+     * closest of its parents that declares it, or else by {@code struts-default}.
+     */
+    private static boolean isDiagnostic(Accumulator acc, String pkg, String name) {
+        Boolean declared = declaredDiagnostic(acc, pkg, name, new HashSet<>());
+        return declared == null ? DIAGNOSTIC_INTERCEPTORS.contains(name) : declared;
+    }
+
+    private static @Nullable Boolean declaredDiagnostic(Accumulator acc, String pkg, String name, Set<String> visited) {
+        PackageDefinition definition = packageDefinition(acc, pkg);
+        if (definition == null || !visited.add(pkg)) {
+            return null;
+        }
+        if (definition.getInterceptors().containsKey(name)) {
+            return definition.getInterceptors().get(name);
+        }
+        for (String parent : definition.getParents()) {
+            Boolean declared = declaredDiagnostic(acc, parent, name, visited);
+            if (declared != null) {
+                return declared;
+            }
+        }
+        return null;
+    }
+
+    private static @Nullable PackageDefinition packageDefinition(Accumulator acc, String pkg) {
+        PackageDefinition definition = acc.getPackages().get(pkg);
+        return definition == null && STRUTS_DEFAULT.equals(pkg) ? STRUTS_DEFAULT_PACKAGE : definition;
+    }
+
+    private static List<String> interceptorRefs(Xml.Tag tag) {
+        List<String> refs = new ArrayList<>();
+        for (Xml.Tag ref : tag.getChildren("interceptor-ref")) {
+            refs.add(TagUtils.getAttribute(ref, "name", ""));
+        }
+        return refs;
+    }
+
+    private static @Nullable String findDefaultInterceptorRef(Accumulator acc, String pkg, Set<String> visited) {
+        PackageDefinition definition = packageDefinition(acc, pkg);
+        if (definition == null || !visited.add(pkg)) {
+            return null;
+        }
+        if (!definition.getDefaultInterceptorRef().isEmpty()) {
+            return definition.getDefaultInterceptorRef();
+        }
+        for (String parent : definition.getParents()) {
+            String ref = findDefaultInterceptorRef(acc, parent, visited);
+            if (ref != null) {
+                return ref;
+            }
+        }
+        return null;
+    }
+
+    private static void collectDiagnosticInterceptors(Accumulator acc, String pkg, String ref, String via,
+                                                      Map<String, String> found, Set<String> visited) {
+        if (isDiagnostic(acc, pkg, ref)) {
+            found.putIfAbsent(ref, via);
+            return;
+        }
+        if (!visited.add(ref)) {
+            return;
+        }
+        List<String> stack = findStack(acc, pkg, ref, new HashSet<>());
+        if (stack != null) {
+            for (String stackRef : stack) {
+                collectDiagnosticInterceptors(acc, pkg, stackRef, ref, found, visited);
+            }
+        }
+    }
+
+    private static @Nullable List<String> findStack(Accumulator acc, String pkg, String name, Set<String> visited) {
+        PackageDefinition definition = packageDefinition(acc, pkg);
+        if (definition == null || !visited.add(pkg)) {
+            return null;
+        }
+        if (definition.getStacks().containsKey(name)) {
+            return definition.getStacks().get(name);
+        }
+        for (String parent : definition.getParents()) {
+            List<String> stack = findStack(acc, parent, name, visited);
+            if (stack != null) {
+                return stack;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.struts.internal.TagUtils;
+import org.openrewrite.java.struts.search.FindStrutsXml;
+import org.openrewrite.java.struts.table.ChainedActions;
+import org.openrewrite.xml.XPathMatcher;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Replace {@code chain} results by the result of the chained action, when the chained action does nothing but
+ * forward to that result.
+ * <p>
+ * A chain result runs the chained action, including its complete interceptor stack, within the same request. When the
+ * chained action has no class of its own (or is a plain {@code ActionSupport}), no method and no interceptor
+ * references, and its package does not inherit a {@code <default-class-ref>} or a default interceptor stack other than
+ * {@code defaultStack}, it always ends in its {@code success} result. The chain result is then replaced by a copy of that
+ * result, following chains of such actions transitively, so a view result stays a direct dispatch and a
+ * {@code redirectAction} result stays a redirect. All other chain results are kept and reported with the depth of the
+ * chain they start.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class ReplaceChainResults extends ScanningRecipe<ReplaceChainResults.Accumulator> {
+
+    private static final String DEFAULT_STACK = "defaultStack";
+
+    private static final Set<String> PLAIN_ACTION_CLASSES = new HashSet<>(asList(
+            "com.opensymphony.xwork2.ActionSupport", "org.apache.struts2.ActionSupport"));
+
+    private static final XPathMatcher PACKAGE_MATCHER = new XPathMatcher("/struts/package");
+    private static final XPathMatcher RESULT_MATCHER = new XPathMatcher("/struts/package/action/result");
+
+    transient ChainedActions table = new ChainedActions(this);
+
+    String displayName = "Replace `chain` results of actions that only forward to a result";
+
+    String description = "A `chain` result runs a second action, including its interceptor stack, within the same " +
+            "request. Chain results targeting an action without class, method or interceptors of its own are replaced " +
+            "by that action's `success` result. Chains that cannot be removed safely are reported with their depth.";
+
+    @Value
+    public static class Accumulator {
+        // Namespace to the actions declared in it, by name
+        Map<String, Map<String, ActionDefinition>> actions = new HashMap<>();
+
+        // Result types implemented by ActionChainResult
+        Set<String> chainResultTypes = new HashSet<>(Collections.singletonList("chain"));
+
+        // Result types declared as the default of a package
+        Set<String> defaultResultTypes = new HashSet<>();
+
+        // Package name to its definition, across all Struts XML files
+        Map<String, PackageDefinition> packages = new HashMap<>();
+
+        @Nullable
+        ActionDefinition findAction(String namespace, String name) {
+            Map<String, ActionDefinition> inNamespace = actions.get(namespace);
+            if (inNamespace != null && inNamespace.containsKey(name)) {
+                return inNamespace.get(name);
+            }
+            // Like the action mapper, fall back to the default namespace
+            inNamespace = actions.get("");
+            return inNamespace == null ? null : inNamespace.get(name);
+        }
+    }
+
+    @Value
+    public static class ActionDefinition {
+        String pkg;
+        String namespace;
+        Xml.Tag action;
+    }
+
+    @Value
+    public static class PackageDefinition {
+        List<String> parents;
+        String defaultClassRef;
+        String defaultInterceptorRef;
+    }
+
+    @Value
+    private static class ChainTarget {
+        String namespace;
+        String actionName;
+
+        @Nullable
+        String method;
+    }
+
+    @Value
+    private static class Resolution {
+        Xml.@Nullable Tag result;
+        String type;
+        String reason;
+
+        static Resolution replaceWith(Xml.Tag result, String type) {
+            return new Resolution(result, type, "");
+        }
+
+        static Resolution keep(String reason) {
+            return new Resolution(null, "", reason);
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return Preconditions.check(new FindStrutsXml(), new XmlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                if (!PACKAGE_MATCHER.matches(getCursor())) {
+                    return super.visitTag(tag, ctx);
+                }
+                String pkg = TagUtils.getAttribute(tag, "name", "");
+                String namespace = TagUtils.getAttribute(tag, "namespace", "");
+                List<String> parents = new ArrayList<>();
+                for (String parent : TagUtils.getAttribute(tag, "extends", "").split(",")) {
+                    if (!parent.trim().isEmpty()) {
+                        parents.add(parent.trim());
+                    }
+                }
+                acc.getPackages().put(pkg, new PackageDefinition(parents,
+                        tag.getChild("default-class-ref").map(ref -> TagUtils.getAttribute(ref, "class", "")).orElse(""),
+                        tag.getChild("default-interceptor-ref").map(ref -> TagUtils.getAttribute(ref, "name", "")).orElse("")));
+                for (Xml.Tag resultTypes : tag.getChildren("result-types")) {
+                    for (Xml.Tag resultType : resultTypes.getChildren("result-type")) {
+                        String name = TagUtils.getAttribute(resultType, "name", "");
+                        if (TagUtils.getAttribute(resultType, "class", "").endsWith(".ActionChainResult")) {
+                            acc.getChainResultTypes().add(name);
+                        }
+                        if ("true".equals(TagUtils.getAttribute(resultType, "default", ""))) {
+                            acc.getDefaultResultTypes().add(name);
+                        }
+                    }
+                }
+                for (Xml.Tag action : tag.getChildren("action")) {
+                    acc.getActions().computeIfAbsent(namespace, n -> new HashMap<>())
+                            .put(TagUtils.getAttribute(action, "name", ""), new ActionDefinition(pkg, namespace, action));
+                }
+                return tag;
+            }
+        });
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return Preconditions.check(new FindStrutsXml(), new XmlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                Xml.Tag t = super.visitTag(tag, ctx);
+                if (!RESULT_MATCHER.matches(getCursor()) || !isChain(acc, t)) {
+                    return t;
+                }
+
+                Cursor actionCursor = getCursor().getParentTreeCursor();
+                Xml.Tag action = actionCursor.getValue();
+                Xml.Tag pkg = actionCursor.getParentTreeCursor().getValue();
+                String namespace = TagUtils.getAttribute(pkg, "namespace", "");
+
+                Resolution resolution = resolve(acc, namespace, namespace, t, new HashSet<>());
+                if (resolution.getResult() != null) {
+                    return TagUtils.withAttributeValue(t, "type", resolution.getType())
+                            .withContent(resolution.getResult().getContent());
+                }
+
+                ChainTarget target = chainTarget(t, namespace);
+                table.insertRow(ctx, new ChainedActions.Row(
+                        getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
+                        TagUtils.getAttribute(pkg, "name", ""),
+                        TagUtils.getAttribute(action, "name", ""),
+                        TagUtils.getAttribute(t, "name", "success"),
+                        target.getNamespace(),
+                        target.getActionName(),
+                        chainDepth(acc, namespace, t, new HashSet<>()),
+                        resolution.getReason()));
+                return t;
+            }
+        });
+    }
+
+    private static Resolution resolve(Accumulator acc, String originNamespace, String namespace, Xml.Tag chainResult,
+                                      Set<String> visited) {
+        ChainTarget target = chainTarget(chainResult, namespace);
+        String name = target.getActionName();
+        if (name.isEmpty() || name.contains("$") || name.contains("{") || name.contains("*")) {
+            return Resolution.keep("The chained action name is dynamic");
+        }
+        if (target.getMethod() != null) {
+            return Resolution.keep("The chain result invokes method " + target.getMethod());
+        }
+
+        ActionDefinition definition = acc.findAction(target.getNamespace(), name);
+        if (definition == null) {
+            return Resolution.keep("The chained action is not defined in the sources");
+        }
+        if (!visited.add(definition.getNamespace() + "/" + name)) {
+            return Resolution.keep("The chain is cyclic");
+        }
+
+        Xml.Tag action = definition.getAction();
+        String className = TagUtils.getAttribute(action, "class", "");
+        if (!className.isEmpty() && !PLAIN_ACTION_CLASSES.contains(className)) {
+            return Resolution.keep("The chained action has class " + className);
+        }
+        if (!TagUtils.getAttribute(action, "method", "").isEmpty()) {
+            return Resolution.keep("The chained action invokes method " + TagUtils.getAttribute(action, "method", ""));
+        }
+        if (action.getChild("interceptor-ref").isPresent()) {
+            return Resolution.keep("The chained action declares its own interceptors");
+        }
+        if (className.isEmpty()) {
+            String defaultClassRef = findPackageDefault(acc, definition.getPkg(), PackageDefinition::getDefaultClassRef, new HashSet<>());
+            if (defaultClassRef != null && !PLAIN_ACTION_CLASSES.contains(defaultClassRef)) {
+                return Resolution.keep("The package of the chained action has default class " + defaultClassRef);
+            }
+        }
+        String defaultInterceptorRef = findPackageDefault(acc, definition.getPkg(), PackageDefinition::getDefaultInterceptorRef, new HashSet<>());
+        if (defaultInterceptorRef != null && !DEFAULT_STACK.equals(defaultInterceptorRef)) {
+            return Resolution.keep("The package of the chained action runs interceptor stack " + defaultInterceptorRef);
+        }
+
+        Xml.Tag success = null;
+        for (Xml.Tag result : action.getChildren("result")) {
+            if ("success".equals(TagUtils.getAttribute(result, "name", "success"))) {
+                success = result;
+            }
+        }
+        if (success == null || success.getContent() == null || success.getContent().isEmpty()) {
+            return Resolution.keep("The chained action has no success result");
+        }
+
+        String type = TagUtils.getAttribute(success, "type", "");
+        if (type.isEmpty()) {
+            if (!acc.getDefaultResultTypes().isEmpty()) {
+                return Resolution.keep("The default result type is customized");
+            }
+            type = "dispatcher";
+        }
+        if (acc.getChainResultTypes().contains(type)) {
+            return resolve(acc, originNamespace, definition.getNamespace(), success, visited);
+        }
+
+        // Locations and action names without a leading slash are resolved against the current namespace
+        if (!originNamespace.equals(definition.getNamespace()) &&
+            (!location(success).startsWith("/") || type.startsWith("redirectAction"))) {
+            return Resolution.keep("The result of the chained action is relative to namespace " + definition.getNamespace());
+        }
+        return Resolution.replaceWith(success, type);
+    }
+
+    /**
+     * @return The first non-empty default of the package or of the packages it extends, or null when there is none.
+     */
+    private static @Nullable String findPackageDefault(Accumulator acc, String pkg, Function<PackageDefinition, String> defaultOf,
+                                                       Set<String> visited) {
+        PackageDefinition definition = acc.getPackages().get(pkg);
+        if (definition == null || !visited.add(pkg)) {
+            return null;
+        }
+        if (!defaultOf.apply(definition).isEmpty()) {
+            return defaultOf.apply(definition);
+        }
+        for (String parent : definition.getParents()) {
+            String value = findPackageDefault(acc, parent, defaultOf, visited);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static int chainDepth(Accumulator acc, String namespace, Xml.Tag chainResult, Set<String> visited) {
+        ChainTarget target = chainTarget(chainResult, namespace);
+        ActionDefinition definition = acc.findAction(target.getNamespace(), target.getActionName());
+        if (definition == null || !visited.add(definition.getNamespace() + "/" + target.getActionName())) {
+            return 1;
+        }
+        int depth = 0;
+        for (Xml.Tag result : definition.getAction().getChildren("result")) {
+            if (isChain(acc, result)) {
+                depth = Math.max(depth, chainDepth(acc, definition.getNamespace(), result, visited));
+            }
+        }
+        return 1 + depth;
+    }
+
+    private static boolean isChain(Accumulator acc, Xml.Tag result) {
+        return acc.getChainResultTypes().contains(TagUtils.getAttribute(result, "type", ""));
+    }
+
+    private static ChainTarget chainTarget(Xml.Tag chainResult, String namespace) {
+        String actionName = null;
+        String targetNamespace = namespace;
+        String method = null;
+        for (Xml.Tag param : chainResult.getChildren("param")) {
+            String value = param.getValue().map(String::trim).orElse("");
+            switch (TagUtils.getAttribute(param, "name", "")) {
+                case "actionName":
+                    actionName = value;
+                    break;
+                case "namespace":
+                    targetNamespace = value;
+                    break;
+                case "method":
+                    method = value;
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (actionName == null) {
+            actionName = chainResult.getValue().map(String::trim).orElse("");
+        }
+        return new ChainTarget(targetNamespace, actionName, method);
+    }
+
+    private static String location(Xml.Tag result) {
+        for (Xml.Tag param : result.getChildren("param")) {
+            if ("location".equals(TagUtils.getAttribute(param, "name", ""))) {
+                return param.getValue().map(String::trim).orElse("");
+            }
+        }
+        return result.getValue().map(String::trim).orElse("");
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.marker.JavaSourceSet;
+import org.openrewrite.java.struts.internal.Projects;
+import org.openrewrite.java.struts.internal.StrutsConstants;
+import org.openrewrite.java.struts.internal.TagUtils;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.properties.PropertiesIsoVisitor;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.*;
+
+/**
+ * Restrict the packages the Convention plugin scans for actions at startup to the packages that actually contain them.
+ * <p>
+ * Without {@code struts.convention.action.packages} and {@code struts.convention.package.locators.basePackage}, the
+ * Convention plugin inspects every class on the classpath, including those of the parent class loader, to find
+ * actions. The packages of the classes annotated with Convention annotations, and of the concrete {@code *Action}
+ * classes that the package locators already find, are collected from the sources and configured in {@code struts.xml}.
+ * Other {@code *Action} classes are left out, as they are mapped in XML and listing them would create new actions.
+ * <p>
+ * The base package is only set when every located action package has the same root package before its locator
+ * segment, which is where the Convention plugin starts looking for them. Constants that are already configured are
+ * left untouched. Every project is configured on its own, and only when the Convention plugin is on its classpath or
+ * its classes use Convention annotations.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class RestrictConventionPluginScanning extends ScanningRecipe<RestrictConventionPluginScanning.Accumulator> {
+
+    private static final String ACTION_PACKAGES = "struts.convention.action.packages";
+    private static final String EXCLUDE_PARENT_CLASS_LOADER = "struts.convention.exclude.parentClassLoader";
+    private static final String BASE_PACKAGE = "struts.convention.package.locators.basePackage";
+    private static final String LOCATORS = "struts.convention.package.locators";
+
+    private static final String DEFAULT_LOCATORS = "action,actions,struts,struts2";
+
+    private static final String CONVENTION_ANNOTATIONS = "org.apache.struts2.convention.annotation.";
+    private static final String CONVENTION_PLUGIN = "org.apache.struts:struts2-convention-plugin:";
+
+    String displayName = "Restrict Convention plugin scanning to action packages";
+
+    String description = "Configures `struts.convention.action.packages`, `struts.convention.package.locators.basePackage` " +
+            "and `struts.convention.exclude.parentClassLoader` from the packages that contain Convention annotated " +
+            "classes and `*Action` classes found by the package locators, so the Convention plugin no longer scans " +
+            "the whole classpath at startup.";
+
+    @Value
+    public static class Accumulator {
+        // Project name to its Struts application
+        Map<String, Application> applications = new HashMap<>();
+
+        Application application(SourceFile sourceFile) {
+            return applications.computeIfAbsent(Projects.name(sourceFile), p -> new Application());
+        }
+    }
+
+    @Data
+    public static class Application {
+        // Packages that contain classes annotated with Convention annotations
+        final Set<String> annotatedPackages = new TreeSet<>();
+
+        // Packages that contain concrete *Action classes, only actions when a package locator finds them
+        final Set<String> actionClassPackages = new TreeSet<>();
+
+        // Struts constants configured in XML or properties files
+        final Set<String> configuredConstants = new HashSet<>();
+
+        boolean conventionPluginUsed;
+
+        // The Struts XML file new constants are added to
+        @Nullable
+        String configFile;
+
+        // The configured package locators, if not the default ones
+        @Nullable
+        String locators;
+
+        Set<String> getActionPackages() {
+            Set<String> actionPackages = new TreeSet<>(annotatedPackages);
+            for (String pkg : actionClassPackages) {
+                if (locatorIndex(pkg, locators()) >= 0) {
+                    actionPackages.add(pkg);
+                }
+            }
+            return actionPackages;
+        }
+
+        /**
+         * @return The root package that all located action packages share before their locator segment, or an empty
+         * string when they do not share one.
+         */
+        String getBasePackage() {
+            String basePackage = null;
+            for (String pkg : getActionPackages()) {
+                int locator = locatorIndex(pkg, locators());
+                if (locator < 0) {
+                    continue;
+                }
+                String root = String.join(".", Arrays.asList(pkg.split("\\.")).subList(0, locator));
+                if (basePackage == null) {
+                    basePackage = root;
+                } else if (!basePackage.equals(root)) {
+                    return "";
+                }
+            }
+            return basePackage == null ? "" : basePackage;
+        }
+
+        private Set<String> locators() {
+            Set<String> names = new HashSet<>();
+            for (String locator : (locators == null ? DEFAULT_LOCATORS : locators).split(",")) {
+                if (!locator.trim().isEmpty()) {
+                    names.add(locator.trim());
+                }
+            }
+            return names;
+        }
+    }
+
+    /**
+     * @return The index of the first segment of the package that is a package locator, or -1.
+     */
+    private static int locatorIndex(String pkg, Set<String> locators) {
+        String[] segments = pkg.split("\\.");
+        for (int i = 0; i < segments.length; i++) {
+            if (locators.contains(segments[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                SourceFile sourceFile = (SourceFile) tree;
+                Application application = acc.application(sourceFile);
+                String sourcePath = sourceFile.getSourcePath().toString().replace('\\', '/');
+                sourceFile.getMarkers().findFirst(JavaSourceSet.class).ifPresent(sourceSet -> {
+                    for (String gav : sourceSet.getGavToTypes().keySet()) {
+                        if (gav.startsWith(CONVENTION_PLUGIN)) {
+                            application.setConventionPluginUsed(true);
+                        }
+                    }
+                });
+                if (tree instanceof J.CompilationUnit) {
+                    if (!sourcePath.contains("src/test/")) {
+                        scanActionPackage(application, (J.CompilationUnit) tree);
+                    }
+                } else if (tree instanceof Xml.Document && "struts".equals(((Xml.Document) tree).getRoot().getName())) {
+                    if (application.getConfigFile() == null || sourcePath.endsWith("struts.xml")) {
+                        application.setConfigFile(sourceFile.getSourcePath().toString());
+                    }
+                    for (Xml.Tag constant : ((Xml.Document) tree).getRoot().getChildren("constant")) {
+                        String name = TagUtils.getAttribute(constant, "name", "").trim();
+                        application.getConfiguredConstants().add(name);
+                        if (LOCATORS.equals(name)) {
+                            application.setLocators(TagUtils.getAttribute(constant, "value", ""));
+                        }
+                    }
+                } else if (tree instanceof Properties.File && sourcePath.endsWith("struts.properties")) {
+                    new PropertiesIsoVisitor<ExecutionContext>() {
+                        @Override
+                        public Properties.Entry visitEntry(Properties.Entry entry, ExecutionContext ctx) {
+                            application.getConfiguredConstants().add(entry.getKey());
+                            if (LOCATORS.equals(entry.getKey())) {
+                                application.setLocators(entry.getValue().getText());
+                            }
+                            return entry;
+                        }
+                    }.visit(tree, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static void scanActionPackage(Application application, J.CompilationUnit cu) {
+        if (cu.getPackageDeclaration() == null) {
+            return;
+        }
+        String packageName = cu.getPackageDeclaration().getPackageName();
+
+        for (JavaType type : cu.getTypesInUse().getTypesInUse()) {
+            JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+            if (fq != null && fq.getFullyQualifiedName().startsWith(CONVENTION_ANNOTATIONS)) {
+                application.setConventionPluginUsed(true);
+                application.getAnnotatedPackages().add(packageName);
+                return;
+            }
+        }
+
+        for (J.ClassDeclaration classDecl : cu.getClasses()) {
+            if (classDecl.getKind() == J.ClassDeclaration.Kind.Type.Class &&
+                !classDecl.hasModifier(J.Modifier.Type.Abstract) &&
+                classDecl.getSimpleName().endsWith("Action")) {
+                application.getActionClassPackages().add(packageName);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new XmlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                Application application = acc.getApplications().get(Projects.name(document));
+                if (application == null || !application.isConventionPluginUsed() ||
+                    !document.getSourcePath().toString().equals(application.getConfigFile())) {
+                    return document;
+                }
+                Set<String> actionPackages = application.getActionPackages();
+                if (actionPackages.isEmpty()) {
+                    return document;
+                }
+                String basePackage = application.getBasePackage();
+                Xml.Tag struts = document.getRoot();
+                if (!application.getConfiguredConstants().contains(ACTION_PACKAGES)) {
+                    doAfterVisit(StrutsConstants.addConstant(struts, ACTION_PACKAGES,
+                            String.join(",", actionPackages)));
+                }
+                if (!basePackage.isEmpty() && !application.getConfiguredConstants().contains(BASE_PACKAGE)) {
+                    doAfterVisit(StrutsConstants.addConstant(struts, BASE_PACKAGE, basePackage));
+                }
+                if (!application.getConfiguredConstants().contains(EXCLUDE_PARENT_CLASS_LOADER)) {
+                    doAfterVisit(StrutsConstants.addConstant(struts, EXCLUDE_PARENT_CLASS_LOADER, "true"));
+                }
+                return document;
+            }
+        };
+    }
+}
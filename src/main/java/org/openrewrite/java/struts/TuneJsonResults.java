@@ -0,0 +1,437 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.struts.internal.TagUtils;
+import org.openrewrite.java.struts.table.JsonResultTuning;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.xml.AddToTagVisitor;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.*;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+/**
+ * Tune the results of the JSON plugin, which serialize every getter of the action uncompressed by default.
+ * <p>
+ * {@code enableGZIP} is added to {@code type="json"} results in Struts XML files and {@code @Result(type = "json")}
+ * annotations. {@code excludeNullProperties} changes the response for clients that check for null properties, so it
+ * is only added when enabled by the option, and otherwise reported in the data table. When the action class is in the sources and the result does not
+ * narrow what is serialized yet, an {@code includeProperties} parameter is added for the getters that expose data,
+ * leaving out getters of framework classes and injected components like services and DAOs. When the hierarchy is
+ * serialized ({@code ignoreHierarchy} is {@code false}), the action errors, action messages and field errors of
+ * {@code ActionSupport} are kept, as AJAX clients read them. An explicit {@code root} is never inferred, as it would
+ * change the shape of the response.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class TuneJsonResults extends ScanningRecipe<TuneJsonResults.Accumulator> {
+
+    private static final AnnotationMatcher RESULT = new AnnotationMatcher("@org.apache.struts2.convention.annotation.Result");
+    private static final String JSON_ANNOTATION = "org.apache.struts2.json.annotations.JSON";
+
+    private static final List<String> NARROWING_PARAMS = asList("root", "includeProperties", "excludeProperties");
+    private static final List<String> FRAMEWORK_PACKAGES = asList(
+            "com.opensymphony.xwork2.", "org.apache.struts2.", "javax.servlet.", "jakarta.servlet.", "org.springframework.");
+    private static final Set<String> FRAMEWORK_PROPERTIES = new HashSet<>(asList("actionErrors", "actionMessages", "fieldErrors"));
+    private static final List<String> COMPONENT_SUFFIXES = asList("Service", "Dao", "DAO", "Repository", "Manager", "Factory");
+
+    // Typical size of a JSON response after compression
+    private static final double GZIP_RATIO = 0.3;
+
+    @Option(displayName = "Exclude null properties",
+            description = "Also add `excludeNullProperties` to JSON results. Clients that check for properties whose " +
+                          "value is null no longer find them, so results that serialize null properties are only " +
+                          "reported unless this is enabled. Defaults to false.",
+            example = "true",
+            required = false)
+    @Nullable
+    Boolean excludeNullProperties;
+
+    transient JsonResultTuning table = new JsonResultTuning(this);
+
+    String displayName = "Tune JSON plugin results";
+
+    String description = "Adds `enableGZIP` to JSON results, and narrows what is serialized with `includeProperties` " +
+            "to the getters of the action that expose data, instead of every getter. Optionally adds " +
+            "`excludeNullProperties` as well.";
+
+    @Value
+    public static class Accumulator {
+        // Fully qualified name to the type of every class in the sources
+        Map<String, JavaType.FullyQualified> classes = new HashMap<>();
+
+        // Result types that are rendered by the JSON plugin
+        Set<String> jsonResultTypes = new HashSet<>(Collections.singletonList("json"));
+    }
+
+    @Value
+    private static class Tuning {
+        // Parameters to add to the result, in order
+        Map<String, String> params;
+        int exposedProperties;
+        int includedProperties;
+        boolean nullPropertiesSerialized;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (tree instanceof J.CompilationUnit) {
+                    new JavaIsoVisitor<ExecutionContext>() {
+                        @Override
+                        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                            if (classDecl.getType() != null) {
+                                acc.getClasses().put(classDecl.getType().getFullyQualifiedName(), classDecl.getType());
+                            }
+                            return super.visitClassDeclaration(classDecl, ctx);
+                        }
+                    }.visit(tree, ctx);
+                } else if (tree instanceof Xml.Document && "struts".equals(((Xml.Document) tree).getRoot().getName())) {
+                    for (Xml.Tag pkg : ((Xml.Document) tree).getRoot().getChildren("package")) {
+                        for (Xml.Tag resultTypes : pkg.getChildren("result-types")) {
+                            for (Xml.Tag resultType : resultTypes.getChildren("result-type")) {
+                                if ("org.apache.struts2.json.JSONResult".equals(TagUtils.getAttribute(resultType, "class", ""))) {
+                                    acc.getJsonResultTypes().add(TagUtils.getAttribute(resultType, "name", ""));
+                                }
+                            }
+                        }
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (tree instanceof Xml.Document) {
+                    return new XmlResultTuner(acc).visit(tree, ctx);
+                } else if (tree instanceof J.CompilationUnit) {
+                    return new AnnotatedResultTuner(acc).visit(tree, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private class XmlResultTuner extends XmlIsoVisitor<ExecutionContext> {
+        private final Accumulator acc;
+
+        XmlResultTuner(Accumulator acc) {
+            this.acc = acc;
+        }
+
+        @Override
+        public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+            Xml.Tag t = super.visitTag(tag, ctx);
+            if (!"result".equals(t.getName()) || !acc.getJsonResultTypes().contains(TagUtils.getAttribute(t, "type", "")) ||
+                t.getValue().map(value -> !value.trim().isEmpty()).orElse(false)) {
+                return t;
+            }
+            Object parent = getCursor().getParentTreeCursor().getValue();
+            if (!(parent instanceof Xml.Tag) || !"action".equals(((Xml.Tag) parent).getName())) {
+                return t;
+            }
+
+            Map<String, String> existing = new HashMap<>();
+            for (Xml.Tag param : t.getChildren("param")) {
+                existing.put(TagUtils.getAttribute(param, "name", ""), param.getValue().orElse("").trim());
+            }
+            String className = TagUtils.getAttribute((Xml.Tag) parent, "class", "");
+            Tuning tuning = tune(acc.getClasses().get(className), existing, Boolean.TRUE.equals(excludeNullProperties));
+            if (tuning.getParams().isEmpty()) {
+                return t;
+            }
+            for (Map.Entry<String, String> param : tuning.getParams().entrySet()) {
+                doAfterVisit(new AddToTagVisitor<>(t, Xml.Tag.build(
+                        "<param name=\"" + param.getKey() + "\">" + param.getValue() + "</param>")));
+            }
+            insertRow(getCursor().firstEnclosingOrThrow(SourceFile.class), className,
+                    TagUtils.getAttribute(t, "name", "success"), tuning, ctx);
+            return t;
+        }
+    }
+
+    private class AnnotatedResultTuner extends JavaIsoVisitor<ExecutionContext> {
+        private final Accumulator acc;
+
+        AnnotatedResultTuner(Accumulator acc) {
+            this.acc = acc;
+        }
+
+        @Override
+        public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+            J.Annotation a = super.visitAnnotation(annotation, ctx);
+            if (!RESULT.matches(a) || !acc.getJsonResultTypes().contains(annotationValue(a, "type"))) {
+                return a;
+            }
+            Expression params = annotationArgument(a, "params");
+            if (params != null && !(params instanceof J.NewArray)) {
+                return a;
+            }
+
+            List<Expression> existingParams = params == null || ((J.NewArray) params).getInitializer() == null ?
+                    emptyList() : ListUtils.map(((J.NewArray) params).getInitializer(), e -> e instanceof J.Empty ? null : e);
+            Map<String, String> existing = new HashMap<>();
+            for (int i = 0; i + 1 < existingParams.size(); i += 2) {
+                if (existingParams.get(i) instanceof J.Literal && existingParams.get(i + 1) instanceof J.Literal) {
+                    existing.put(String.valueOf(((J.Literal) existingParams.get(i)).getValue()),
+                            String.valueOf(((J.Literal) existingParams.get(i + 1)).getValue()));
+                }
+            }
+            J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+            Tuning tuning = tune(classDecl == null ? null : classDecl.getType(), existing, Boolean.TRUE.equals(excludeNullProperties));
+            if (tuning.getParams().isEmpty()) {
+                return a;
+            }
+
+            List<Expression> added = new ArrayList<>();
+            for (Map.Entry<String, String> param : tuning.getParams().entrySet()) {
+                added.add(stringLiteral(param.getKey(), existingParams.isEmpty() && added.isEmpty() ? Space.EMPTY : Space.SINGLE_SPACE));
+                added.add(stringLiteral(param.getValue(), Space.SINGLE_SPACE));
+            }
+            if (params == null) {
+                a = a.withArguments(ListUtils.concat(a.getArguments(), paramsArgument(a, added)));
+            } else {
+                List<Expression> initializer = ListUtils.concatAll(existingParams, added);
+                a = a.withArguments(ListUtils.map(a.getArguments(), arg -> arg instanceof J.Assignment &&
+                                                                          ((J.Assignment) arg).getAssignment() == params ?
+                        ((J.Assignment) arg).withAssignment(((J.NewArray) params).withInitializer(initializer)) : arg));
+            }
+            insertRow(getCursor().firstEnclosingOrThrow(SourceFile.class),
+                    classDecl == null || classDecl.getType() == null ? "" : classDecl.getType().getFullyQualifiedName(),
+                    Optional.ofNullable(annotationValue(a, "name")).orElse("success"), tuning, ctx);
+            return a;
+        }
+    }
+
+    private void insertRow(SourceFile sourceFile, String className, String result, Tuning tuning, ExecutionContext ctx) {
+        boolean compressed = tuning.getParams().containsKey("enableGZIP");
+        double remaining = tuning.getExposedProperties() == 0 ? 1.0 :
+                (double) tuning.getIncludedProperties() / tuning.getExposedProperties();
+        if (compressed) {
+            remaining *= GZIP_RATIO;
+        }
+        table.insertRow(ctx, new JsonResultTuning.Row(sourceFile.getSourcePath().toString(), className, result,
+                tuning.getExposedProperties(), tuning.getIncludedProperties(), compressed,
+                (int) Math.round(100 * (1 - remaining)), tuning.isNullPropertiesSerialized()));
+    }
+
+    private static Tuning tune(JavaType.@Nullable FullyQualified actionClass, Map<String, String> existing,
+                               boolean excludeNullProperties) {
+        Map<String, String> params = new LinkedHashMap<>();
+        if (!existing.containsKey("enableGZIP")) {
+            params.put("enableGZIP", "true");
+        }
+        if (excludeNullProperties && !existing.containsKey("excludeNullProperties")) {
+            params.put("excludeNullProperties", "true");
+        }
+        boolean nullPropertiesSerialized = !"true".equals(params.getOrDefault("excludeNullProperties",
+                existing.get("excludeNullProperties")));
+
+        Map<String, JavaType> properties = actionClass == null ? null :
+                exposedProperties(actionClass, !"false".equals(existing.get("ignoreHierarchy")));
+        if (properties == null) {
+            return new Tuning(params, 0, 0, nullPropertiesSerialized);
+        }
+        StringJoiner includeProperties = new StringJoiner(",");
+        int included = 0;
+        for (Map.Entry<String, JavaType> property : properties.entrySet()) {
+            if (property.getValue() != null) {
+                includeProperties.add(includePattern(property.getKey(), property.getValue()));
+                included++;
+            }
+        }
+        boolean narrowed = false;
+        for (String param : NARROWING_PARAMS) {
+            narrowed |= existing.containsKey(param);
+        }
+        if (narrowed || included == 0 || included == properties.size()) {
+            return new Tuning(params, properties.size(), properties.size(), nullPropertiesSerialized);
+        }
+        params.put("includeProperties", includeProperties.toString());
+        return new Tuning(params, properties.size(), included, nullPropertiesSerialized);
+    }
+
+    /**
+     * @return The properties the JSON plugin serializes, mapped to their type, or to {@code null} when the getter does
+     * not expose data. Returns {@code null} when a getter is customized with {@code @JSON}, as the serialized names are
+     * then no longer known.
+     */
+    private static @Nullable Map<String, @Nullable JavaType> exposedProperties(JavaType.FullyQualified actionClass,
+                                                                              boolean ignoreHierarchy) {
+        Map<String, @Nullable JavaType> properties = new LinkedHashMap<>();
+        for (JavaType.FullyQualified type = actionClass;
+             type != null && !"java.lang.Object".equals(type.getFullyQualifiedName());
+             type = ignoreHierarchy ? null : type.getSupertype()) {
+            boolean frameworkClass = isFrameworkType(type);
+            for (JavaType.Method method : type.getMethods()) {
+                String property = propertyName(method);
+                if (property == null || properties.containsKey(property)) {
+                    continue;
+                }
+                for (JavaType.FullyQualified annotation : method.getAnnotations()) {
+                    if (JSON_ANNOTATION.equals(annotation.getFullyQualifiedName())) {
+                        return null;
+                    }
+                }
+                if (frameworkClass) {
+                    properties.put(property, FRAMEWORK_PROPERTIES.contains(property) ? method.getReturnType() : null);
+                } else {
+                    properties.put(property, exposesData(method.getReturnType()) ? method.getReturnType() : null);
+                }
+            }
+        }
+        return properties;
+    }
+
+    private static @Nullable String propertyName(JavaType.Method method) {
+        if (!method.getFlags().contains(Flag.Public) || method.getFlags().contains(Flag.Static) ||
+            !method.getParameterTypes().isEmpty()) {
+            return null;
+        }
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            return StringUtils.uncapitalize(name.substring(3));
+        } else if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == JavaType.Primitive.Boolean) {
+            return StringUtils.uncapitalize(name.substring(2));
+        }
+        return null;
+    }
+
+    private static boolean exposesData(JavaType type) {
+        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+        if (fq == null) {
+            return true;
+        }
+        for (String suffix : COMPONENT_SUFFIXES) {
+            if (fq.getClassName().endsWith(suffix)) {
+                return false;
+            }
+        }
+        return !isFrameworkType(fq);
+    }
+
+    private static boolean isFrameworkType(JavaType.FullyQualified type) {
+        for (String prefix : FRAMEWORK_PACKAGES) {
+            if (type.getFullyQualifiedName().startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The pattern of the JSON plugin that matches the property and, for collections, arrays, maps and beans,
+     * only its elements or nested properties, rather than other properties that start with the same name.
+     */
+    private static String includePattern(String property, JavaType type) {
+        if (isScalar(type)) {
+            return property;
+        }
+        if (type instanceof JavaType.Array || TypeUtils.isAssignableTo("java.util.Collection", type)) {
+            return property + "\\[\\d+\\].*";
+        }
+        return property + "\\..*";
+    }
+
+    private static boolean isScalar(JavaType type) {
+        if (type instanceof JavaType.Primitive) {
+            return true;
+        }
+        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+        if (fq == null || type instanceof JavaType.Parameterized) {
+            return false;
+        }
+        String name = fq.getFullyQualifiedName();
+        return fq.getKind() == JavaType.FullyQualified.Kind.Enum ||
+               name.startsWith("java.lang.") && !"java.lang.Object".equals(name) ||
+               name.startsWith("java.time.") || "java.util.Date".equals(name) ||
+               "java.math.BigDecimal".equals(name) || "java.math.BigInteger".equals(name);
+    }
+
+    private static J.Assignment paramsArgument(J.Annotation annotation, List<Expression> elements) {
+        JavaType paramsType = null;
+        JavaType.FullyQualified annotationType = TypeUtils.asFullyQualified(annotation.getType());
+        if (annotationType != null) {
+            for (JavaType.Method method : annotationType.getMethods()) {
+                if ("params".equals(method.getName())) {
+                    paramsType = method.getReturnType();
+                }
+            }
+        }
+        return new J.Assignment(Tree.randomId(), Space.SINGLE_SPACE, Markers.EMPTY,
+                new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), "params", paramsType, null),
+                JLeftPadded.<Expression>build(new J.NewArray(Tree.randomId(), Space.SINGLE_SPACE, Markers.EMPTY, null,
+                        emptyList(), JContainer.build(Space.EMPTY, JRightPadded.withElements(emptyList(), elements), Markers.EMPTY),
+                        paramsType)).withBefore(Space.SINGLE_SPACE),
+                paramsType);
+    }
+
+    private static J.Literal stringLiteral(String value, Space prefix) {
+        return new J.Literal(Tree.randomId(), prefix, Markers.EMPTY, value, "\"" + value.replace("\\", "\\\\") + "\"", null,
+                JavaType.Primitive.String);
+    }
+
+    private static @Nullable Expression annotationArgument(J.Annotation annotation, String name) {
+        if (annotation.getArguments() == null) {
+            return null;
+        }
+        for (Expression argument : annotation.getArguments()) {
+            if (argument instanceof J.Assignment) {
+                J.Assignment assignment = (J.Assignment) argument;
+                if (assignment.getVariable() instanceof J.Identifier &&
+                    name.equals(((J.Identifier) assignment.getVariable()).getSimpleName())) {
+                    return assignment.getAssignment();
+                }
+            } else if ("value".equals(name) && !(argument instanceof J.Empty)) {
+                return argument;
+            }
+        }
+        return null;
+    }
+
+    private static @Nullable String annotationValue(J.Annotation annotation, String name) {
+        Expression value = annotationArgument(annotation, name);
+        if (value instanceof J.Literal && ((J.Literal) value).getValue() instanceof String) {
+            return (String) ((J.Literal) value).getValue();
+        }
+        return null;
+    }
+}
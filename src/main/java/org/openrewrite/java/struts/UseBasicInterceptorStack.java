@@ -0,0 +1,439 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.struts.internal.TagUtils;
+import org.openrewrite.java.struts.search.FindStrutsXml;
+import org.openrewrite.java.struts.table.TrimmedInterceptorStacks;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.text.PlainText;
+import org.openrewrite.xml.AddToTagVisitor;
+import org.openrewrite.xml.XPathMatcher;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Content;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Move actions that cannot make use of validation, file upload, model driven or chaining support from the
+ * {@code defaultStack} to the much shorter {@code basicStack}.
+ * <p>
+ * An action is only moved when all of the following hold:
+ * <ul>
+ *   <li>Its package extends {@code struts-default} directly and declares no {@code <default-interceptor-ref>}.</li>
+ *   <li>It declares no {@code <interceptor-ref>} or {@code <param>} of its own, as the {@code staticParams} and
+ *       {@code alias} interceptors that apply them are not part of the {@code basicStack}.</li>
+ *   <li>Its class is part of the sources, declares (or inherits) no {@code validate*()} method, no validation
+ *       annotations, no {@code File} properties and no setters of other types than {@code String}, and is not
+ *       {@code ModelDriven}. The {@code basicStack} keeps {@code conversionError} but not {@code workflow}, so a
+ *       conversion or validation error would no longer send the action to its {@code input} result.</li>
+ *   <li>No {@code -validation.xml} file exists for its class, and no {@code chain} result targets it.</li>
+ *   <li>Its package does not switch the locale with a {@code request_locale} parameter, which only the {@code i18n}
+ *       interceptor handles: neither in its Struts XML, nor in a template that one of its results renders. The action
+ *       receiving the parameter cannot be told from a link, so a template that no result renders, like a welcome page
+ *       or an included fragment, keeps every package on the {@code defaultStack}.</li>
+ * </ul>
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class UseBasicInterceptorStack extends ScanningRecipe<UseBasicInterceptorStack.Accumulator> {
+
+    // As declared in struts-default.xml
+    private static final List<String> DEFAULT_STACK = asList(
+            "exception", "alias", "servletConfig", "i18n", "prepare", "chain", "scopedModelDriven", "modelDriven",
+            "fileUpload", "checkbox", "datetime", "multiselect", "staticParams", "actionMappingParams", "params",
+            "conversionError", "validation", "workflow", "debugging");
+    private static final List<String> BASIC_STACK = asList(
+            "exception", "servletConfig", "prepare", "checkbox", "datetime", "multiselect", "actionMappingParams",
+            "params", "conversionError");
+
+    private static final Pattern VALIDATION_FILE = Pattern.compile("(?:^|[/\\\\])([A-Za-z_$][A-Za-z0-9_$]*)(-[^/\\\\]+)?-validation\\.xml$");
+    private static final XPathMatcher CHAIN_RESULT = new XPathMatcher("//action/result");
+    private static final XPathMatcher PACKAGE = new XPathMatcher("/struts/package");
+    private static final XPathMatcher ACTION_RESULT = new XPathMatcher("/struts/package/action/result");
+    private static final XPathMatcher GLOBAL_RESULT = new XPathMatcher("/struts/package/global-results/result");
+    private static final Pattern LOCALE_PARAMETER = Pattern.compile("request_(?:only_|cookie_)?locale");
+    private static final List<String> TEMPLATE_EXTENSIONS = asList(".jsp", ".jspf", ".ftl", ".vm", ".html");
+
+    transient TrimmedInterceptorStacks table = new TrimmedInterceptorStacks(this);
+
+    String displayName = "Use `basicStack` for actions without validation or file upload";
+
+    String description = "Every action in a package extending `struts-default` runs the full `defaultStack`, including " +
+            "the validation, workflow, file upload and model driven interceptors. Actions that declare no `validate()` " +
+            "method, have no `-validation.xml` file and only `String` properties are moved to the `basicStack` instead, " +
+            "unless their package switches locales with `request_locale`, which needs the `i18n` interceptor.";
+
+    @Value
+    public static class Accumulator {
+        // Fully qualified names of all classes declared in the sources
+        Set<String> declaredClasses = new HashSet<>();
+
+        // Classes that rely on an interceptor missing from basicStack
+        Set<String> requireDefaultStack = new HashSet<>();
+
+        // Simple class names for which a -validation.xml file exists
+        Set<String> validatedClassNames = new HashSet<>();
+
+        // Names of actions that are the target of a chain result
+        Set<String> chainTargets = new HashSet<>();
+
+        // Package names to the locations of the results of their actions
+        Map<String, Set<String>> resultLocations = new HashMap<>();
+
+        // Names of packages whose Struts XML switches the locale through a request parameter
+        Set<String> localeSwitchingPackages = new HashSet<>();
+
+        // Source paths of the templates that switch the locale through a request parameter
+        Set<String> localeSwitchingTemplates = new HashSet<>();
+
+        // Whether a Struts XML file switches the locale outside of any package
+        AtomicBoolean localeSwitchingEverywhere = new AtomicBoolean();
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    Matcher matcher = VALIDATION_FILE.matcher(((SourceFile) tree).getSourcePath().toString());
+                    if (matcher.find()) {
+                        acc.getValidatedClassNames().add(matcher.group(1));
+                    }
+                }
+                if (tree instanceof J.CompilationUnit) {
+                    new ActionClassScanner(acc).visit(tree, ctx);
+                } else if (tree instanceof Xml.Document) {
+                    Xml.Document doc = (Xml.Document) tree;
+                    new StrutsXmlScanner(acc).visit(doc, ctx);
+                    if ("struts".equals(doc.getRoot().getName())) {
+                        if (LOCALE_PARAMETER.matcher(doc.printAll()).find() &&
+                            !hasLocaleSwitchingPackage(acc, doc)) {
+                            acc.getLocaleSwitchingEverywhere().set(true);
+                        }
+                    } else if (isTemplate(doc) && LOCALE_PARAMETER.matcher(doc.printAll()).find()) {
+                        acc.getLocaleSwitchingTemplates().add(doc.getSourcePath().toString().replace('\\', '/'));
+                    }
+                } else if (tree instanceof PlainText && isTemplate((PlainText) tree) &&
+                           LOCALE_PARAMETER.matcher(((PlainText) tree).getText()).find()) {
+                    acc.getLocaleSwitchingTemplates().add(((PlainText) tree).getSourcePath().toString().replace('\\', '/'));
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static boolean hasLocaleSwitchingPackage(Accumulator acc, Xml.Document doc) {
+        for (Xml.Tag pkg : doc.getRoot().getChildren("package")) {
+            if (acc.getLocaleSwitchingPackages().contains(TagUtils.getAttribute(pkg, "name", ""))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isTemplate(SourceFile sourceFile) {
+        String sourcePath = sourceFile.getSourcePath().toString();
+        for (String extension : TEMPLATE_EXTENSIONS) {
+            if (sourcePath.endsWith(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class ActionClassScanner extends JavaIsoVisitor<ExecutionContext> {
+        private final Accumulator acc;
+
+        ActionClassScanner(Accumulator acc) {
+            this.acc = acc;
+        }
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            JavaType.FullyQualified type = classDecl.getType();
+            if (type != null) {
+                acc.getDeclaredClasses().add(type.getFullyQualifiedName());
+                if (requiresDefaultStack(type)) {
+                    acc.getRequireDefaultStack().add(type.getFullyQualifiedName());
+                }
+            }
+            return super.visitClassDeclaration(classDecl, ctx);
+        }
+
+        @Override
+        public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+            if (type != null && (type.getPackageName().startsWith("com.opensymphony.xwork2.validator.annotations") ||
+                                 type.getPackageName().startsWith("org.apache.struts2.validator.annotations"))) {
+                J.ClassDeclaration enclosing = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                if (enclosing != null && enclosing.getType() != null) {
+                    acc.getRequireDefaultStack().add(enclosing.getType().getFullyQualifiedName());
+                }
+            }
+            return annotation;
+        }
+
+        private static boolean requiresDefaultStack(JavaType.FullyQualified type) {
+            if (TypeUtils.isAssignableTo("com.opensymphony.xwork2.ModelDriven", type) ||
+                TypeUtils.isAssignableTo("org.apache.struts2.ModelDriven", type) ||
+                TypeUtils.isAssignableTo("com.opensymphony.xwork2.interceptor.ScopedModelDriven", type) ||
+                TypeUtils.isAssignableTo("org.apache.struts2.interceptor.ScopedModelDriven", type) ||
+                TypeUtils.isAssignableTo("org.apache.struts2.action.UploadedFilesAware", type)) {
+                return true;
+            }
+            for (JavaType.FullyQualified t = type; t != null && !isFrameworkType(t); t = t.getSupertype()) {
+                for (JavaType.Method method : t.getMethods()) {
+                    if (method.getName().startsWith("validate")) {
+                        return true;
+                    }
+                    if (method.getName().startsWith("set")) {
+                        for (JavaType parameterType : method.getParameterTypes()) {
+                            if (isUploadType(parameterType)) {
+                                return true;
+                            }
+                        }
+                        // Request parameters are converted to the type of the setter, which may fail
+                        if (method.getParameterTypes().size() == 1 && !isStringType(method.getParameterTypes().get(0)) &&
+                            !isFrameworkSetter(type, method.getName())) {
+                            return true;
+                        }
+                    }
+                }
+                for (JavaType.Variable member : t.getMembers()) {
+                    if (isUploadType(member.getType())) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private static boolean isFrameworkType(JavaType.FullyQualified type) {
+            String fqn = type.getFullyQualifiedName();
+            return fqn.startsWith("java.") ||
+                   fqn.startsWith("com.opensymphony.xwork2.") ||
+                   fqn.startsWith("org.apache.struts2.");
+        }
+
+        private static boolean isStringType(JavaType type) {
+            return TypeUtils.isString(type) ||
+                   type instanceof JavaType.Array && TypeUtils.isString(((JavaType.Array) type).getElemType());
+        }
+
+        /**
+         * Whether the setter implements a framework interface, like {@code setServletRequest} of
+         * {@code ServletRequestAware}, which is called by an interceptor rather than with a request parameter.
+         */
+        private static boolean isFrameworkSetter(JavaType.FullyQualified type, String name) {
+            for (JavaType.FullyQualified t = type; t != null; t = t.getSupertype()) {
+                for (JavaType.FullyQualified i : t.getInterfaces()) {
+                    if (isFrameworkType(i) && declares(i, name)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private static boolean declares(JavaType.FullyQualified type, String name) {
+            for (JavaType.Method method : type.getMethods()) {
+                if (method.getName().equals(name)) {
+                    return true;
+                }
+            }
+            for (JavaType.FullyQualified i : type.getInterfaces()) {
+                if (declares(i, name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isUploadType(@Nullable JavaType type) {
+            if (type instanceof JavaType.Array) {
+                return isUploadType(((JavaType.Array) type).getElemType());
+            }
+            if (type instanceof JavaType.Parameterized) {
+                for (JavaType typeParameter : ((JavaType.Parameterized) type).getTypeParameters()) {
+                    if (isUploadType(typeParameter)) {
+                        return true;
+                    }
+                }
+            }
+            return TypeUtils.isOfClassType(type, "java.io.File") ||
+                   TypeUtils.isAssignableTo("org.apache.struts2.dispatcher.multipart.UploadedFile", type);
+        }
+    }
+
+    private static class StrutsXmlScanner extends XmlIsoVisitor<ExecutionContext> {
+        private final Accumulator acc;
+
+        StrutsXmlScanner(Accumulator acc) {
+            this.acc = acc;
+        }
+
+        @Override
+        public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+            Xml.Tag t = super.visitTag(tag, ctx);
+            if (PACKAGE.matches(getCursor()) && LOCALE_PARAMETER.matcher(t.print(getCursor().getParentOrThrow())).find()) {
+                acc.getLocaleSwitchingPackages().add(TagUtils.getAttribute(t, "name", ""));
+            }
+            if (ACTION_RESULT.matches(getCursor()) || GLOBAL_RESULT.matches(getCursor())) {
+                Xml.Tag pkg = getCursor().getParentTreeCursor().getParentTreeCursor().getValue();
+                String location = resultLocation(t);
+                if (location != null) {
+                    acc.getResultLocations().computeIfAbsent(TagUtils.getAttribute(pkg, "name", ""), k -> new HashSet<>())
+                            .add(location);
+                }
+            }
+            if (CHAIN_RESULT.matches(getCursor()) && "chain".equals(TagUtils.getAttribute(t, "type", ""))) {
+                String target = null;
+                for (Xml.Tag param : t.getChildren("param")) {
+                    if ("actionName".equals(TagUtils.getAttribute(param, "name", ""))) {
+                        target = param.getValue().orElse(null);
+                    }
+                }
+                if (target == null) {
+                    target = t.getValue().orElse(null);
+                }
+                if (target != null) {
+                    acc.getChainTargets().add(target.trim());
+                }
+            }
+            return t;
+        }
+    }
+
+    private static @Nullable String resultLocation(Xml.Tag result) {
+        String location = null;
+        for (Xml.Tag param : result.getChildren("param")) {
+            if ("location".equals(TagUtils.getAttribute(param, "name", ""))) {
+                location = param.getValue().orElse(null);
+            }
+        }
+        if (location == null) {
+            location = result.getValue().orElse(null);
+        }
+        if (location == null || location.trim().isEmpty()) {
+            return null;
+        }
+        location = location.trim();
+        return location.startsWith("/") ? location.substring(1) : location;
+    }
+
+    /**
+     * @return The names of the packages that switch the locale, or {@code null} when any package may.
+     */
+    private static @Nullable Set<String> localeSwitchingPackages(Accumulator acc) {
+        if (acc.getLocaleSwitchingEverywhere().get()) {
+            return null;
+        }
+        Set<String> packages = new HashSet<>(acc.getLocaleSwitchingPackages());
+        for (String template : acc.getLocaleSwitchingTemplates()) {
+            boolean rendered = false;
+            for (Map.Entry<String, Set<String>> pkg : acc.getResultLocations().entrySet()) {
+                for (String location : pkg.getValue()) {
+                    if (template.equals(location) || template.endsWith("/" + location)) {
+                        packages.add(pkg.getKey());
+                        rendered = true;
+                    }
+                }
+            }
+            if (!rendered) {
+                return null;
+            }
+        }
+        return packages;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        Set<String> localeSwitchingPackages = localeSwitchingPackages(acc);
+        if (localeSwitchingPackages == null) {
+            return TreeVisitor.noop();
+        }
+        return Preconditions.check(new FindStrutsXml(), new XmlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                Xml.Tag t = super.visitTag(tag, ctx);
+                String pkg = TagUtils.getAttribute(t, "name", "");
+                if (!"package".equals(t.getName()) || t.getContent() == null ||
+                    !"struts-default".equals(TagUtils.getAttribute(t, "extends", "")) ||
+                    t.getChild("default-interceptor-ref").isPresent() || localeSwitchingPackages.contains(pkg)) {
+                    return t;
+                }
+
+                for (Xml.Tag action : t.getChildren("action")) {
+                    String className = TagUtils.getAttribute(action, "class", "");
+                    if (canUseBasicStack(acc, action, className)) {
+                        doAfterVisit(new AddToTagVisitor<>(action,
+                                Xml.Tag.build("<interceptor-ref name=\"basicStack\"/>"),
+                                (c1, c2) -> Integer.compare(rank(c1), rank(c2))));
+
+                        List<String> removed = new ArrayList<>(DEFAULT_STACK);
+                        removed.removeAll(BASIC_STACK);
+                        table.insertRow(ctx, new TrimmedInterceptorStacks.Row(
+                                getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
+                                pkg,
+                                TagUtils.getAttribute(action, "name", ""),
+                                className,
+                                "defaultStack",
+                                "basicStack",
+                                removed.size(),
+                                String.join(", ", removed)));
+                    }
+                }
+                return t;
+            }
+        });
+    }
+
+    private static boolean canUseBasicStack(Accumulator acc, Xml.Tag action, String className) {
+        if (className.isEmpty() || className.contains("{") ||
+            !acc.getDeclaredClasses().contains(className) ||
+            acc.getRequireDefaultStack().contains(className) ||
+            acc.getValidatedClassNames().contains(className.substring(className.lastIndexOf('.') + 1)) ||
+            acc.getChainTargets().contains(TagUtils.getAttribute(action, "name", ""))) {
+            return false;
+        }
+        return !action.getChild("interceptor-ref").isPresent() && !action.getChild("param").isPresent();
+    }
+
+    // Keep <allowed-methods> as the last child of an action, as required by the DTD
+    private static int rank(Content content) {
+        return content instanceof Xml.Tag && "allowed-methods".equals(((Xml.Tag) content).getName()) ? 1 : 0;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.struts.internal.Projects;
+import org.openrewrite.java.struts.internal.StrutsConstants;
+import org.openrewrite.java.struts.internal.TagUtils;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.properties.PropertiesIsoVisitor;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.xml.XPathMatcher;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.*;
+
+/**
+ * Use the {@code global-only} localized text provider when the project keeps all its messages in global bundles.
+ * <p>
+ * The default {@code StrutsLocalizedTextProvider} looks up every {@code getText()} call in the bundles of the action's
+ * class hierarchy, its interfaces, its model and its packages before it falls back to the global bundles configured
+ * through {@code struts.custom.i18n.resources}. When no properties file in the sources is named after a class of the
+ * sources or is a {@code package} bundle, only the global bundles can ever match, and the lookup is restricted to them.
+ * Each project of a multi-module repository is configured on its own, but bundles are looked up across all projects, as
+ * a bundle of a library module is found on the classpath of the web applications that depend on it.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class UseGlobalLocalizedTextProvider extends ScanningRecipe<UseGlobalLocalizedTextProvider.Accumulator> {
+
+    private static final String TEXT_PROVIDER = "struts.localizedTextProvider";
+    private static final String CUSTOM_RESOURCES = "struts.custom.i18n.resources";
+    private static final String DEFAULT_BUNDLES_FIRST = "struts.i18n.search.defaultbundles.first";
+
+    private static final XPathMatcher CONSTANT_MATCHER = new XPathMatcher("/struts/constant");
+
+    String displayName = "Use the global-only localized text provider";
+
+    String description = "Sets `struts.localizedTextProvider` to `global-only` when messages are only kept in the " +
+            "global bundles of `struts.custom.i18n.resources`, so that `getText()` no longer searches the class " +
+            "hierarchy, interfaces, model and package bundles of the action. Also disables " +
+            "`struts.i18n.search.defaultbundles.first`, which has no use without those bundles.";
+
+    @Value
+    public static class Accumulator {
+        // Project name to its Struts application
+        Map<String, Application> applications = new HashMap<>();
+
+        // Class names of the sources of all projects as paths, like com/example/LoginAction
+        Set<String> classPaths = new HashSet<>();
+
+        // Properties files of the sources of all projects, relative to their source directory and without extension
+        Set<String> bundles = new HashSet<>();
+
+        Application application(SourceFile sourceFile) {
+            return applications.computeIfAbsent(Projects.name(sourceFile), p -> new Application());
+        }
+
+        boolean usesGlobalBundlesOnly(Application application) {
+            return application.getConfigFile() != null &&
+                   application.getConfiguredConstants().contains(CUSTOM_RESOURCES) &&
+                   !hasClassOrPackageBundles();
+        }
+
+        boolean hasClassOrPackageBundles() {
+            for (String bundle : bundles) {
+                for (String candidate = bundle; ; candidate = candidate.substring(0, candidate.lastIndexOf('_'))) {
+                    String name = candidate.substring(candidate.lastIndexOf('/') + 1);
+                    if ("package".equals(name) || classPaths.contains(candidate)) {
+                        return true;
+                    }
+                    // Strip locale suffixes like _en or _en_US
+                    if (name.indexOf('_') <= 0) {
+                        break;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    @Data
+    public static class Application {
+        // Struts constants configured in XML or properties files
+        final Set<String> configuredConstants = new HashSet<>();
+
+        // The Struts XML file new constants are added to
+        @Nullable
+        String configFile;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                SourceFile sourceFile = (SourceFile) tree;
+                Application application = acc.application(sourceFile);
+                String sourcePath = sourceFile.getSourcePath().toString().replace('\\', '/');
+                if (tree instanceof J.CompilationUnit) {
+                    for (J.ClassDeclaration classDecl : ((J.CompilationUnit) tree).getClasses()) {
+                        JavaType.FullyQualified type = classDecl.getType();
+                        if (type != null) {
+                            acc.getClassPaths().add(type.getFullyQualifiedName().replace('.', '/'));
+                        }
+                    }
+                } else if (tree instanceof Xml.Document && "struts".equals(((Xml.Document) tree).getRoot().getName())) {
+                    if (application.getConfigFile() == null || sourcePath.endsWith("struts.xml")) {
+                        application.setConfigFile(sourceFile.getSourcePath().toString());
+                    }
+                    for (Xml.Tag constant : ((Xml.Document) tree).getRoot().getChildren("constant")) {
+                        application.getConfiguredConstants().add(TagUtils.getAttribute(constant, "name", "").trim());
+                    }
+                } else if (sourcePath.endsWith(".properties")) {
+                    if (tree instanceof Properties.File && sourcePath.endsWith("struts.properties")) {
+                        new PropertiesIsoVisitor<ExecutionContext>() {
+                            @Override
+                            public Properties.Entry visitEntry(Properties.Entry entry, ExecutionContext ctx) {
+                                application.getConfiguredConstants().add(entry.getKey());
+                                return entry;
+                            }
+                        }.visit(tree, ctx);
+                    }
+                    acc.getBundles().add(bundleName(sourcePath));
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static String bundleName(String sourcePath) {
+        String bundle = sourcePath.substring(0, sourcePath.length() - ".properties".length());
+        for (String sourceDirectory : Arrays.asList("src/main/resources/", "src/main/java/")) {
+            int index = bundle.indexOf(sourceDirectory);
+            if (index >= 0) {
+                return bundle.substring(index + sourceDirectory.length());
+            }
+        }
+        return bundle;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new XmlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                Application application = acc.application(document);
+                if (!acc.usesGlobalBundlesOnly(application)) {
+                    return document;
+                }
+                Xml.Document doc = super.visitDocument(document, ctx);
+                if (doc.getSourcePath().toString().equals(application.getConfigFile()) &&
+                    !application.getConfiguredConstants().contains(TEXT_PROVIDER)) {
+                    doAfterVisit(StrutsConstants.addConstant(doc.getRoot(), TEXT_PROVIDER, "global-only"));
+                }
+                return doc;
+            }
+
+            @Override
+            public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                Xml.Tag t = super.visitTag(tag, ctx);
+                if (CONSTANT_MATCHER.matches(getCursor()) &&
+                    DEFAULT_BUNDLES_FIRST.equals(TagUtils.getAttribute(t, "name", "").trim())) {
+                    return TagUtils.withAttributeValue(t, "value", "false");
+                }
+                return t;
+            }
+        };
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.struts.internal.StrutsConstants;
+import org.openrewrite.java.struts.internal.TagUtils;
+import org.openrewrite.java.struts.table.SimpleThemeForms;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.text.PlainText;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Render forms that make no use of the layout of the {@code xhtml} theme with the {@code simple} theme.
+ * <p>
+ * The {@code xhtml} theme wraps every form field in a table row, rendering a control header (with the label, required
+ * marker and tooltip), the field and a control footer (with the field errors), each from its own FreeMarker template.
+ * A form is only switched when none of its fields declares a label, key, tooltip or required marker, it does not use
+ * client side validation, and its body contains no table rows or cells of its own. As the {@code simple} theme renders
+ * no field errors, projects with server side validation ({@code -validation.xml} files, {@code validate()} methods or
+ * validation annotations) only have the forms of templates switched that render {@code <s:fielderror>} themselves.
+ * When every form of the project can be switched and no field is used outside a form, {@code struts.ui.theme} is set
+ * to {@code simple} in {@code struts.xml} instead of changing each form.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class UseSimpleThemeForForms extends ScanningRecipe<UseSimpleThemeForForms.Accumulator> {
+
+    private static final String UI_THEME = "struts.ui.theme";
+
+    // Templates rendered by the xhtml theme on top of those of the simple theme
+    private static final int FIELD_RENDERS_SAVED = 3;
+    private static final int BUTTON_RENDERS_SAVED = 2;
+    private static final int FORM_RENDERS_SAVED = 2;
+
+    private static final Set<String> FIELDS = new HashSet<>(asList(
+            "textfield", "password", "textarea", "select", "checkbox", "checkboxlist", "radio", "file", "combobox",
+            "doubleselect", "optiontransferselect", "updownselect", "inputtransferselect", "label", "datetextfield"));
+    private static final Set<String> BUTTONS = new HashSet<>(asList("submit", "reset"));
+
+    // Opening, closing and self-closing Struts tags in JSP (<s:form>) and FreeMarker (<@s.form>) templates
+    // Group 1: "/" for a closing tag
+    // Group 2: the tag prefix
+    // Group 3: the tag name
+    // Group 4: the attributes
+    private static final Pattern TAG_PATTERN = Pattern.compile("<(/?)(s:|@s\\.)([a-zA-Z]+)\\b([^>]*?)/?>");
+    private static final Pattern XHTML_ATTRIBUTE_PATTERN = Pattern.compile(
+            "\\b(label|key|tooltip\\w*|labelposition|labelPosition|required\\w*|labelSeparator)\\s*=");
+    private static final Pattern THEME_ATTRIBUTE_PATTERN = Pattern.compile("\\btheme\\s*=");
+    private static final Pattern VALIDATE_ATTRIBUTE_PATTERN = Pattern.compile("\\bvalidate\\s*=\\s*[\"']?true");
+    private static final Pattern TABLE_LAYOUT_PATTERN = Pattern.compile("<t[rdh][\\s>]", Pattern.CASE_INSENSITIVE);
+    private static final Pattern FIELD_ERROR_PATTERN = Pattern.compile("<(s:|@s\\.)fielderror\\b");
+
+    private static final String[] VALIDATION_ANNOTATIONS = {
+            "com.opensymphony.xwork2.validator.annotations.",
+            "org.apache.struts2.validator.annotations."
+    };
+
+    transient SimpleThemeForms table = new SimpleThemeForms(this);
+
+    String displayName = "Use the `simple` theme for forms without `xhtml` layout";
+
+    String description = "Sets `theme=\"simple\"` on `<s:form>` tags whose fields declare no labels, tooltips or " +
+            "required markers, avoiding the control header and footer templates the `xhtml` theme renders for every " +
+            "field, or sets `struts.ui.theme` to `simple` when this holds for every form of the project. With server " +
+            "side validation, only forms of templates that render `<s:fielderror>` themselves are switched.";
+
+    @Data
+    public static class Accumulator {
+        int candidateForms;
+        int simpleForms;
+        boolean fieldsOutsideForms;
+        boolean themeConfigured;
+
+        // Simple forms of templates that render field errors with their own tags
+        int simpleFormsWithFieldErrors;
+
+        // Whether any action is validated on the server, whose field errors the xhtml theme renders
+        boolean serverSideValidation;
+
+        // The Struts XML file new constants are added to
+        @Nullable
+        String configFile;
+
+        boolean isGlobalThemeSafe() {
+            return configFile != null && !themeConfigured && !fieldsOutsideForms &&
+                   candidateForms > 0 && candidateForms == (serverSideValidation ? simpleFormsWithFieldErrors : simpleForms);
+        }
+    }
+
+    @Value
+    private static class Form {
+        // Offset in the template right after the tag name of the form
+        int tagNameEnd;
+        boolean candidate;
+        boolean simple;
+        int fields;
+        int rendersSaved;
+    }
+
+    @Value
+    private static class TemplateForms {
+        List<Form> forms;
+        boolean fieldsOutsideForms;
+        boolean rendersFieldErrors;
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (tree instanceof PlainText && isTemplate((PlainText) tree)) {
+                    TemplateForms templateForms = analyze(((PlainText) tree).getText());
+                    for (Form form : templateForms.getForms()) {
+                        if (form.isCandidate()) {
+                            acc.setCandidateForms(acc.getCandidateForms() + 1);
+                            if (form.isSimple()) {
+                                acc.setSimpleForms(acc.getSimpleForms() + 1);
+                                if (templateForms.isRendersFieldErrors()) {
+                                    acc.setSimpleFormsWithFieldErrors(acc.getSimpleFormsWithFieldErrors() + 1);
+                                }
+                            }
+                        }
+                    }
+                    acc.setFieldsOutsideForms(acc.isFieldsOutsideForms() || templateForms.isFieldsOutsideForms());
+                } else if (tree instanceof J.CompilationUnit) {
+                    if (isValidated((J.CompilationUnit) tree)) {
+                        acc.setServerSideValidation(true);
+                    }
+                } else if (tree instanceof SourceFile && ((SourceFile) tree).getSourcePath().toString().endsWith("-validation.xml")) {
+                    acc.setServerSideValidation(true);
+                } else if (tree instanceof Xml.Document && "struts".equals(((Xml.Document) tree).getRoot().getName())) {
+                    String sourcePath = ((Xml.Document) tree).getSourcePath().toString();
+                    if (acc.getConfigFile() == null || sourcePath.endsWith("struts.xml")) {
+                        acc.setConfigFile(sourcePath);
+                    }
+                    for (Xml.Tag constant : ((Xml.Document) tree).getRoot().getChildren("constant")) {
+                        if (UI_THEME.equals(TagUtils.getAttribute(constant, "name", "").trim())) {
+                            acc.setThemeConfigured(true);
+                        }
+                    }
+                } else if (tree instanceof SourceFile &&
+                           ((SourceFile) tree).getSourcePath().toString().endsWith("struts.properties") &&
+                           ((SourceFile) tree).printAll().contains(UI_THEME)) {
+                    acc.setThemeConfigured(true);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static boolean isValidated(J.CompilationUnit cu) {
+        for (JavaType type : cu.getTypesInUse().getTypesInUse()) {
+            JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+            if (fq != null) {
+                for (String prefix : VALIDATION_ANNOTATIONS) {
+                    if (fq.getFullyQualifiedName().startsWith(prefix)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        for (J.ClassDeclaration classDecl : cu.getClasses()) {
+            if (classDecl.getType() != null) {
+                for (JavaType.Method method : classDecl.getType().getMethods()) {
+                    // validate(), and the validate<Method>() methods of the validation interceptor
+                    if (method.getName().startsWith("validate") && method.getParameterTypes().isEmpty()) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        boolean globalTheme = acc.isGlobalThemeSafe();
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (tree instanceof PlainText && isTemplate((PlainText) tree)) {
+                    return switchForms((PlainText) tree, globalTheme, acc.isServerSideValidation(), ctx);
+                } else if (globalTheme && tree instanceof Xml.Document &&
+                           ((Xml.Document) tree).getSourcePath().toString().equals(acc.getConfigFile())) {
+                    doAfterVisit(StrutsConstants.addConstant(((Xml.Document) tree).getRoot(), UI_THEME, "simple"));
+                }
+                return tree;
+            }
+        };
+    }
+
+    private PlainText switchForms(PlainText template, boolean globalTheme, boolean serverSideValidation, ExecutionContext ctx) {
+        String content = template.getText();
+        StringBuilder switched = null;
+        int copiedTo = 0;
+        int forms = 0;
+        int fields = 0;
+        int rendersSaved = 0;
+        TemplateForms templateForms = analyze(content);
+        if (serverSideValidation && !templateForms.isRendersFieldErrors()) {
+            return template;
+        }
+        for (Form form : templateForms.getForms()) {
+            if (!form.isCandidate() || !form.isSimple()) {
+                continue;
+            }
+            forms++;
+            fields += form.getFields();
+            rendersSaved += form.getRendersSaved();
+            if (!globalTheme) {
+                if (switched == null) {
+                    switched = new StringBuilder(content.length() + 16);
+                }
+                switched.append(content, copiedTo, form.getTagNameEnd()).append(" theme=\"simple\"");
+                copiedTo = form.getTagNameEnd();
+            }
+        }
+        if (forms == 0) {
+            return template;
+        }
+        table.insertRow(ctx, new SimpleThemeForms.Row(template.getSourcePath().toString(), forms, fields, rendersSaved));
+        return switched == null ? template : template.withText(switched.append(content, copiedTo, content.length()).toString());
+    }
+
+    private static boolean isTemplate(PlainText text) {
+        String sourcePath = text.getSourcePath().toString();
+        return sourcePath.endsWith(".jsp") || sourcePath.endsWith(".ftl");
+    }
+
+    private static TemplateForms analyze(String content) {
+        List<Form> forms = new ArrayList<>();
+        if (!content.contains("s:form") && !content.contains("s.form")) {
+            return new TemplateForms(forms, false, false);
+        }
+
+        boolean fieldsOutsideForms = false;
+        int formStart = -1;
+        int bodyStart = -1;
+        int tagNameEnd = -1;
+        boolean candidate = false;
+        boolean simple = false;
+        int fields = 0;
+        int rendersSaved = 0;
+
+        Matcher matcher = TAG_PATTERN.matcher(content);
+        while (matcher.find()) {
+            boolean closing = !matcher.group(1).isEmpty();
+            String name = matcher.group(3);
+            String attributes = matcher.group(4);
+
+            if ("form".equals(name)) {
+                if (!closing && formStart < 0) {
+                    formStart = matcher.start();
+                    bodyStart = matcher.end();
+                    tagNameEnd = matcher.start(3) + name.length();
+                    candidate = !THEME_ATTRIBUTE_PATTERN.matcher(attributes).find();
+                    simple = !VALIDATE_ATTRIBUTE_PATTERN.matcher(attributes).find();
+                    fields = 0;
+                    rendersSaved = FORM_RENDERS_SAVED;
+                } else if (closing && formStart >= 0) {
+                    if (TABLE_LAYOUT_PATTERN.matcher(content.substring(bodyStart, matcher.start())).find()) {
+                        simple = false;
+                    }
+                    forms.add(new Form(tagNameEnd, candidate, simple, fields, rendersSaved));
+                    formStart = -1;
+                }
+            } else if (!closing && (FIELDS.contains(name) || BUTTONS.contains(name))) {
+                if (formStart < 0) {
+                    fieldsOutsideForms = true;
+                    continue;
+                }
+                fields++;
+                rendersSaved += FIELDS.contains(name) ? FIELD_RENDERS_SAVED : BUTTON_RENDERS_SAVED;
+                if (XHTML_ATTRIBUTE_PATTERN.matcher(attributes).find()) {
+                    simple = false;
+                }
+            }
+        }
+        return new TemplateForms(forms, fieldsOutsideForms, FIELD_ERROR_PATTERN.matcher(content).find());
+    }
+}
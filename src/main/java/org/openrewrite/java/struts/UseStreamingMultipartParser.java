@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.struts.internal.Projects;
+import org.openrewrite.java.struts.internal.StrutsConstants;
+import org.openrewrite.java.struts.internal.TagUtils;
+import org.openrewrite.java.struts.table.MultipartUploadActions;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.properties.PropertiesIsoVisitor;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.xml.XPathMatcher;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.*;
+
+/**
+ * Switch the multipart parser from {@code jakarta}, which buffers every part in a {@code DiskFileItem} before the
+ * action runs, to {@code jakarta-stream}.
+ * <p>
+ * The parser is only switched when at least one class receives a file through the {@code File} setters of the file
+ * upload interceptor, and no class depends on the buffered parser or on Commons FileUpload directly. The classes that
+ * do are reported, so they can be changed by hand. Each project of a multi-module repository is decided on its own, and
+ * the parser is also switched where {@code struts.properties} configures it.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class UseStreamingMultipartParser extends ScanningRecipe<UseStreamingMultipartParser.Accumulator> {
+
+    private static final String PARSER = "struts.multipart.parser";
+    private static final String MAX_SIZE = "struts.multipart.maxSize";
+    private static final String MAX_FILES = "struts.multipart.maxFiles";
+
+    private static final long DEFAULT_MAX_SIZE = 10485760L;
+    private static final int DEFAULT_MAX_FILES = 10;
+
+    private static final String[] BUFFERED_PARSER_TYPES = {
+            "org.apache.struts2.dispatcher.multipart.JakartaMultiPartRequest",
+            "org.apache.commons.fileupload.",
+            "org.apache.commons.fileupload2."
+    };
+
+    private static final XPathMatcher CONSTANT_MATCHER = new XPathMatcher("/struts/constant");
+
+    @Option(displayName = "Maximum size",
+            description = "The maximum size in bytes of a multipart request, set as `struts.multipart.maxSize` when not configured yet. Defaults to 10485760 (10 MB).",
+            example = "10485760",
+            required = false)
+    @Nullable
+    Long maxSize;
+
+    @Option(displayName = "Maximum files",
+            description = "The maximum number of files in a multipart request, set as `struts.multipart.maxFiles` when not configured yet. Defaults to 10.",
+            example = "10",
+            required = false)
+    @Nullable
+    Integer maxFiles;
+
+    transient MultipartUploadActions table = new MultipartUploadActions(this);
+
+    String displayName = "Use the streaming multipart parser";
+
+    String description = "Switches `struts.multipart.parser` from `jakarta` to `jakarta-stream` when all upload actions only " +
+            "use the `File`, content type and file name setters, avoiding a `DiskFileItem` buffer and temporary file per part. " +
+            "Classes that depend on the buffered parser are reported instead.";
+
+    @Value
+    public static class Accumulator {
+        // Project name to its Struts application
+        Map<String, Application> applications = new HashMap<>();
+
+        // Source path to the upload classes found in it, to report them when the source file is visited
+        Map<String, List<MultipartUploadActions.Row>> uploadClasses = new HashMap<>();
+
+        Application application(SourceFile sourceFile) {
+            return applications.computeIfAbsent(Projects.name(sourceFile), p -> new Application());
+        }
+    }
+
+    @Data
+    public static class Application {
+        // The upload classes of the project
+        final List<MultipartUploadActions.Row> uploadClasses = new ArrayList<>();
+
+        // Struts constants configured in XML or properties files, by name
+        final Map<String, String> constants = new HashMap<>();
+
+        // The Struts XML file new constants are added to
+        @Nullable
+        String configFile;
+
+        boolean isCompatible() {
+            for (MultipartUploadActions.Row row : uploadClasses) {
+                if (!row.isStreamParserCompatible()) {
+                    return false;
+                }
+            }
+            return !uploadClasses.isEmpty();
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (tree instanceof J.CompilationUnit) {
+                    scanUploadClasses(acc, (J.CompilationUnit) tree);
+                } else if (tree instanceof Xml.Document && "struts".equals(((Xml.Document) tree).getRoot().getName())) {
+                    Xml.Document doc = (Xml.Document) tree;
+                    Application application = acc.application(doc);
+                    String sourcePath = doc.getSourcePath().toString();
+                    if (application.getConfigFile() == null || sourcePath.endsWith("struts.xml")) {
+                        application.setConfigFile(sourcePath);
+                    }
+                    for (Xml.Tag constant : doc.getRoot().getChildren("constant")) {
+                        application.getConstants().put(TagUtils.getAttribute(constant, "name", ""), TagUtils.getAttribute(constant, "value", ""));
+                    }
+                } else if (tree instanceof Properties.File && isStrutsProperties((Properties.File) tree)) {
+                    Application application = acc.application((Properties.File) tree);
+                    new PropertiesIsoVisitor<ExecutionContext>() {
+                        @Override
+                        public Properties.Entry visitEntry(Properties.Entry entry, ExecutionContext ctx) {
+                            application.getConstants().put(entry.getKey(), entry.getValue().getText());
+                            return entry;
+                        }
+                    }.visit(tree, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static void scanUploadClasses(Accumulator acc, J.CompilationUnit cu) {
+        String sourcePath = cu.getSourcePath().toString();
+        List<MultipartUploadActions.Row> rows = new ArrayList<>();
+
+        String bufferedParserType = null;
+        for (JavaType type : cu.getTypesInUse().getTypesInUse()) {
+            JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+            if (fq != null) {
+                for (String prefix : BUFFERED_PARSER_TYPES) {
+                    if (fq.getFullyQualifiedName().startsWith(prefix)) {
+                        bufferedParserType = fq.getFullyQualifiedName();
+                    }
+                }
+            }
+        }
+
+        new JavaIsoVisitor<List<MultipartUploadActions.Row>>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, List<MultipartUploadActions.Row> found) {
+                JavaType.FullyQualified type = classDecl.getType();
+                if (type != null) {
+                    for (JavaType.Method method : type.getMethods()) {
+                        if (method.getName().startsWith("set") && method.getParameterTypes().size() == 1 &&
+                            isFileType(method.getParameterTypes().get(0))) {
+                            found.add(new MultipartUploadActions.Row(sourcePath, type.getFullyQualifiedName(),
+                                    StringUtils.uncapitalize(method.getName().substring(3)), true, ""));
+                        }
+                    }
+                }
+                return super.visitClassDeclaration(classDecl, found);
+            }
+        }.visit(cu, rows);
+
+        if (bufferedParserType != null) {
+            String className = cu.getClasses().isEmpty() || cu.getClasses().get(0).getType() == null ?
+                    "" : cu.getClasses().get(0).getType().getFullyQualifiedName();
+            rows.add(new MultipartUploadActions.Row(sourcePath, className, "", false,
+                    "Uses `" + bufferedParserType + "`, which depends on the buffered `jakarta` parser"));
+        }
+
+        if (!rows.isEmpty()) {
+            acc.getUploadClasses().put(sourcePath, rows);
+            acc.application(cu).getUploadClasses().addAll(rows);
+        }
+    }
+
+    private static boolean isStrutsProperties(Properties.File file) {
+        return "struts.properties".equals(String.valueOf(file.getSourcePath().getFileName()));
+    }
+
+    private static boolean isFileType(@Nullable JavaType type) {
+        if (type instanceof JavaType.Array) {
+            return isFileType(((JavaType.Array) type).getElemType());
+        }
+        if (type instanceof JavaType.Parameterized && ((JavaType.Parameterized) type).getTypeParameters().size() == 1) {
+            return isFileType(((JavaType.Parameterized) type).getTypeParameters().get(0));
+        }
+        return TypeUtils.isOfClassType(type, "java.io.File");
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (tree instanceof J.CompilationUnit) {
+                    List<MultipartUploadActions.Row> rows = acc.getUploadClasses().get(((J.CompilationUnit) tree).getSourcePath().toString());
+                    if (rows != null) {
+                        for (MultipartUploadActions.Row row : rows) {
+                            table.insertRow(ctx, row);
+                        }
+                    }
+                } else if (tree instanceof Xml.Document && acc.application((Xml.Document) tree).isCompatible()) {
+                    return new ParserConfigurer(acc.application((Xml.Document) tree)).visit(tree, ctx);
+                } else if (tree instanceof Properties.File && isStrutsProperties((Properties.File) tree) &&
+                           acc.application((Properties.File) tree).isCompatible()) {
+                    return new PropertiesIsoVisitor<ExecutionContext>() {
+                        @Override
+                        public Properties.Entry visitEntry(Properties.Entry entry, ExecutionContext ctx) {
+                            if (PARSER.equals(entry.getKey()) && "jakarta".equals(entry.getValue().getText().trim())) {
+                                return entry.withValue(entry.getValue().withText("jakarta-stream"));
+                            }
+                            return entry;
+                        }
+                    }.visit(tree, ctx);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private class ParserConfigurer extends XmlIsoVisitor<ExecutionContext> {
+        private final Application application;
+
+        ParserConfigurer(Application application) {
+            this.application = application;
+        }
+
+        @Override
+        public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+            Xml.Document doc = super.visitDocument(document, ctx);
+            if (doc.getSourcePath().toString().equals(application.getConfigFile())) {
+                Xml.Tag struts = doc.getRoot();
+                if (!application.getConstants().containsKey(PARSER)) {
+                    doAfterVisit(StrutsConstants.addConstant(struts, PARSER, "jakarta-stream"));
+                }
+                if (!application.getConstants().containsKey(MAX_SIZE)) {
+                    doAfterVisit(StrutsConstants.addConstant(struts, MAX_SIZE,
+                            Long.toString(maxSize == null ? DEFAULT_MAX_SIZE : maxSize)));
+                }
+                if (!application.getConstants().containsKey(MAX_FILES)) {
+                    doAfterVisit(StrutsConstants.addConstant(struts, MAX_FILES,
+                            Integer.toString(maxFiles == null ? DEFAULT_MAX_FILES : maxFiles)));
+                }
+            }
+            return doc;
+        }
+
+        @Override
+        public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+            Xml.Tag t = super.visitTag(tag, ctx);
+            if (CONSTANT_MATCHER.matches(getCursor()) && PARSER.equals(TagUtils.getAttribute(t, "name", "")) &&
+                "jakarta".equals(TagUtils.getAttribute(t, "value", ""))) {
+                return TagUtils.withAttributeValue(t, "value", "jakarta-stream");
+            }
+            return t;
+        }
+    }
+}
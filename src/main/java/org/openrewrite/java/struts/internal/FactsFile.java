@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.internal;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A compact binary file of scan facts, each fact a record of strings that only the recipe that wrote it interprets.
+ */
+public class FactsFile {
+    private static final int FORMAT_VERSION = 1;
+
+    private FactsFile() {
+    }
+
+    /**
+     * @return the records of the file, or {@code null} when it was written in another format
+     */
+    public static @Nullable List<String[]> read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            int size = in.readInt();
+            List<String[]> records = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String[] record = new String[in.readUnsignedByte()];
+                for (int j = 0; j < record.length; j++) {
+                    record[j] = in.readUTF();
+                }
+                records.add(record);
+            }
+            return records;
+        }
+    }
+
+    /**
+     * Writes the records next to the file and then moves them in place, so that other runs sharing the directory
+     * never read a partially written file.
+     */
+    public static void write(Path file, List<String[]> records) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(records.size());
+                for (String[] record : records) {
+                    out.writeByte(record.length);
+                    for (String value : record) {
+                        out.writeUTF(value);
+                    }
+                }
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.internal;
+
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.marker.JavaProject;
+
+public class Projects {
+    private Projects() {
+    }
+
+    /**
+     * @return The name of the project of the source file, or an empty name for source files outside of a project, so
+     * that recipes which configure a Struts application keep the configuration of each module apart.
+     */
+    public static String name(SourceFile sourceFile) {
+        return sourceFile.getMarkers().findFirst(JavaProject.class).map(JavaProject::getProjectName).orElse("");
+    }
+}
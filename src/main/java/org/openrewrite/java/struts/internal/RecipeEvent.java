@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Recipe;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A Java Flight Recorder event of type {@value #NAME}, emitted around a phase of a Struts recipe on a single source
+ * file, with the source path, the number of matches and the size of the input of the phase.
+ * <p>
+ * The recipes are compiled for Java 8, so the event type is defined through {@code jdk.jfr.EventFactory} by
+ * reflection. When JFR is not available, or no recording has the event enabled, {@link #begin} returns an event that
+ * does nothing and allocates nothing.
+ */
+public final class RecipeEvent {
+    public static final String NAME = "org.openrewrite.java.struts.RecipePhase";
+
+    private static final RecipeEvent DISABLED = new RecipeEvent(null);
+
+    private static final @Nullable Object FACTORY;
+    private static final @Nullable Object EVENT_TYPE;
+    private static final @Nullable Method IS_ENABLED;
+    private static final @Nullable Method NEW_EVENT;
+    private static final @Nullable Method SET;
+    private static final @Nullable Method BEGIN;
+    private static final @Nullable Method COMMIT;
+
+    static {
+        Object factory = null;
+        Object eventType = null;
+        Method isEnabled = null;
+        Method newEvent = null;
+        Method set = null;
+        Method begin = null;
+        Method commit = null;
+        try {
+            Class<?> annotationElement = Class.forName("jdk.jfr.AnnotationElement");
+            Constructor<?> annotation = annotationElement.getConstructor(Class.class, Object.class);
+            Class<?> valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor");
+            Constructor<?> field = valueDescriptor.getConstructor(Class.class, String.class, List.class);
+
+            List<Object> annotations = new ArrayList<>();
+            annotations.add(annotation.newInstance(Class.forName("jdk.jfr.Name"), NAME));
+            annotations.add(annotation.newInstance(Class.forName("jdk.jfr.Label"), "Struts Recipe Phase"));
+            annotations.add(annotation.newInstance(Class.forName("jdk.jfr.Category"), new String[]{"OpenRewrite", "Struts"}));
+            annotations.add(annotation.newInstance(Class.forName("jdk.jfr.Description"),
+                    "A phase of a Struts recipe on a single source file."));
+
+            // The order of the fields is the index they are set by
+            List<Object> fields = new ArrayList<>();
+            fields.add(field.newInstance(String.class, "recipe", Collections.emptyList()));
+            fields.add(field.newInstance(String.class, "phase", Collections.emptyList()));
+            fields.add(field.newInstance(String.class, "sourcePath", Collections.emptyList()));
+            fields.add(field.newInstance(int.class, "matches", Collections.emptyList()));
+            fields.add(field.newInstance(long.class, "size", Collections.emptyList()));
+
+            Class<?> eventFactory = Class.forName("jdk.jfr.EventFactory");
+            factory = eventFactory.getMethod("create", List.class, List.class).invoke(null, annotations, fields);
+            eventType = eventFactory.getMethod("getEventType").invoke(factory);
+            isEnabled = eventType.getClass().getMethod("isEnabled");
+            newEvent = eventFactory.getMethod("newEvent");
+
+            Class<?> event = Class.forName("jdk.jfr.Event");
+            set = event.getMethod("set", int.class, Object.class);
+            begin = event.getMethod("begin");
+            commit = event.getMethod("commit");
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            factory = null;
+        }
+        FACTORY = factory;
+        EVENT_TYPE = eventType;
+        IS_ENABLED = isEnabled;
+        NEW_EVENT = newEvent;
+        SET = set;
+        BEGIN = begin;
+        COMMIT = commit;
+    }
+
+    private final @Nullable Object event;
+
+    private RecipeEvent(@Nullable Object event) {
+        this.event = event;
+    }
+
+    /**
+     * Starts timing a phase of a recipe on a source file.
+     *
+     * @param recipe     the recipe running the phase
+     * @param phase      a short name of the phase, such as {@code scan} or {@code edit}
+     * @param sourcePath the source file the phase runs on
+     * @return the started event, to {@link #commit} when the phase ends
+     */
+    public static RecipeEvent begin(Recipe recipe, String phase, String sourcePath) {
+        if (FACTORY == null) {
+            return DISABLED;
+        }
+        try {
+            //noinspection DataFlowIssue
+            if (!(Boolean) IS_ENABLED.invoke(EVENT_TYPE)) {
+                return DISABLED;
+            }
+            Object event = NEW_EVENT.invoke(FACTORY);
+            SET.invoke(event, 0, recipe.getName());
+            SET.invoke(event, 1, phase);
+            SET.invoke(event, 2, sourcePath);
+            BEGIN.invoke(event);
+            return new RecipeEvent(event);
+        } catch (ReflectiveOperationException e) {
+            return DISABLED;
+        }
+    }
+
+    /**
+     * Ends the phase and commits the event, if a recording has it enabled.
+     *
+     * @param matches the number of expressions, tags or actions the phase matched
+     * @param size    the size of the input of the phase, in characters or entries
+     */
+    public void commit(int matches, long size) {
+        if (event == null) {
+            return;
+        }
+        try {
+            //noinspection DataFlowIssue
+            SET.invoke(event, 3, matches);
+            SET.invoke(event, 4, size);
+            COMMIT.invoke(event);
+        } catch (ReflectiveOperationException ignored) {
+            // The recording the event was enabled for may have ended
+        }
+    }
+}
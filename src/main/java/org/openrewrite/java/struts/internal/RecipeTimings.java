@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.struts.table.StrutsRecipeTimings;
+import org.openrewrite.text.PlainText;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long a recipe spends on each source file into {@link StrutsRecipeTimings}. The visitors of a recipe are
+ * wrapped with {@link #scan} and {@link #edit}, which only take two timestamps per file, so that the timings can stay
+ * on in production runs. Visitors count their matches with {@link #matched}.
+ * <p>
+ * Only files with matches or that took at least a millisecond get a row, so that the table stays small on large
+ * repositories where most files are not of interest to most recipes. Wrap the visitor inside of any precondition, so
+ * that files the precondition rejects are not timed at all.
+ */
+public class RecipeTimings {
+    private static final String MATCHES = "org.openrewrite.java.struts.matches";
+    private static final long MIN_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private RecipeTimings() {
+    }
+
+    /**
+     * Counts a match of the source file being edited. Does nothing outside of a visitor wrapped with {@link #edit}.
+     */
+    public static void matched(ExecutionContext ctx) {
+        int[] matches = ctx.getMessage(MATCHES);
+        if (matches != null) {
+            matches[0]++;
+        }
+    }
+
+    /**
+     * Times the scanner, keeping the scan times of at least a millisecond in the map until the file is edited. The map
+     * belongs to the accumulator of the recipe, so that it does not outlive the recipe run.
+     */
+    public static TreeVisitor<?, ExecutionContext> scan(Map<Path, Long> scanTimes, TreeVisitor<?, ExecutionContext> scanner) {
+        return new TimedVisitor(scanner) {
+            @Override
+            void record(SourceFile sourceFile, long nanos, ExecutionContext ctx) {
+                if (nanos >= MIN_NANOS) {
+                    scanTimes.merge(sourceFile.getSourcePath(), nanos, Long::sum);
+                }
+            }
+        };
+    }
+
+    public static TreeVisitor<?, ExecutionContext> edit(Recipe recipe, StrutsRecipeTimings timings,
+                                                        TreeVisitor<?, ExecutionContext> visitor) {
+        return edit(recipe, timings, null, visitor);
+    }
+
+    /**
+     * Times the visitor and adds the scan time of the file recorded by {@link #scan}. The scan time of a file is
+     * removed from the map when the file is edited, or when the visitor does not accept it.
+     */
+    public static TreeVisitor<?, ExecutionContext> edit(Recipe recipe, StrutsRecipeTimings timings,
+                                                        @Nullable Map<Path, Long> scanTimes,
+                                                        TreeVisitor<?, ExecutionContext> visitor) {
+        return new TimedVisitor(visitor) {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                return scanTimes != null || super.isAcceptable(sourceFile, ctx);
+            }
+
+            @Override
+            void rejected(SourceFile sourceFile, ExecutionContext ctx) {
+                record(sourceFile, 0, ctx);
+            }
+
+            @Override
+            void record(SourceFile sourceFile, long nanos, ExecutionContext ctx) {
+                Long scanNanos = scanTimes == null ? null : scanTimes.remove(sourceFile.getSourcePath());
+                int[] matches = ctx.getMessage(MATCHES);
+                int matched = matches == null ? 0 : matches[0];
+                long totalNanos = nanos + (scanNanos == null ? 0 : scanNanos);
+                if (matched == 0 && totalNanos < MIN_NANOS) {
+                    return;
+                }
+                timings.insertRow(ctx, new StrutsRecipeTimings.Row(
+                        recipe.getName(),
+                        sourceFile.getSourcePath().toString(),
+                        scanNanos == null ? 0 : scanNanos,
+                        nanos,
+                        bytes(sourceFile),
+                        matched));
+            }
+        };
+    }
+
+    /**
+     * The size of the text of a source file, when it is known without printing it, or 0.
+     */
+    public static long bytes(SourceFile sourceFile) {
+        if (sourceFile instanceof PlainText) {
+            return ((PlainText) sourceFile).getText().length();
+        }
+        return sourceFile.getFileAttributes() == null ? 0 : sourceFile.getFileAttributes().getSize();
+    }
+
+    private abstract static class TimedVisitor extends TreeVisitor<Tree, ExecutionContext> {
+        private final TreeVisitor<?, ExecutionContext> delegate;
+
+        TimedVisitor(TreeVisitor<?, ExecutionContext> delegate) {
+            this.delegate = delegate;
+        }
+
+        abstract void record(SourceFile sourceFile, long nanos, ExecutionContext ctx);
+
+        void rejected(SourceFile sourceFile, ExecutionContext ctx) {
+        }
+
+        @Override
+        public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+            return delegate.isAcceptable(sourceFile, ctx);
+        }
+
+        @Override
+        public Tree visit(Tree tree, ExecutionContext ctx) {
+            if (!(tree instanceof SourceFile)) {
+                return delegate.visit(tree, ctx);
+            }
+            SourceFile sourceFile = (SourceFile) tree;
+            if (!delegate.isAcceptable(sourceFile, ctx)) {
+                rejected(sourceFile, ctx);
+                return tree;
+            }
+            ctx.putMessage(MATCHES, new int[1]);
+            long start = System.nanoTime();
+            try {
+                return delegate.visit(tree, ctx);
+            } finally {
+                record(sourceFile, System.nanoTime() - start, ctx);
+                ctx.pollMessage(MATCHES);
+            }
+        }
+    }
+}
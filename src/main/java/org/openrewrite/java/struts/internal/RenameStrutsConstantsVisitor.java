@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.internal;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.properties.PropertiesIsoVisitor;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.xml.XPathMatcher;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renames Struts constants wherever they can be set: {@code <constant>} elements of Struts XML files, init-params
+ * of the Struts filter in {@code web.xml}, and keys of {@code struts.properties} and of overrides of
+ * {@code org/apache/struts2/default.properties}. Every file is visited once, looking each name up in the same rename
+ * table. Recipes only apply it to projects found to use Struts by {@link #findStrutsConfiguration}, as properties
+ * files of other frameworks may use the same keys.
+ */
+public class RenameStrutsConstantsVisitor extends TreeVisitor<Tree, ExecutionContext> {
+    private static final XPathMatcher CONSTANT_MATCHER = new XPathMatcher("/struts/constant");
+    private static final XPathMatcher FILTER_PARAM_NAME_MATCHER = new XPathMatcher("/web-app/filter/init-param/param-name");
+
+    private final Map<String, String> renames;
+    private final Set<String> strutsProjects;
+
+    public RenameStrutsConstantsVisitor(Map<String, String> renames, Set<String> strutsProjects) {
+        this.renames = renames;
+        this.strutsProjects = strutsProjects;
+    }
+
+    /**
+     * Records the project of every Struts XML file and of every {@code web.xml} declaring the Struts filter.
+     */
+    public static TreeVisitor<?, ExecutionContext> findStrutsConfiguration(Set<String> strutsProjects) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (tree instanceof Xml.Document) {
+                    Xml.Tag root = ((Xml.Document) tree).getRoot();
+                    if ("struts".equals(root.getName())) {
+                        strutsProjects.add(Projects.name((SourceFile) tree));
+                    } else if ("web-app".equals(root.getName())) {
+                        for (Xml.Tag filter : root.getChildren("filter")) {
+                            if (filter.getChildValue("filter-class").orElse("").trim().startsWith("org.apache.struts2.")) {
+                                strutsProjects.add(Projects.name((SourceFile) tree));
+                            }
+                        }
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public Tree visit(Tree tree, ExecutionContext ctx) {
+        if (!(tree instanceof SourceFile) || !strutsProjects.contains(Projects.name((SourceFile) tree))) {
+            return tree;
+        }
+        if (tree instanceof Xml.Document) {
+            return new XmlIsoVisitor<ExecutionContext>() {
+                @Override
+                public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                    Xml.Tag t = super.visitTag(tag, ctx);
+                    if (CONSTANT_MATCHER.matches(getCursor())) {
+                        String newName = renames.get(TagUtils.getAttribute(t, "name", "").trim());
+                        if (newName != null) {
+                            RecipeTimings.matched(ctx);
+                            return TagUtils.withAttributeValue(t, "name", newName);
+                        }
+                    } else if (FILTER_PARAM_NAME_MATCHER.matches(getCursor()) && isStrutsFilter()) {
+                        String newName = renames.get(t.getValue().orElse("").trim());
+                        if (newName != null) {
+                            RecipeTimings.matched(ctx);
+                            return t.withValue(newName);
+                        }
+                    }
+                    return t;
+                }
+
+                private boolean isStrutsFilter() {
+                    Xml.Tag filter = getCursor().getParentTreeCursor().getParentTreeCursor().getValue();
+                    return filter.getChildValue("filter-class").orElse("").trim().startsWith("org.apache.struts2.");
+                }
+            }.visit(tree, ctx);
+        } else if (tree instanceof Properties.File) {
+            Path sourcePath = ((Properties.File) tree).getSourcePath();
+            if (!"struts.properties".equals(String.valueOf(sourcePath.getFileName())) &&
+                !sourcePath.toString().replace('\\', '/').endsWith("org/apache/struts2/default.properties")) {
+                return tree;
+            }
+            return new PropertiesIsoVisitor<ExecutionContext>() {
+                @Override
+                public Properties.Entry visitEntry(Properties.Entry entry, ExecutionContext ctx) {
+                    Properties.Entry e = super.visitEntry(entry, ctx);
+                    String newKey = renames.get(e.getKey());
+                    if (newKey == null) {
+                        return e;
+                    }
+                    RecipeTimings.matched(ctx);
+                    return e.withKey(newKey);
+                }
+            }.visit(tree, ctx);
+        }
+        return tree;
+    }
+}
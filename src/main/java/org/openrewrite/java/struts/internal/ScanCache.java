@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.text.PlainText;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * A directory of per-file scan results, keyed by a hash of the content of the source file, so that a recipe run again over
+ * mostly unchanged sources only has to scan the files that changed.
+ * <p>
+ * The results of a file are stored as a {@link FactsFile}. Every recipe has its own subdirectory, and a file that
+ * cannot be read or written is treated as a cache miss, so a corrupt or shared cache never fails a run. Entries that a
+ * run neither reads nor writes are {@link #prune(long) pruned} at its end, so the directory does not grow with every
+ * change to the sources.
+ */
+public class ScanCache {
+    private static final long PRUNE_MARGIN_MILLIS = 2000;
+
+    private final Path directory;
+
+    private ScanCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @param cacheDirectory the cache directory configured on the recipe, if any
+     * @param recipe         the recipe whose scan results are cached
+     * @return the cache of the recipe, or {@code null} when no cache directory is configured
+     */
+    public static @Nullable ScanCache of(@Nullable String cacheDirectory, Recipe recipe) {
+        if (cacheDirectory == null || cacheDirectory.trim().isEmpty()) {
+            return null;
+        }
+        return new ScanCache(Paths.get(cacheDirectory.trim()).resolve(recipe.getName()));
+    }
+
+    /**
+     * The key of the scan results of a source file, made of the SHA-256 hash of its content. Parsers do not reliably
+     * set a checksum on the source files they produce, so the content is hashed here, which also keeps the key valid
+     * after the source file has been edited in an earlier cycle.
+     *
+     * @param sourceFile the source file
+     * @param qualifier  anything besides the content that the scan results depend on, like the kind of file
+     * @return the key
+     */
+    public static String key(SourceFile sourceFile, String qualifier) {
+        String content = sourceFile instanceof PlainText ? ((PlainText) sourceFile).getText() : sourceFile.printAll();
+        byte[] hash;
+        try {
+            hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        StringBuilder key = new StringBuilder(qualifier.length() + 72);
+        if (!qualifier.isEmpty()) {
+            key.append(qualifier).append('-');
+        }
+        key.append("sha256-");
+        for (byte b : hash) {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return key.toString();
+    }
+
+    /**
+     * @return the scan results stored under the key, or {@code null} when there are none
+     */
+    public @Nullable List<String[]> read(String key) {
+        Path file = directory.resolve(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            List<String[]> records = FactsFile.read(file);
+            // Mark the entry as used by this run, so that it is not pruned
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return records;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores the scan results of a source file.
+     */
+    public void write(String key, List<String[]> records) {
+        try {
+            FactsFile.write(directory.resolve(key), records);
+        } catch (IOException | UncheckedIOException e) {
+            // The file is scanned again on the next run
+        }
+    }
+
+    /**
+     * Deletes the entries that were last read or written before the run started. Runs sharing the directory at the same
+     * time may lose each other's entries, which only costs them a scan on their next run.
+     *
+     * @param runStarted the time the run started, in milliseconds since the epoch
+     */
+    public void prune(long runStarted) {
+        // Allow for file systems that store modification times with a precision of seconds
+        long cutoff = runStarted - PRUNE_MARGIN_MILLIS;
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                try {
+                    if (!entry.getFileName().toString().endsWith(".tmp") &&
+                        Files.getLastModifiedTime(entry).toMillis() < cutoff) {
+                        Files.deleteIfExists(entry);
+                    }
+                } catch (IOException e) {
+                    // Pruned by the next run instead
+                }
+            }
+        } catch (IOException e) {
+            // Nothing cached yet, or the directory cannot be listed
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.internal;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An append-only file of records of strings, memory-mapped in fixed size regions, that a scanning recipe spills its
+ * accumulator to once it grows past a threshold. Records are read back in the order they were appended, starting from
+ * the position {@link #append} returned, so that only the regions being read need to be paged in.
+ * <p>
+ * The file is temporary. Where the file system allows it, it is unlinked as soon as it is opened, and otherwise deleted
+ * when it is closed. Closing it unmaps the regions and releases the file descriptor, after which the records can no
+ * longer be read.
+ */
+public class SpillFile implements Closeable {
+    private static final int REGION_SIZE = 8 * 1024 * 1024;
+
+    // Written after the last record of a region that has no room for the next one
+    private static final byte END_OF_REGION = 0;
+
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> regions = new ArrayList<>();
+    private boolean closed;
+
+    private SpillFile(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    public static SpillFile create(String prefix) {
+        try {
+            Path file = Files.createTempFile(prefix, ".spill");
+            return new SpillFile(FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param record at least one and at most 255 strings
+     * @return the position of the record, to {@link #read} from
+     */
+    public synchronized long append(String... record) {
+        checkOpen();
+        byte[][] values = new byte[record.length][];
+        int size = 1;
+        for (int i = 0; i < record.length; i++) {
+            values[i] = record[i].getBytes(StandardCharsets.UTF_8);
+            size += 4 + values[i].length;
+        }
+        if (record.length == 0 || record.length > 255 || size >= REGION_SIZE) {
+            throw new IllegalArgumentException("A record must have between 1 and 255 values and fit in a region");
+        }
+
+        MappedByteBuffer region = regions.isEmpty() ? null : regions.get(regions.size() - 1);
+        if (region == null || region.remaining() < size + 1) {
+            if (region != null) {
+                region.put(END_OF_REGION);
+            }
+            try {
+                region = channel.map(FileChannel.MapMode.READ_WRITE, (long) regions.size() * REGION_SIZE, REGION_SIZE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            regions.add(region);
+        }
+
+        long position = (long) (regions.size() - 1) * REGION_SIZE + region.position();
+        region.put((byte) values.length);
+        for (byte[] value : values) {
+            region.putInt(value.length).put(value);
+        }
+        return position;
+    }
+
+    /**
+     * @return the records from the position on, up to the last record appended when reading started
+     */
+    public synchronized Iterator<String[]> read(long position) {
+        checkOpen();
+        int lastRegion = regions.size() - 1;
+        int end = lastRegion < 0 ? 0 : regions.get(lastRegion).position();
+        return new Iterator<String[]>() {
+            int regionIndex = (int) (position / REGION_SIZE);
+            @Nullable ByteBuffer region = view(regionIndex, (int) (position % REGION_SIZE));
+
+            @Override
+            public boolean hasNext() {
+                synchronized (SpillFile.this) {
+                    // The views share the memory of the regions, which is unmapped on close
+                    checkOpen();
+                    return hasNextRecord();
+                }
+            }
+
+            private boolean hasNextRecord() {
+                if (region == null) {
+                    return false;
+                }
+                if (regionIndex == lastRegion && region.position() >= end) {
+                    return false;
+                }
+                if (region.get(region.position()) == END_OF_REGION) {
+                    region = view(++regionIndex, 0);
+                    return hasNextRecord();
+                }
+                return true;
+            }
+
+            @Override
+            public String[] next() {
+                synchronized (SpillFile.this) {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    //noinspection DataFlowIssue
+                    String[] record = new String[region.get() & 0xFF];
+                    for (int i = 0; i < record.length; i++) {
+                        byte[] value = new byte[region.getInt()];
+                        region.get(value);
+                        record[i] = new String(value, StandardCharsets.UTF_8);
+                    }
+                    return record;
+                }
+            }
+        };
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (MappedByteBuffer region : regions) {
+            release(region);
+        }
+        regions.clear();
+        channel.close();
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The spill file is closed");
+        }
+    }
+
+    /**
+     * Unmap a mapped buffer, or free a direct buffer, right away instead of once it is garbage collected, which can be
+     * long after the file it maps is closed. The buffer must not be used afterwards. There is no public API for this
+     * on Java 8, so it goes through {@code sun.misc.Unsafe} on Java 9 and later, and the cleaner of the buffer on Java
+     * 8. When neither is accessible, the buffer is left to the garbage collector.
+     */
+    static void release(ByteBuffer buffer) {
+        if (!buffer.isDirect()) {
+            return;
+        }
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+        } catch (NoSuchMethodException e) {
+            try {
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+            } catch (ReflectiveOperationException | RuntimeException ignored) {
+                // Released once garbage collected
+            }
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            // Released once garbage collected
+        }
+    }
+
+    private synchronized @Nullable ByteBuffer view(int regionIndex, int offset) {
+        if (regionIndex >= regions.size()) {
+            return null;
+        }
+        ByteBuffer view = regions.get(regionIndex).duplicate();
+        view.position(offset);
+        return view;
+    }
+}
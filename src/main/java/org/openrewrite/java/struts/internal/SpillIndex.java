@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.internal;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * A hash index from the first value of the records of a {@link SpillFile} to the position of a record, such as the
+ * first record of each source file, so that the records of a key can be read back without keeping the keys on the
+ * heap.
+ * <p>
+ * The index is an open addressing table of record positions in a direct buffer, outside of the heap. It stores no
+ * keys: a slot is matched by reading the first value of its record back from the spill file, so lookups page in the
+ * regions they compare against. Closing it frees the table, but not the spill file.
+ */
+public class SpillIndex implements Closeable {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final SpillFile file;
+
+    // The position of a record plus one in every used slot, 0 in every empty one
+    private ByteBuffer table;
+    private LongBuffer slots;
+    private int size;
+
+    public SpillIndex(SpillFile file) {
+        this.file = file;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Index a record under its first value, unless a record is indexed under it already.
+     *
+     * @param key      the first value of the record
+     * @param position the position of the record, as returned by {@link SpillFile#append}
+     */
+    public synchronized void put(String key, long position) {
+        if (2 * (size + 1) > slots.capacity()) {
+            grow();
+        }
+        int slot = slot(key);
+        if (slots.get(slot) == 0) {
+            slots.put(slot, position + 1);
+            size++;
+        }
+    }
+
+    /**
+     * @return the position of the record indexed under the key, or -1 when there is none
+     */
+    public synchronized long get(String key) {
+        return slots.get(slot(key)) - 1;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized void close() {
+        SpillFile.release(table);
+        slots = LongBuffer.allocate(0);
+        size = 0;
+    }
+
+    /**
+     * The slot holding the key, or the empty slot to put it in.
+     */
+    private int slot(String key) {
+        int mask = slots.capacity() - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            long entry = slots.get(slot);
+            if (entry == 0 || key.equals(keyAt(entry - 1))) {
+                return slot;
+            }
+        }
+    }
+
+    private String keyAt(long position) {
+        return file.read(position).next()[0];
+    }
+
+    private void grow() {
+        ByteBuffer oldTable = table;
+        LongBuffer oldSlots = slots;
+        allocate(2 * oldSlots.capacity());
+        int mask = slots.capacity() - 1;
+        for (int i = 0; i < oldSlots.capacity(); i++) {
+            long entry = oldSlots.get(i);
+            if (entry != 0) {
+                int slot = hash(keyAt(entry - 1)) & mask;
+                while (slots.get(slot) != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots.put(slot, entry);
+            }
+        }
+        SpillFile.release(oldTable);
+    }
+
+    private void allocate(int capacity) {
+        table = ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder());
+        slots = table.asLongBuffer();
+    }
+
+    private static int hash(String key) {
+        // Spread the bits of the hash code, which differ mostly in the low bits for paths with a common prefix
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.internal;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.xml.AddToTagVisitor;
+import org.openrewrite.xml.tree.Content;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.Comparator;
+
+public class StrutsConstants {
+    // New constants go after the existing ones, ahead of packages, beans and includes
+    private static final Comparator<Content> CONSTANTS_FIRST = Comparator.comparingInt(c ->
+            c instanceof Xml.Tag && !"constant".equals(((Xml.Tag) c).getName()) ? 1 : 0);
+
+    private StrutsConstants() {
+    }
+
+    public static AddToTagVisitor<ExecutionContext> addConstant(Xml.Tag struts, String name, String value) {
+        return new AddToTagVisitor<>(struts,
+                Xml.Tag.build("<constant name=\"" + name + "\" value=\"" + value + "\"/>"),
+                CONSTANTS_FIRST);
+    }
+}
@@ -15,17 +15,31 @@
  */
 package org.openrewrite.java.struts.internal;
 
+import org.openrewrite.internal.ListUtils;
 import org.openrewrite.xml.tree.Xml;
 
+import java.util.List;
+
 public class TagUtils {
     private TagUtils() {
     }
 
     public static String getAttribute(Xml.Tag tag, String name, String defaultValue) {
-        return tag.getAttributes().stream()
-                .filter(a -> a.getKey().getName().equals(name))
-                .findFirst()
-                .map(a -> a.getValue().getValue())
-                .orElse(defaultValue);
+        // Called for every tag of every Struts XML file, so avoid allocating an iterator or stream per lookup
+        List<Xml.Attribute> attributes = tag.getAttributes();
+        for (int i = 0; i < attributes.size(); i++) {
+            Xml.Attribute attribute = attributes.get(i);
+            if (attribute.getKey().getName().equals(name)) {
+                return attribute.getValue().getValue();
+            }
+        }
+        return defaultValue;
+    }
+
+    public static Xml.Tag withAttributeValue(Xml.Tag tag, String name, String value) {
+        return tag.withAttributes(ListUtils.map(tag.getAttributes(), a ->
+                name.equals(a.getKeyAsString()) && !value.equals(a.getValueAsString()) ?
+                        a.withValue(a.getValue().withValue(value)) :
+                        a));
     }
 }
@@ -19,7 +19,11 @@ import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.struts.internal.RecipeEvent;
+import org.openrewrite.java.struts.internal.RecipeTimings;
+import org.openrewrite.java.struts.table.StrutsRecipeTimings;
 import org.openrewrite.text.PlainText;
 import org.openrewrite.text.PlainTextVisitor;
 
@@ -46,6 +50,8 @@ import java.util.regex.Pattern;
 @Value
 public class MigrateDateTagFormat extends Recipe {
 
+    transient StrutsRecipeTimings timings = new StrutsRecipeTimings(this);
+
     String displayName = "Migrate Struts date tag format patterns";
 
     String description = "Converts SimpleDateFormat patterns in `<s:date>` tags to DateTimeFormatter-compatible patterns. " +
@@ -66,46 +72,56 @@ public class MigrateDateTagFormat extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new PlainTextVisitor<ExecutionContext>() {
+        return RecipeTimings.edit(this, timings, new PlainTextVisitor<ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                // Only process JSP and FreeMarker template files
+                String sourcePath = sourceFile.getSourcePath().toString();
+                return super.isAcceptable(sourceFile, ctx) && (sourcePath.endsWith(".jsp") || sourcePath.endsWith(".ftl"));
+            }
+
             @Override
             public PlainText visitText(PlainText text, ExecutionContext ctx) {
                 String sourcePath = text.getSourcePath().toString();
-                // Only process JSP and FreeMarker template files
-                if (!sourcePath.endsWith(".jsp") && !sourcePath.endsWith(".ftl")) {
-                    return text;
-                }
 
                 String content = text.getText();
                 boolean modified = false;
+                RecipeEvent rewrite = RecipeEvent.begin(MigrateDateTagFormat.this, "rewrite templates", sourcePath);
+                int formatsMigrated = 0;
 
-                // Apply both patterns (double and single quote variants)
+                // Apply both patterns (double and single quote variants), only copying the text once a format changes
                 for (Pattern pattern : DATE_TAG_PATTERNS) {
-                    StringBuffer result = new StringBuffer();
+                    StringBuilder result = null;
+                    int copied = 0;
                     Matcher matcher = pattern.matcher(content);
 
                     while (matcher.find()) {
-                        String prefix = matcher.group(1);    // <s:date ... format=
-                        String quote = matcher.group(2);     // " or '
                         String format = matcher.group(3);    // the format pattern
                         String newFormat = migrateFormatPattern(format);
 
                         if (!newFormat.equals(format)) {
-                            modified = true;
-                            matcher.appendReplacement(result, Matcher.quoteReplacement(prefix + quote + newFormat + quote));
-                        } else {
-                            matcher.appendReplacement(result, Matcher.quoteReplacement(matcher.group(0)));
+                            if (result == null) {
+                                result = new StringBuilder(content.length());
+                            }
+                            result.append(content, copied, matcher.start(3)).append(newFormat);
+                            RecipeTimings.matched(ctx);
+                            formatsMigrated++;
+                            copied = matcher.end(3);
                         }
                     }
-                    matcher.appendTail(result);
-                    content = result.toString();
+                    if (result != null) {
+                        modified = true;
+                        content = result.append(content, copied, content.length()).toString();
+                    }
                 }
 
+                rewrite.commit(formatsMigrated, text.getText().length());
                 if (modified) {
                     return text.withText(content);
                 }
                 return text;
             }
-        };
+        });
     }
 
     /**
@@ -115,7 +131,12 @@ public class MigrateDateTagFormat extends Recipe {
      * @return the migrated DateTimeFormatter pattern
      */
     static String migrateFormatPattern(String pattern) {
-        StringBuilder result = new StringBuilder();
+        if (pattern.indexOf('u') < 0 && pattern.indexOf('Y') < 0) {
+            // Nothing to migrate, which is the common case
+            return pattern;
+        }
+
+        StringBuilder result = new StringBuilder(pattern.length());
         boolean inQuote = false;
 
         for (int i = 0; i < pattern.length(); i++) {
@@ -148,8 +169,7 @@ public class MigrateDateTagFormat extends Recipe {
 
                 // Check if this is part of a week-based date pattern (YYYY-'W'ww or similar)
                 // by looking for nearby 'w' (week-of-week-based-year) pattern
-                String remaining = pattern.substring(i);
-                boolean isWeekBasedPattern = remaining.contains("w") || remaining.contains("W");
+                boolean isWeekBasedPattern = pattern.indexOf('w', i) >= 0 || pattern.indexOf('W', i) >= 0;
 
                 if (isWeekBasedPattern) {
                     // Preserve week-based-year for actual week date patterns
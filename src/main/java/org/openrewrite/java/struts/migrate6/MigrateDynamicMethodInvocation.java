@@ -20,8 +20,11 @@ import lombok.Value;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.struts.internal.RecipeEvent;
+import org.openrewrite.java.struts.internal.RecipeTimings;
 import org.openrewrite.java.struts.internal.TagUtils;
 import org.openrewrite.java.struts.search.FindStrutsXml;
+import org.openrewrite.java.struts.table.StrutsRecipeTimings;
 import org.openrewrite.xml.ChangeTagAttribute;
 import org.openrewrite.xml.XPathMatcher;
 import org.openrewrite.xml.XmlIsoVisitor;
@@ -41,6 +44,8 @@ public class MigrateDynamicMethodInvocation extends Recipe {
     private static final String STRUTS_ENABLE_DYNAMIC_METHOD_INVOCATION = "/struts/constant[@name='struts.enable.DynamicMethodInvocation']";
     private static final XPathMatcher DMI_CONSTANT = new XPathMatcher(STRUTS_ENABLE_DYNAMIC_METHOD_INVOCATION);
 
+    transient StrutsRecipeTimings timings = new StrutsRecipeTimings(this);
+
     String displayName = "Migrate Dynamic Method Invocation to explicit action mappings";
 
     String description = "Identifies Struts configurations using Dynamic Method Invocation (DMI) and marks them for migration, " +
@@ -50,23 +55,38 @@ public class MigrateDynamicMethodInvocation extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 new FindStrutsXml(),
-                new XmlIsoVisitor<ExecutionContext>() {
+                RecipeTimings.edit(this, timings, new XmlIsoVisitor<ExecutionContext>() {
                     @Override
                     public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
                         Xml.Tag t = super.visitTag(tag, ctx);
 
                         if (DMI_CONSTANT.matches(getCursor()) && "true".equals(TagUtils.getAttribute(t, "value", "false"))) {
                             doAfterVisit(new ChangeTagAttribute(STRUTS_ENABLE_DYNAMIC_METHOD_INVOCATION, "value", "false", "true", null).getVisitor());
-                            doAfterVisit(new ActionMigrator());
+                            doAfterVisit(new ActionMigrator(MigrateDynamicMethodInvocation.this));
                         }
 
                         return t;
                     }
-                }
+                })
         );
     }
 
     private static class ActionMigrator extends XmlIsoVisitor<ExecutionContext> {
+        private final Recipe recipe;
+        private int actionsSplit;
+
+        ActionMigrator(Recipe recipe) {
+            this.recipe = recipe;
+        }
+
+        @Override
+        public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+            RecipeEvent split = RecipeEvent.begin(recipe, "split actions", document.getSourcePath().toString());
+            Xml.Document d = super.visitDocument(document, ctx);
+            split.commit(actionsSplit, RecipeTimings.bytes(document));
+            return d;
+        }
+
         @Override
         public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
             Xml.Tag t = super.visitTag(tag, ctx);
@@ -76,6 +96,8 @@ public class MigrateDynamicMethodInvocation extends Recipe {
                     if (content instanceof Xml.Tag) {
                         Xml.Tag contentTag = (Xml.Tag) content;
                         if ("action".equals(contentTag.getName()) && TagUtils.getAttribute(contentTag, "method", "").isEmpty()) {
+                            RecipeTimings.matched(ctx);
+                            actionsSplit++;
                             return splitActionByResults(contentTag);
                         }
                     }
@@ -15,17 +15,24 @@
  */
 package org.openrewrite.java.struts.migrate6;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
-import org.openrewrite.ExecutionContext;
-import org.openrewrite.ScanningRecipe;
-import org.openrewrite.Tree;
-import org.openrewrite.TreeVisitor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
 import org.openrewrite.internal.StringUtils;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.struts.internal.FactsFile;
+import org.openrewrite.java.struts.internal.RecipeEvent;
+import org.openrewrite.java.struts.internal.RecipeTimings;
+import org.openrewrite.java.struts.internal.ScanCache;
+import org.openrewrite.java.struts.internal.SpillFile;
+import org.openrewrite.java.struts.internal.SpillIndex;
 import org.openrewrite.java.struts.internal.TagUtils;
 import org.openrewrite.java.struts.table.StaticOgnlMethodAccess;
+import org.openrewrite.java.struts.table.StrutsRecipeTimings;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.marker.SearchResult;
 import org.openrewrite.xml.XPathMatcher;
@@ -33,7 +40,16 @@ import org.openrewrite.xml.XmlIsoVisitor;
 import org.openrewrite.xml.tree.Content;
 import org.openrewrite.xml.tree.Xml;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -48,15 +64,91 @@ import java.util.regex.Pattern;
  *   <li>Adds wrapper methods to the corresponding Action classes</li>
  *   <li>Updates OGNL expressions to use the new wrapper properties</li>
  * </ol>
+ * <p>
+ * The scan can be split across shards, for instance one JVM each. Every shard first runs without
+ * {@code joinShards} to write the facts it scanned to the shard directory, and then runs again with
+ * {@code joinShards} to join the facts of all shards and edit its files.
  *
  * @see <a href="https://cwiki.apache.org/confluence/display/WW/Struts+2.5+to+6.0.0+migration#Struts2.5to6.0.0migration-Staticmethodsaccess">Struts Migration Guide</a>
  */
 @Value
 @EqualsAndHashCode(callSuper = false)
+@AllArgsConstructor(onConstructor_ = @JsonCreator)
 public class MigrateStaticOgnlMethodAccess extends ScanningRecipe<MigrateStaticOgnlMethodAccess.Accumulator> {
 
+    @Option(displayName = "Cache directory",
+            description = "A local directory to cache the static method calls and result mappings found in each file, " +
+                    "keyed by a hash of its content. Later runs only scan the files that changed, and entries of files " +
+                    "that are gone or changed are pruned at the end of every run.",
+            example = "build/struts-cache",
+            required = false)
+    @Nullable
+    String cacheDirectory;
+
+    @Option(displayName = "Shard count",
+            description = "Splits the scan across this many shards, for instance one JVM each, where every shard scans and edits " +
+                    "the files whose path hashes to its shard index. Requires a shard index, a shard directory and a run id.",
+            example = "4",
+            required = false)
+    @Nullable
+    Integer shardCount;
+
+    @Option(displayName = "Shard index",
+            description = "The shard of this run, from 0 to the shard count minus one.",
+            example = "0",
+            required = false)
+    @Nullable
+    Integer shardIndex;
+
+    @Option(displayName = "Shard directory",
+            description = "A local directory shared by all shards of a run. Every shard writes the facts it scanned to it, " +
+                    "and reads the facts of the other shards from it when joining.",
+            example = "build/struts-shards",
+            required = false)
+    @Nullable
+    String shardDirectory;
+
+    @Option(displayName = "Run id",
+            description = "An id that all shards of a run share and that differs from run to run, like a CI build number. " +
+                    "It is written to every shard file, so that facts left in the shard directory by an earlier run are " +
+                    "never joined.",
+            example = "build-1234",
+            required = false)
+    @Nullable
+    String runId;
+
+    @Option(displayName = "Join shards",
+            description = "Whether this run joins the facts of all shards and edits the files of its shard. Every shard " +
+                    "first runs without it, which only writes the facts it scanned to the shard directory, and then " +
+                    "runs again with it. A joining run fails right away when a shard has not written the facts of the run.",
+            example = "true",
+            required = false)
+    @Nullable
+    Boolean joinShards;
+
+    @Option(displayName = "Spill threshold",
+            description = "The number of static method calls and result mappings kept in memory while scanning. Once " +
+                    "crossed, they and those of the files scanned next are appended to memory-mapped temporary files " +
+                    "instead, which are read back when joining and when editing each file, so that memory use no " +
+                    "longer grows with the size of the repository.",
+            example = "100000",
+            required = false)
+    @Nullable
+    Integer spillThreshold;
+
+    @Option(displayName = "Spill threshold bytes",
+            description = "The approximate size in bytes of the static method calls and result mappings kept in memory " +
+                    "while scanning. Once crossed, they spill to disk as with the spill threshold, whichever is " +
+                    "crossed first.",
+            example = "67108864",
+            required = false)
+    @Nullable
+    Long spillThresholdBytes;
+
     transient StaticOgnlMethodAccess table = new StaticOgnlMethodAccess(this);
 
+    transient StrutsRecipeTimings timings = new StrutsRecipeTimings(this);
+
     // Pattern: @fully.qualified.ClassName@methodName(args)
     private static final Pattern STATIC_METHOD_PATTERN = Pattern.compile(
             "@([a-zA-Z_][a-zA-Z0-9_.]+)@([a-zA-Z_][a-zA-Z0-9_]*)\\s*\\(([^)]*)\\)"
@@ -65,6 +157,13 @@ public class MigrateStaticOgnlMethodAccess extends ScanningRecipe<MigrateStaticO
     private static final XPathMatcher ACTION_MATCHER = new XPathMatcher("//action");
     private static final XPathMatcher RESULT_MATCHER = new XPathMatcher("//action/result");
 
+    // The kinds of facts kept in the scan cache and shard files
+    private static final String RESULT_FACT = "result";
+    private static final String CALL_FACT = "call";
+
+    // The first fact of a shard file, with the run id of the shard that wrote it
+    private static final String RUN_FACT = "run";
+
     String displayName = "Migrate static OGNL method access to action wrapper methods";
 
     String description = "Migrates OGNL expressions using static method access (e.g., `@com.app.Util@makeCode()`) " +
@@ -93,17 +192,64 @@ public class MigrateStaticOgnlMethodAccess extends ScanningRecipe<MigrateStaticO
 
     @Value
     public static class Accumulator {
-        // Map from JSP path (normalized) to Action class FQN
+        // Map from JSP path (normalized) to Action class FQN, that have not spilled to disk
         Map<String, Set<String>> jspToActionClasses = new HashMap<>();
 
         // Map from Action class FQN to static methods it needs wrappers for
         Map<String, Set<StaticMethodCall>> actionToStaticMethods = new HashMap<>();
 
-        // All static method calls found (for data table reporting)
-        List<StaticMethodCall> allStaticMethodCalls = new ArrayList<>();
-
-        // Source files containing static method calls (path -> calls)
+        // Source files containing static method calls (path -> calls), that have not spilled to disk
         Map<String, Set<StaticMethodCall>> sourceFileToStaticMethods = new HashMap<>();
+
+        // The number and approximate size of the static method calls and result mappings in memory
+        AtomicLong inMemoryEntries = new AtomicLong();
+        AtomicLong inMemoryBytes = new AtomicLong();
+
+        // Static method calls spilled to disk once a spill threshold is crossed, as (path, call) records
+        AtomicReference<SpillFile> spilledStaticMethods = new AtomicReference<>();
+
+        // Result mappings spilled to disk once a spill threshold is crossed, as (JSP path, action class) records
+        AtomicReference<SpillFile> spilledResults = new AtomicReference<>();
+
+        // Source files with spilled static method calls, to the position of the first of their records
+        AtomicReference<SpillIndex> spilledSourceFiles = new AtomicReference<>();
+
+        // The source file of the last spilled static method call, whose calls are appended next to each other
+        AtomicReference<String> lastSpilledSourceFile = new AtomicReference<>();
+
+        // Source files with spilled static method calls that have not been edited yet
+        AtomicInteger spilledSourceFilesToEdit = new AtomicInteger();
+
+        // The top level classes of the action classes that need wrappers, set once all static method calls are joined
+        AtomicReference<Set<String>> targetClasses = new AtomicReference<>();
+
+        // When the scan started, to prune the scan cache entries this run did not use
+        long scanStarted = System.currentTimeMillis();
+
+        // Scan times of the source files that took long enough to report, until the files are edited
+        Map<Path, Long> scanTimes = new HashMap<>();
+    }
+
+    public MigrateStaticOgnlMethodAccess() {
+        this(null, null, null, null, null, null, null, null);
+    }
+
+    @Override
+    public Validated<Object> validate() {
+        Validated<Object> validated = super.validate();
+        if (shardCount != null || shardIndex != null || shardDirectory != null || runId != null || joinShards != null) {
+            validated = validated
+                    .and(Validated.notBlank("shardDirectory", shardDirectory))
+                    .and(Validated.notBlank("runId", runId))
+                    .and(Validated.test("shardCount", "must be positive", shardCount, count -> count != null && count > 0))
+                    .and(Validated.test("shardIndex", "must be at least 0 and less than the shard count", shardIndex,
+                            index -> index != null && shardCount != null && index >= 0 && index < shardCount));
+        }
+        return validated
+                .and(Validated.test("spillThreshold", "must not be negative", spillThreshold,
+                        threshold -> threshold == null || threshold >= 0))
+                .and(Validated.test("spillThresholdBytes", "must not be negative", spillThresholdBytes,
+                        threshold -> threshold == null || threshold >= 0));
     }
 
     @Override
@@ -111,34 +257,80 @@ public class MigrateStaticOgnlMethodAccess extends ScanningRecipe<MigrateStaticO
         return new Accumulator();
     }
 
+    private boolean spillThresholdCrossed(Accumulator acc) {
+        return spillThreshold != null && acc.getInMemoryEntries().get() >= spillThreshold ||
+               spillThresholdBytes != null && acc.getInMemoryBytes().get() >= spillThresholdBytes;
+    }
+
+    private boolean isSharded() {
+        return shardCount != null && shardIndex != null && shardDirectory != null && runId != null;
+    }
+
+    /**
+     * Whether the source file belongs to the shard of this run. The hash of a path is the same in every JVM, so every
+     * file belongs to exactly one shard.
+     */
+    private boolean inShard(String sourcePath) {
+        //noinspection DataFlowIssue
+        return !isSharded() || Math.floorMod(sourcePath.replace('\\', '/').hashCode(), shardCount) == shardIndex;
+    }
+
     @Override
     public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
-        return new TreeVisitor<Tree, ExecutionContext>() {
+        return RecipeTimings.scan(acc.getScanTimes(), new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public Tree visit(Tree tree, ExecutionContext ctx) {
-                if (tree instanceof Xml.Document) {
+                // Once joined, later cycles only see files whose static method calls were all replaced
+                if (acc.getTargetClasses().get() != null) {
+                    return tree;
+                }
+                if (tree instanceof Xml.Document && inShard(((Xml.Document) tree).getSourcePath().toString())) {
                     Xml.Document doc = (Xml.Document) tree;
                     String sourcePath = doc.getSourcePath().toString();
+                    boolean strutsXml = sourcePath.endsWith("struts.xml") || sourcePath.contains("struts");
 
-                    // Check if this is a struts.xml file
-                    if (sourcePath.endsWith("struts.xml") || sourcePath.contains("struts")) {
-                        new StrutsXmlScanner(acc).visit(doc, ctx);
+                    // Spill between files, so that the calls of a file are always read back together
+                    if (acc.getSpilledStaticMethods().get() == null && spillThresholdCrossed(acc)) {
+                        spillToDisk(acc);
                     }
 
-                    // Check for static method access in any XML/JSP file
-                    new StaticMethodScanner(acc, sourcePath).visit(doc, ctx);
+                    RecipeEvent scan = RecipeEvent.begin(MigrateStaticOgnlMethodAccess.this, "scan", sourcePath);
+                    StaticMethodScanner scanner = new StaticMethodScanner(acc);
+                    ScanCache cache = ScanCache.of(cacheDirectory, MigrateStaticOgnlMethodAccess.this);
+                    String key = cache == null ? "" : ScanCache.key(doc, strutsXml ? "struts" : "");
+                    List<String[]> cached = cache == null ? null : cache.read(key);
+                    if (cached != null) {
+                        scanner.replay(cached);
+                    } else {
+                        // Check if this is a struts.xml file
+                        if (strutsXml) {
+                            new StrutsXmlScanner(acc, scanner.facts).visit(doc, ctx);
+                        }
+
+                        // Check for static method access in any XML/JSP file
+                        scanner.visit(doc, ctx);
+                        if (cache != null) {
+                            cache.write(key, scanner.facts);
+                        }
+                    }
+                    for (StaticMethodCall call : scanner.calls) {
+                        found(acc, sourcePath, call);
+                    }
+                    scan.commit(scanner.calls.size(), scanner.examined);
                 }
                 return tree;
             }
-        };
+        });
     }
 
     private static class StrutsXmlScanner extends XmlIsoVisitor<ExecutionContext> {
         private final Accumulator acc;
+        private final List<String[]> facts;
         private String currentActionClass;
 
-        StrutsXmlScanner(Accumulator acc) {
+        StrutsXmlScanner(Accumulator acc, List<String[]> facts) {
             this.acc = acc;
+            this.facts = facts;
         }
 
         @Override
@@ -167,9 +359,8 @@ public class MigrateStaticOgnlMethodAccess extends ScanningRecipe<MigrateStaticO
                 if (StringUtils.isNotEmpty( jspPath )) {
                     // Normalize JSP path (remove leading slash, etc.)
                     String normalizedPath = normalizeJspPath(jspPath);
-                    acc.getJspToActionClasses()
-                            .computeIfAbsent(normalizedPath, k -> new HashSet<>())
-                            .add(currentActionClass);
+                    result(acc, normalizedPath, currentActionClass);
+                    facts.add(new String[]{RESULT_FACT, normalizedPath, currentActionClass});
                 }
             }
 
@@ -187,11 +378,15 @@ public class MigrateStaticOgnlMethodAccess extends ScanningRecipe<MigrateStaticO
 
     private static class StaticMethodScanner extends XmlIsoVisitor<ExecutionContext> {
         private final Accumulator acc;
-        private final String sourcePath;
-
-        StaticMethodScanner(Accumulator acc, String sourcePath) {
+        private final Set<StaticMethodCall> calls = new LinkedHashSet<>();
+        private final List<String[]> facts = new ArrayList<>();
+        private long examined;
+
+        /**
+         * @param acc the accumulator cached result mappings are replayed to
+         */
+        StaticMethodScanner(Accumulator acc) {
             this.acc = acc;
-            this.sourcePath = sourcePath;
         }
 
         @Override
@@ -209,7 +404,11 @@ public class MigrateStaticOgnlMethodAccess extends ScanningRecipe<MigrateStaticO
         }
 
         private void scanForStaticMethods(String text) {
-            if (text == null || !text.contains("@")) {
+            if (text == null) {
+                return;
+            }
+            examined += text.length();
+            if (!text.contains("@")) {
                 return;
             }
 
@@ -221,67 +420,447 @@ public class MigrateStaticOgnlMethodAccess extends ScanningRecipe<MigrateStaticO
                         matcher.group(3),  // arguments
                         matcher.group(0)   // full expression
                 );
+                calls.add(call);
+                facts.add(new String[]{CALL_FACT, call.getClassName(), call.getMethodName(), call.getArguments(),
+                        call.getFullExpression()});
+            }
+        }
 
-                acc.getAllStaticMethodCalls().add(call);
-                acc.getSourceFileToStaticMethods()
-                        .computeIfAbsent(sourcePath, k -> new HashSet<>())
-                        .add(call);
-
-                // Map to action classes if we know them
-                String normalizedPath = sourcePath;
-                if (normalizedPath.startsWith("/")) {
-                    normalizedPath = normalizedPath.substring(1);
+        /**
+         * Add the result mappings and static method calls cached for an unchanged file, as if it was scanned again.
+         */
+        void replay(List<String[]> cached) {
+            for (String[] fact : cached) {
+                if (RESULT_FACT.equals(fact[0])) {
+                    result(acc, fact[1], fact[2]);
+                } else if (CALL_FACT.equals(fact[0])) {
+                    calls.add(new StaticMethodCall(fact[1], fact[2], fact[3], fact[4]));
                 }
-                // Try various path normalizations
-                for (String jspPath : acc.getJspToActionClasses().keySet()) {
-                    if (normalizedPath.endsWith(jspPath) || jspPath.endsWith(normalizedPath) ||
-                        normalizedPath.contains(jspPath) || jspPath.contains(normalizedPath)) {
-                        for (String actionClass : acc.getJspToActionClasses().get(jspPath)) {
-                            acc.getActionToStaticMethods()
-                                    .computeIfAbsent(actionClass, k -> new HashSet<>())
-                                    .add(call);
-                        }
+            }
+        }
+    }
+
+    /**
+     * Add a static method call of a source file to the accumulator, in memory or to the spill file once there is one.
+     */
+    private static void found(Accumulator acc, String sourcePath, StaticMethodCall call) {
+        SpillFile spill = acc.getSpilledStaticMethods().get();
+        if (spill != null) {
+            long position = spill.append(sourcePath, call.getClassName(), call.getMethodName(), call.getArguments(),
+                    call.getFullExpression());
+            if (!sourcePath.equals(acc.getLastSpilledSourceFile().getAndSet(sourcePath))) {
+                //noinspection DataFlowIssue
+                acc.getSpilledSourceFiles().get().put(sourcePath, position);
+            }
+            return;
+        }
+        Set<StaticMethodCall> calls = acc.getSourceFileToStaticMethods().get(sourcePath);
+        if (calls == null) {
+            calls = new HashSet<>();
+            acc.getSourceFileToStaticMethods().put(sourcePath, calls);
+            acc.getInMemoryBytes().addAndGet(sizeOf(sourcePath));
+        }
+        if (calls.add(call)) {
+            acc.getInMemoryEntries().incrementAndGet();
+            acc.getInMemoryBytes().addAndGet(sizeOf(call.getClassName(), call.getMethodName(), call.getArguments(),
+                    call.getFullExpression()));
+        }
+    }
+
+    /**
+     * Add a result mapping to the accumulator, in memory or to the spill file once there is one.
+     */
+    private static void result(Accumulator acc, String jspPath, String actionClass) {
+        SpillFile spill = acc.getSpilledResults().get();
+        if (spill != null) {
+            spill.append(jspPath, actionClass);
+            return;
+        }
+        Set<String> actionClasses = acc.getJspToActionClasses().get(jspPath);
+        if (actionClasses == null) {
+            actionClasses = new HashSet<>();
+            acc.getJspToActionClasses().put(jspPath, actionClasses);
+            acc.getInMemoryBytes().addAndGet(sizeOf(jspPath));
+        }
+        if (actionClasses.add(actionClass)) {
+            acc.getInMemoryEntries().incrementAndGet();
+            acc.getInMemoryBytes().addAndGet(sizeOf(actionClass));
+        }
+    }
+
+    /**
+     * The approximate heap size of strings and of the collection entry holding them, counting two bytes per character
+     * whatever the string encoding of the JVM, so that the byte threshold errs on spilling early.
+     */
+    private static long sizeOf(String... values) {
+        long size = 32;
+        for (String value : values) {
+            size += 40 + 2L * value.length();
+        }
+        return size;
+    }
+
+    /**
+     * Move the static method calls and result mappings in memory to spill files, which those of all files scanned next
+     * go to as well.
+     */
+    private static void spillToDisk(Accumulator acc) {
+        SpillFile spill = SpillFile.create("struts-static-calls");
+        acc.getSpilledSourceFiles().set(new SpillIndex(spill));
+        acc.getSpilledResults().set(SpillFile.create("struts-results"));
+        acc.getSpilledStaticMethods().set(spill);
+        for (Map.Entry<String, Set<StaticMethodCall>> source : acc.getSourceFileToStaticMethods().entrySet()) {
+            for (StaticMethodCall call : source.getValue()) {
+                found(acc, source.getKey(), call);
+            }
+        }
+        for (Map.Entry<String, Set<String>> result : acc.getJspToActionClasses().entrySet()) {
+            for (String actionClass : result.getValue()) {
+                result(acc, result.getKey(), actionClass);
+            }
+        }
+        acc.getSourceFileToStaticMethods().clear();
+        acc.getJspToActionClasses().clear();
+        acc.getInMemoryEntries().set(0);
+        acc.getInMemoryBytes().set(0);
+    }
+
+    /**
+     * Close and delete the spill file of the result mappings once all static method calls are joined to them.
+     */
+    private static void closeSpilledResults(Accumulator acc) {
+        close(acc.getSpilledResults().getAndSet(null));
+    }
+
+    /**
+     * Close and delete the spill file of the static method calls and its index once the last spilled source file is
+     * edited, or the shard only scans.
+     */
+    private static void closeSpilledStaticMethods(Accumulator acc) {
+        SpillIndex index = acc.getSpilledSourceFiles().getAndSet(null);
+        if (index != null) {
+            index.close();
+        }
+        close(acc.getSpilledStaticMethods().getAndSet(null));
+    }
+
+    private static void close(@Nullable SpillFile spill) {
+        if (spill != null) {
+            try {
+                spill.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * The static method calls found in a source file, whether they are in memory or were spilled to disk, in which case
+     * they are read back from the first of their records on.
+     */
+    private static @Nullable Set<StaticMethodCall> staticMethodCalls(Accumulator acc, String sourcePath) {
+        Set<StaticMethodCall> calls = acc.getSourceFileToStaticMethods().get(sourcePath);
+        SpillIndex index = acc.getSpilledSourceFiles().get();
+        SpillFile spill = acc.getSpilledStaticMethods().get();
+        if (calls != null || index == null || spill == null) {
+            return calls;
+        }
+        long position = index.get(sourcePath);
+        if (position < 0) {
+            return null;
+        }
+        calls = new LinkedHashSet<>();
+        Iterator<String[]> records = spill.read(position);
+        while (records.hasNext()) {
+            String[] record = records.next();
+            if (!sourcePath.equals(record[0])) {
+                break;
+            }
+            calls.add(new StaticMethodCall(record[1], record[2], record[3], record[4]));
+        }
+        if (acc.getSpilledSourceFilesToEdit().decrementAndGet() == 0) {
+            closeSpilledStaticMethods(acc);
+        }
+        return calls;
+    }
+
+    /**
+     * Stream the static method calls found in each source file, first those in memory, then those spilled to disk in
+     * the order they were found, where the calls of a source file are next to each other.
+     */
+    private static void forEachSource(Accumulator acc, BiConsumer<String, Collection<StaticMethodCall>> action) {
+        for (Map.Entry<String, Set<StaticMethodCall>> source : acc.getSourceFileToStaticMethods().entrySet()) {
+            action.accept(source.getKey(), source.getValue());
+        }
+        SpillFile spill = acc.getSpilledStaticMethods().get();
+        if (spill != null) {
+            String sourcePath = null;
+            List<StaticMethodCall> calls = new ArrayList<>();
+            Iterator<String[]> records = spill.read(0);
+            while (records.hasNext()) {
+                String[] record = records.next();
+                if (!record[0].equals(sourcePath)) {
+                    if (sourcePath != null) {
+                        action.accept(sourcePath, calls);
                     }
+                    sourcePath = record[0];
+                    calls = new ArrayList<>();
+                }
+                calls.add(new StaticMethodCall(record[1], record[2], record[3], record[4]));
+            }
+            if (sourcePath != null) {
+                action.accept(sourcePath, calls);
+            }
+        }
+    }
+
+    /**
+     * Stream all result mappings, first those in memory, then those spilled to disk.
+     */
+    private static void forEachResult(Accumulator acc, BiConsumer<String, String> action) {
+        for (Map.Entry<String, Set<String>> result : acc.getJspToActionClasses().entrySet()) {
+            for (String actionClass : result.getValue()) {
+                action.accept(result.getKey(), actionClass);
+            }
+        }
+        SpillFile spill = acc.getSpilledResults().get();
+        if (spill != null) {
+            Iterator<String[]> records = spill.read(0);
+            while (records.hasNext()) {
+                String[] record = records.next();
+                action.accept(record[0], record[1]);
+            }
+        }
+    }
+
+    /**
+     * Map the static method calls found in a source file to the action classes whose results render it.
+     *
+     * @return the number of calls mapped to an action class
+     */
+    private static int joinToActionClasses(Accumulator acc, String sourcePath, Collection<StaticMethodCall> calls) {
+        if (calls.isEmpty()) {
+            return 0;
+        }
+        String normalizedPath = sourcePath.startsWith("/") ? sourcePath.substring(1) : sourcePath;
+        int[] joined = new int[1];
+        forEachResult(acc, (jspPath, actionClass) -> {
+            // Try various path normalizations
+            if (normalizedPath.endsWith(jspPath) || jspPath.endsWith(normalizedPath) ||
+                normalizedPath.contains(jspPath) || jspPath.contains(normalizedPath)) {
+                acc.getActionToStaticMethods()
+                        .computeIfAbsent(actionClass, k -> new HashSet<>())
+                        .addAll(calls);
+                joined[0] += calls.size();
+            }
+        });
+        return joined[0];
+    }
+
+    /**
+     * The result mappings and static method calls scanned by this shard, after the run id.
+     */
+    private List<String[]> shardFacts(Accumulator acc) {
+        List<String[]> facts = new ArrayList<>();
+        facts.add(new String[]{RUN_FACT, runId});
+        forEachResult(acc, (jspPath, actionClass) -> facts.add(new String[]{RESULT_FACT, jspPath, actionClass}));
+        forEachSource(acc, (sourcePath, calls) -> {
+            for (StaticMethodCall call : calls) {
+                facts.add(new String[]{CALL_FACT, call.getClassName(), call.getMethodName(), call.getArguments(),
+                        call.getFullExpression(), sourcePath});
+            }
+        });
+        return facts;
+    }
+
+    private void writeShard(Accumulator acc) {
+        try {
+            //noinspection DataFlowIssue
+            FactsFile.write(shardFile(Paths.get(shardDirectory), shardIndex), shardFacts(acc));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Join the static method calls of all shards to the result mappings of all shards, reading the facts of the other
+     * shards from the shard directory.
+     */
+    private void joinShards(Accumulator acc) {
+        //noinspection DataFlowIssue
+        Path directory = Paths.get(shardDirectory);
+        Map<String, List<StaticMethodCall>> callsBySource = new HashMap<>();
+        //noinspection DataFlowIssue
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (shard == shardIndex) {
+                continue;
+            }
+            for (String[] fact : readShard(shardFile(directory, shard), runId)) {
+                if (RESULT_FACT.equals(fact[0])) {
+                    result(acc, fact[1], fact[2]);
+                } else if (CALL_FACT.equals(fact[0])) {
+                    callsBySource.computeIfAbsent(fact[5], k -> new ArrayList<>())
+                            .add(new StaticMethodCall(fact[1], fact[2], fact[3], fact[4]));
                 }
             }
         }
+        // The static method calls of this shard are joined where they are, in memory or spilled to disk
+        forEachSource(acc, (sourcePath, calls) -> joinToActionClasses(acc, sourcePath, calls));
+        for (Map.Entry<String, List<StaticMethodCall>> source : callsBySource.entrySet()) {
+            joinToActionClasses(acc, source.getKey(), source.getValue());
+        }
+    }
+
+    /**
+     * The top level classes of the given classes, so that a compilation unit can be matched against them without
+     * visiting its nested classes.
+     */
+    private static Set<String> topLevelClasses(Set<String> classNames) {
+        Set<String> topLevelClasses = new HashSet<>(classNames.size());
+        for (String className : classNames) {
+            int nested = className.indexOf('$');
+            topLevelClasses.add(nested < 0 ? className : className.substring(0, nested));
+        }
+        return topLevelClasses;
+    }
+
+    /**
+     * Whether the compilation unit may declare a class that needs wrapper methods, checked on the types of its top
+     * level classes so that the compilation units of all other classes are never traversed.
+     */
+    private static boolean declaresTargetClass(Accumulator acc, J.CompilationUnit cu) {
+        Set<String> targetClasses = acc.getTargetClasses().get();
+        if (targetClasses == null) {
+            return true;
+        }
+        if (targetClasses.isEmpty()) {
+            return false;
+        }
+        for (J.ClassDeclaration classDecl : cu.getClasses()) {
+            if (classDecl.getType() == null || targetClasses.contains(classDecl.getType().getFullyQualifiedName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Path shardFile(Path directory, int shard) {
+        return directory.resolve("shard-" + shard + "-of-" + shardCount + ".bin");
+    }
+
+    /**
+     * Read the shard file of this run, failing when the shard has not written it yet or the file was left by an
+     * earlier run.
+     */
+    private static List<String[]> readShard(Path file, String runId) {
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalStateException("The facts of shard " + file + " are missing, run every shard without " +
+                                            "joinShards before joining them");
+        }
+        try {
+            List<String[]> facts = FactsFile.read(file);
+            if (facts == null) {
+                throw new IllegalStateException("The facts of shard " + file + " were written by another version of this recipe");
+            }
+            String foundRunId = facts.isEmpty() || !RUN_FACT.equals(facts.get(0)[0]) ? "" : facts.get(0)[1];
+            if (!runId.equals(foundRunId)) {
+                throw new IllegalStateException("The facts of shard " + file + " were written by run " + foundRunId +
+                                                ", not by run " + runId + ", run every shard without joinShards before joining them");
+            }
+            return facts;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
-        return new TreeVisitor<Tree, ExecutionContext>() {
+        boolean scanOnly = isSharded() && !Boolean.TRUE.equals(joinShards);
+        if (acc.getTargetClasses().get() == null) {
+            if (scanOnly) {
+                writeShard(acc);
+            } else if (isSharded()) {
+                joinShards(acc);
+            } else {
+                RecipeEvent join = RecipeEvent.begin(this, "join", "");
+                int[] joined = new int[2];
+                forEachSource(acc, (sourcePath, calls) -> {
+                    joined[0] += joinToActionClasses(acc, sourcePath, calls);
+                    joined[1]++;
+                });
+                join.commit(joined[0], joined[1]);
+            }
+            closeSpilledResults(acc);
+            SpillIndex spilledSourceFiles = acc.getSpilledSourceFiles().get();
+            if (scanOnly || spilledSourceFiles == null || spilledSourceFiles.size() == 0) {
+                closeSpilledStaticMethods(acc);
+            } else {
+                // Read back when each spilled source file is edited, instead of scanning it again
+                acc.getSpilledSourceFilesToEdit().set(spilledSourceFiles.size());
+            }
+            ScanCache cache = ScanCache.of(cacheDirectory, this);
+            if (cache != null) {
+                cache.prune(acc.getScanStarted());
+            }
+            acc.getTargetClasses().set(topLevelClasses(acc.getActionToStaticMethods().keySet()));
+        }
+        if (scanOnly) {
+            // The join run of the shard edits its files
+            return TreeVisitor.noop();
+        }
+        return RecipeTimings.edit(this, timings, acc.getScanTimes(), new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                // When sharded, every file is edited by the shard that scanned it
+                return inShard(sourceFile.getSourcePath().toString());
+            }
+
             @Override
             public Tree visit(Tree tree, ExecutionContext ctx) {
                 if (tree instanceof J.CompilationUnit) {
                     // Handle Java files - add wrapper methods to Action classes
-                    return new ActionClassVisitor(acc).visit(tree, ctx);
+                    J.CompilationUnit cu = (J.CompilationUnit) tree;
+                    if (!declaresTargetClass(acc, cu)) {
+                        return tree;
+                    }
+                    RecipeEvent edit = RecipeEvent.begin(MigrateStaticOgnlMethodAccess.this, "edit", cu.getSourcePath().toString());
+                    ActionClassVisitor visitor = new ActionClassVisitor(acc);
+                    Tree t = visitor.visit(cu, ctx);
+                    edit.commit(visitor.wrappersAdded, RecipeTimings.bytes(cu));
+                    return t;
                 } else if (tree instanceof Xml.Document) {
                     // Handle XML/JSP files - update OGNL expressions
                     Xml.Document doc = (Xml.Document) tree;
                     String sourcePath = doc.getSourcePath().toString();
 
-                    // Report findings to data table
-                    Set<StaticMethodCall> calls = acc.getSourceFileToStaticMethods().get(sourcePath);
-                    if (calls != null) {
-                        for (StaticMethodCall call : calls) {
-                            table.insertRow(ctx, new StaticOgnlMethodAccess.Row(
-                                    sourcePath,
-                                    call.getFullExpression(),
-                                    call.getClassName(),
-                                    call.getMethodName()
-                            ));
-                        }
+                    // Report findings to data table, files without static method calls have nothing to update
+                    Set<StaticMethodCall> calls = staticMethodCalls(acc, sourcePath);
+                    if (calls == null) {
+                        return tree;
+                    }
+                    for (StaticMethodCall call : calls) {
+                        table.insertRow(ctx, new StaticOgnlMethodAccess.Row(
+                                sourcePath,
+                                call.getFullExpression(),
+                                call.getClassName(),
+                                call.getMethodName()
+                        ));
                     }
 
-                    return new OgnlExpressionUpdater(acc).visit(tree, ctx);
+                    RecipeEvent edit = RecipeEvent.begin(MigrateStaticOgnlMethodAccess.this, "edit", sourcePath);
+                    OgnlExpressionUpdater updater = new OgnlExpressionUpdater(acc);
+                    Tree t = updater.visit(doc, ctx);
+                    edit.commit(updater.expressionsReplaced, RecipeTimings.bytes(doc));
+                    return t;
                 }
                 return tree;
             }
-        };
+        });
     }
 
     private static class ActionClassVisitor extends JavaIsoVisitor<ExecutionContext> {
         private final Accumulator acc;
+        private int wrappersAdded;
 
         ActionClassVisitor(Accumulator acc) {
             this.acc = acc;
@@ -339,6 +918,7 @@ public class MigrateStaticOgnlMethodAccess extends ScanningRecipe<MigrateStaticO
 
                     // Add import for the static class
                     maybeAddImport(call.getClassName());
+                    wrappersAdded++;
                 }
             }
 
@@ -348,6 +928,7 @@ public class MigrateStaticOgnlMethodAccess extends ScanningRecipe<MigrateStaticO
 
     private static class OgnlExpressionUpdater extends XmlIsoVisitor<ExecutionContext> {
         private final Accumulator acc;
+        private int expressionsReplaced;
 
         OgnlExpressionUpdater(Accumulator acc) {
             this.acc = acc;
@@ -364,6 +945,8 @@ public class MigrateStaticOgnlMethodAccess extends ScanningRecipe<MigrateStaticO
                     a = a.withValue(
                             a.getValue().withValue(newValue)
                     );
+                    RecipeTimings.matched(ctx);
+                    expressionsReplaced++;
                     a = SearchResult.found(a);
                 }
             }
@@ -380,6 +963,8 @@ public class MigrateStaticOgnlMethodAccess extends ScanningRecipe<MigrateStaticO
                 String newText = replaceStaticMethods(text);
                 if (!newText.equals(text)) {
                     c = c.withText(newText);
+                    RecipeTimings.matched(ctx);
+                    expressionsReplaced++;
                     c = SearchResult.found(c);
                 }
             }
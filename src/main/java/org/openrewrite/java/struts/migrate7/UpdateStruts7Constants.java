@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.migrate7;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.ScanningRecipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.struts.internal.RecipeTimings;
+import org.openrewrite.java.struts.internal.RenameStrutsConstantsVisitor;
+import org.openrewrite.java.struts.table.StrutsRecipeTimings;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class UpdateStruts7Constants extends ScanningRecipe<Set<String>> {
+
+    private static final Map<String, String> RENAMES = new LinkedHashMap<>();
+
+    static {
+        RENAMES.put("struts.xwork.chaining.copyErrors", "struts.chaining.copyErrors");
+        RENAMES.put("struts.xwork.chaining.copyFieldErrors", "struts.chaining.copyFieldErrors");
+        RENAMES.put("struts.xwork.chaining.copyMessages", "struts.chaining.copyMessages");
+    }
+
+    transient StrutsRecipeTimings timings = new StrutsRecipeTimings(this);
+
+    String displayName = "Align Struts constants for Struts 7";
+
+    String description = "Updates Struts constants that were renamed or tightened in Struts 7, in Struts XML files, " +
+            "`struts.properties`, `org/apache/struts2/default.properties` and Struts filter init-params in `web.xml` of " +
+            "projects with a Struts XML file or Struts filter.";
+
+    @Override
+    public Set<String> getInitialValue(ExecutionContext ctx) {
+        return new HashSet<>();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Set<String> strutsProjects) {
+        return RenameStrutsConstantsVisitor.findStrutsConfiguration(strutsProjects);
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Set<String> strutsProjects) {
+        if (strutsProjects.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+        return RecipeTimings.edit(this, timings, new RenameStrutsConstantsVisitor(RENAMES, strutsProjects));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Option;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.struts.internal.RecipeTimings;
+import org.openrewrite.java.struts.table.ActionTagInvocations;
+import org.openrewrite.java.struts.table.StrutsRecipeTimings;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.text.PlainText;
+import org.openrewrite.text.PlainTextVisitor;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Find {@code <s:action>} and {@code <@s.action>} tags in JSP and FreeMarker templates.
+ * <p>
+ * Each action tag runs a complete action invocation, including the interceptor stack, while the page renders. The
+ * iterators an action tag is nested in ({@code <s:iterator>}, {@code <c:forEach>}, {@code <c:forTokens>},
+ * {@code <@s.iterator>} and {@code <#list>}) multiply the number of invocations, which is estimated per render from
+ * an assumed number of iterations.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class FindActionTagInvocations extends Recipe {
+
+    // Opening, closing and self-closing action and iterator tags
+    // Group 1: "/" for a closing tag
+    // Group 2: the tag name
+    // Group 3: the attributes
+    // Group 4: "/" for a self-closing tag
+    private static final Pattern TAG_PATTERN = Pattern.compile(
+            "<(/?)(s:action|s:iterator|c:forEach|c:forTokens|@s\\.action|@s\\.iterator|#list)\\b([^>]*?)(/?)>");
+
+    private static final Pattern ATTRIBUTE_PATTERN = Pattern.compile(
+            "\\b(name|namespace|executeResult)\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)'|([^\\s/>]+))");
+
+    private static final int DEFAULT_ASSUMED_ITERATIONS = 10;
+
+    @Option(displayName = "Assumed iterations",
+            description = "The number of iterations assumed for each iterator an action tag is nested in, " +
+                          "when estimating the number of invocations per render. Defaults to 10.",
+            example = "10",
+            required = false)
+    @Nullable
+    Integer assumedIterations;
+
+    transient ActionTagInvocations table = new ActionTagInvocations(this);
+
+    transient StrutsRecipeTimings timings = new StrutsRecipeTimings(this);
+
+    String displayName = "Find action tag invocations in templates";
+
+    String description = "Find `<s:action>` tags in JSP and FreeMarker templates, each of which runs a complete action " +
+            "invocation while the page renders, and estimate the invocations per render for tags nested in iterators.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        int iterations = assumedIterations == null ? DEFAULT_ASSUMED_ITERATIONS : Math.max(1, assumedIterations);
+        return RecipeTimings.edit(this, timings, new PlainTextVisitor<ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                // Only process JSP and FreeMarker template files
+                String sourcePath = sourceFile.getSourcePath().toString();
+                return super.isAcceptable(sourceFile, ctx) && (sourcePath.endsWith(".jsp") || sourcePath.endsWith(".ftl"));
+            }
+
+            @Override
+            public PlainText visitText(PlainText text, ExecutionContext ctx) {
+                String sourcePath = text.getSourcePath().toString();
+
+                String content = text.getText();
+                if (!content.contains("s:action") && !content.contains("s.action")) {
+                    return text;
+                }
+
+                int found = 0;
+                int nested = 0;
+                int depth = 0;
+                int line = 1;
+                int lineCountedTo = 0;
+                Matcher matcher = TAG_PATTERN.matcher(content);
+                while (matcher.find()) {
+                    boolean closing = !matcher.group(1).isEmpty();
+                    boolean selfClosing = !matcher.group(4).isEmpty();
+                    String tag = matcher.group(2);
+
+                    if (!tag.endsWith("action")) {
+                        if (closing) {
+                            depth = Math.max(0, depth - 1);
+                        } else if (!selfClosing) {
+                            depth++;
+                        }
+                        continue;
+                    }
+                    if (closing) {
+                        continue;
+                    }
+
+                    for (int i = lineCountedTo; i < matcher.start(); i++) {
+                        if (content.charAt(i) == '\n') {
+                            line++;
+                        }
+                    }
+                    lineCountedTo = matcher.start();
+
+                    String name = "";
+                    String namespace = "";
+                    boolean executeResult = false;
+                    Matcher attributes = ATTRIBUTE_PATTERN.matcher(matcher.group(3));
+                    while (attributes.find()) {
+                        String value = attributes.group(2) != null ? attributes.group(2) :
+                                attributes.group(3) != null ? attributes.group(3) : attributes.group(4);
+                        switch (attributes.group(1)) {
+                            case "name":
+                                name = value;
+                                break;
+                            case "namespace":
+                                namespace = value;
+                                break;
+                            default:
+                                executeResult = "true".equals(value);
+                                break;
+                        }
+                    }
+
+                    long invocations = 1;
+                    for (int i = 0; i < depth; i++) {
+                        invocations *= iterations;
+                    }
+                    table.insertRow(ctx, new ActionTagInvocations.Row(sourcePath, line, name, namespace,
+                            executeResult, depth, invocations));
+                    RecipeTimings.matched(ctx);
+                    found++;
+                    if (depth > 0) {
+                        nested++;
+                    }
+                }
+
+                if (found == 0) {
+                    return text;
+                }
+                return SearchResult.found(text, found + " action tag invocation" + (found == 1 ? "" : "s") +
+                                                (nested > 0 ? ", " + nested + " inside iterators" : ""));
+            }
+        });
+    }
+}
@@ -17,15 +17,18 @@ package org.openrewrite.java.struts.search;
 
 import lombok.EqualsAndHashCode;
 import lombok.Value;
-import org.openrewrite.ExecutionContext;
-import org.openrewrite.Recipe;
-import org.openrewrite.SourceFile;
-import org.openrewrite.TreeVisitor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.struts.internal.RecipeTimings;
+import org.openrewrite.java.struts.internal.ScanCache;
 import org.openrewrite.java.struts.table.StaticOgnlMethodAccess;
+import org.openrewrite.java.struts.table.StrutsRecipeTimings;
 import org.openrewrite.marker.SearchResult;
 import org.openrewrite.xml.XmlIsoVisitor;
 import org.openrewrite.xml.tree.Xml;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -48,8 +51,18 @@ import java.util.regex.Pattern;
 @EqualsAndHashCode(callSuper = false)
 public class FindStaticOgnlMethodAccess extends Recipe {
 
+    @Option(displayName = "Cache directory",
+            description = "A local directory to cache which files contain static method access, keyed by a hash of " +
+                    "their content. Later runs skip the unchanged files without any.",
+            example = "build/struts-cache",
+            required = false)
+    @Nullable
+    String cacheDirectory;
+
     transient StaticOgnlMethodAccess table = new StaticOgnlMethodAccess(this);
 
+    transient StrutsRecipeTimings timings = new StrutsRecipeTimings(this);
+
     // Pattern to match OGNL static method access: @fully.qualified.ClassName@methodName(args)
     // Group 1: the full class name (e.g., com.app.Util)
     // Group 2: the method name (e.g., makeCode)
@@ -65,6 +78,38 @@ public class FindStaticOgnlMethodAccess extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
+        XmlIsoVisitor<ExecutionContext> visitor = findStaticMethodAccess();
+        ScanCache cache = ScanCache.of(cacheDirectory, this);
+        if (cache == null) {
+            return RecipeTimings.edit(this, timings, visitor);
+        }
+        return RecipeTimings.edit(this, timings, new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+                return visitor.isAcceptable(sourceFile, ctx);
+            }
+
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof Xml.Document)) {
+                    return visitor.visit(tree, ctx);
+                }
+                String key = ScanCache.key((Xml.Document) tree, "");
+                List<String[]> cached = cache.read(key);
+                if (cached != null && cached.isEmpty()) {
+                    // Unchanged since a run that found no static method access
+                    return tree;
+                }
+                Tree t = visitor.visit(tree, ctx);
+                if (cached == null) {
+                    cache.write(key, t == tree ? Collections.emptyList() : Collections.singletonList(new String[]{"found"}));
+                }
+                return t;
+            }
+        });
+    }
+
+    private XmlIsoVisitor<ExecutionContext> findStaticMethodAccess() {
         return new XmlIsoVisitor<ExecutionContext>() {
             @Override
             public Xml.Attribute visitAttribute(Xml.Attribute attribute, ExecutionContext ctx) {
@@ -84,6 +129,7 @@ public class FindStaticOgnlMethodAccess extends Recipe {
                                 methodName
                         ));
 
+                        RecipeTimings.matched(ctx);
                         a = SearchResult.found(a);
                     }
                 }
@@ -109,6 +155,7 @@ public class FindStaticOgnlMethodAccess extends Recipe {
                                 methodName
                         ));
 
+                        RecipeTimings.matched(ctx);
                         c = SearchResult.found(c);
                     }
                 }
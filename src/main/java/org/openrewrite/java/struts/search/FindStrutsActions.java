@@ -16,49 +16,286 @@
 package org.openrewrite.java.struts.search;
 
 import lombok.Getter;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.struts.internal.RecipeTimings;
 import org.openrewrite.java.struts.internal.TagUtils;
 import org.openrewrite.java.struts.table.StrutsActions;
+import org.openrewrite.java.struts.table.StrutsRecipeTimings;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.Statement;
+import org.openrewrite.java.tree.TypeUtils;
 import org.openrewrite.marker.SearchResult;
 import org.openrewrite.xml.XPathMatcher;
 import org.openrewrite.xml.XmlIsoVisitor;
 import org.openrewrite.xml.search.FindTags;
 import org.openrewrite.xml.tree.Xml;
 
-import static java.util.stream.Collectors.joining;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 
 public class FindStrutsActions extends Recipe {
+    private static final String CONVENTION_ANNOTATIONS = "org.apache.struts2.convention.annotation";
+
+    private static final AnnotationMatcher ACTION = new AnnotationMatcher("@" + CONVENTION_ANNOTATIONS + ".Action");
+    private static final AnnotationMatcher ACTIONS = new AnnotationMatcher("@" + CONVENTION_ANNOTATIONS + ".Actions");
+    private static final AnnotationMatcher NAMESPACE = new AnnotationMatcher("@" + CONVENTION_ANNOTATIONS + ".Namespace");
+    private static final AnnotationMatcher PARENT_PACKAGE = new AnnotationMatcher("@" + CONVENTION_ANNOTATIONS + ".ParentPackage");
+
+    // The default struts.convention.package.locators
+    private static final List<String> PACKAGE_LOCATORS = asList("action", "actions", "struts", "struts2");
+
     private final transient StrutsActions actions = new StrutsActions(this);
 
+    private final transient StrutsRecipeTimings timings = new StrutsRecipeTimings(this);
+
     @Getter
     final String displayName = "Find Struts actions";
 
     @Getter
-    final String description = "Find actions and their associated definitions.";
+    final String description = "Find actions and their associated definitions, both in Struts XML files and in " +
+            "Convention plugin annotations.";
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        XPathMatcher actionMatcher = new XPathMatcher("//action");
-        return Preconditions.check(new FindTags("/struts"), new XmlIsoVisitor<ExecutionContext>() {
+        TreeVisitor<?, ExecutionContext> xmlActions = Preconditions.check(new FindTags("/struts"), new XmlActionVisitor());
+        TreeVisitor<?, ExecutionContext> annotatedActions = Preconditions.check(
+                new UsesType<>(CONVENTION_ANNOTATIONS + ".*", false), new AnnotatedActionVisitor());
+        return RecipeTimings.edit(this, timings, new TreeVisitor<Tree, ExecutionContext>() {
             @Override
-            public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
-                if (actionMatcher.matches(getCursor())) {
-                    String pkg = getCursor().getPathAsStream(Xml.Tag.class::isInstance)
-                            .map(Xml.Tag.class::cast)
-                            .filter(t -> "package".equals(t.getName()))
-                            .map(t -> TagUtils.getAttribute(t, "name", ""))
-                            .collect(joining("."));
-                    actions.insertRow(ctx, new StrutsActions.Row(
-                            getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
-                            pkg,
-                            TagUtils.getAttribute(tag, "name", "unknown"),
-                            TagUtils.getAttribute(tag, "class", "unknown"),
-                            TagUtils.getAttribute(tag, "method", "unknown")));
-                    return SearchResult.found(tag);
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (tree instanceof Xml.Document) {
+                    return xmlActions.visit(tree, ctx);
+                } else if (tree instanceof J.CompilationUnit) {
+                    return annotatedActions.visit(tree, ctx);
                 }
-                return super.visitTag(tag, ctx);
+                return tree;
             }
         });
     }
 
+    private class XmlActionVisitor extends XmlIsoVisitor<ExecutionContext> {
+        private final XPathMatcher actionMatcher = new XPathMatcher("//action");
+
+        @Override
+        public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+            if (actionMatcher.matches(getCursor())) {
+                StringBuilder pkg = new StringBuilder();
+                for (Iterator<Object> path = getCursor().getPathAsIterator(); path.hasNext(); ) {
+                    Object value = path.next();
+                    if (value instanceof Xml.Tag && "package".equals(((Xml.Tag) value).getName())) {
+                        if (pkg.length() > 0) {
+                            pkg.append('.');
+                        }
+                        pkg.append(TagUtils.getAttribute((Xml.Tag) value, "name", ""));
+                    }
+                }
+                Xml.Tag packageTag = getCursor().getParentTreeCursor().firstEnclosing(Xml.Tag.class);
+                RecipeTimings.matched(ctx);
+                actions.insertRow(ctx, new StrutsActions.Row(
+                        getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
+                        pkg.toString(),
+                        TagUtils.getAttribute(tag, "name", "unknown"),
+                        TagUtils.getAttribute(tag, "class", "unknown"),
+                        TagUtils.getAttribute(tag, "method", "unknown"),
+                        packageTag == null || !"package".equals(packageTag.getName()) ? "" :
+                                TagUtils.getAttribute(packageTag, "namespace", "")));
+                return SearchResult.found(tag);
+            }
+            return super.visitTag(tag, ctx);
+        }
+    }
+
+    /**
+     * Resolves {@code @Action} and {@code @Actions} annotations on classes and methods the way the Convention plugin
+     * does: an action name starting with a slash carries its own namespace, otherwise the namespace is taken from
+     * {@code @Namespace} or from the part of the Java package that follows a default package locator.
+     */
+    private class AnnotatedActionVisitor extends JavaIsoVisitor<ExecutionContext> {
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            J.ClassDeclaration c = super.visitClassDeclaration(classDecl, ctx);
+            if (c.getType() == null || !c.getSimpleName().endsWith("Action") || hasActionAnnotation(c)) {
+                return c;
+            }
+            // A Convention annotated *Action class without @Action is mapped by its name
+            for (J.Annotation annotation : c.getLeadingAnnotations()) {
+                if (isConventionAnnotation(annotation)) {
+                    insertRow(c, c.getType(), null, null, ctx);
+                    return SearchResult.found(c);
+                }
+            }
+            return c;
+        }
+
+        @Override
+        public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+            J.Annotation a = super.visitAnnotation(annotation, ctx);
+            if (!ACTION.matches(a) && !ACTIONS.matches(a)) {
+                return a;
+            }
+
+            Object parent = getCursor().getParentTreeCursor().getValue();
+            J.MethodDeclaration method = null;
+            if (parent instanceof J.MethodDeclaration) {
+                method = (J.MethodDeclaration) parent;
+            } else if (!(parent instanceof J.ClassDeclaration)) {
+                // Nested in @Actions, which reports it
+                return a;
+            }
+            J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+            if (classDecl == null || classDecl.getType() == null) {
+                return a;
+            }
+
+            for (J.Annotation action : ACTION.matches(a) ? singletonList(a) : nestedActions(a)) {
+                insertRow(classDecl, classDecl.getType(), method, annotationValue(action, "value"), ctx);
+            }
+            return SearchResult.found(a);
+        }
+
+        private void insertRow(J.ClassDeclaration classDecl, JavaType.FullyQualified type, J.@Nullable MethodDeclaration method,
+                               @Nullable String actionName, ExecutionContext ctx) {
+            String namespace = null;
+            String pkg = "";
+            for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+                if (NAMESPACE.matches(annotation)) {
+                    namespace = annotationValue(annotation, "value");
+                } else if (PARENT_PACKAGE.matches(annotation)) {
+                    String parentPackage = annotationValue(annotation, "value");
+                    pkg = parentPackage == null ? "" : parentPackage;
+                }
+            }
+            if (namespace == null) {
+                namespace = locatedNamespace(type.getPackageName());
+            }
+
+            String name = actionName == null || actionName.isEmpty() ? conventionName(classDecl.getSimpleName()) : actionName;
+            if (name.startsWith("/")) {
+                namespace = name.substring(0, name.lastIndexOf('/'));
+                name = name.substring(name.lastIndexOf('/') + 1);
+            }
+
+            RecipeTimings.matched(ctx);
+            actions.insertRow(ctx, new StrutsActions.Row(
+                    getCursor().firstEnclosingOrThrow(SourceFile.class).getSourcePath().toString(),
+                    pkg,
+                    name,
+                    type.getFullyQualifiedName(),
+                    method == null ? "execute" : method.getSimpleName(),
+                    namespace));
+        }
+
+        private boolean hasActionAnnotation(J.ClassDeclaration classDecl) {
+            for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+                if (ACTION.matches(annotation) || ACTIONS.matches(annotation)) {
+                    return true;
+                }
+            }
+            for (Statement statement : classDecl.getBody().getStatements()) {
+                if (statement instanceof J.MethodDeclaration) {
+                    for (J.Annotation annotation : ((J.MethodDeclaration) statement).getLeadingAnnotations()) {
+                        if (ACTION.matches(annotation) || ACTIONS.matches(annotation)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    private static boolean isConventionAnnotation(J.Annotation annotation) {
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+        return type != null && CONVENTION_ANNOTATIONS.equals(type.getPackageName());
+    }
+
+    private static List<J.Annotation> nestedActions(J.Annotation actionsAnnotation) {
+        List<J.Annotation> nested = new ArrayList<>();
+        Expression value = annotationArgument(actionsAnnotation, "value");
+        if (value instanceof J.Annotation) {
+            nested.add((J.Annotation) value);
+        } else if (value instanceof J.NewArray && ((J.NewArray) value).getInitializer() != null) {
+            for (Expression element : ((J.NewArray) value).getInitializer()) {
+                if (element instanceof J.Annotation) {
+                    nested.add((J.Annotation) element);
+                }
+            }
+        }
+        return nested;
+    }
+
+    private static @Nullable Expression annotationArgument(J.Annotation annotation, String name) {
+        if (annotation.getArguments() == null) {
+            return null;
+        }
+        for (Expression argument : annotation.getArguments()) {
+            if (argument instanceof J.Assignment) {
+                J.Assignment assignment = (J.Assignment) argument;
+                if (assignment.getVariable() instanceof J.Identifier &&
+                    name.equals(((J.Identifier) assignment.getVariable()).getSimpleName())) {
+                    return assignment.getAssignment();
+                }
+            } else if ("value".equals(name) && !(argument instanceof J.Empty)) {
+                return argument;
+            }
+        }
+        return null;
+    }
+
+    private static @Nullable String annotationValue(J.Annotation annotation, String name) {
+        Expression value = annotationArgument(annotation, name);
+        if (value instanceof J.Literal && ((J.Literal) value).getValue() instanceof String) {
+            return (String) ((J.Literal) value).getValue();
+        }
+        return null;
+    }
+
+    /**
+     * @return The namespace the Convention plugin derives from the part of the package after the last locator.
+     */
+    private static String locatedNamespace(String packageName) {
+        String[] segments = packageName.split("\\.");
+        for (int i = segments.length - 1; i >= 0; i--) {
+            if (PACKAGE_LOCATORS.contains(segments[i])) {
+                StringBuilder namespace = new StringBuilder();
+                for (int j = i + 1; j < segments.length; j++) {
+                    namespace.append('/').append(segments[j]);
+                }
+                return namespace.toString();
+            }
+        }
+        return "";
+    }
+
+    /**
+     * @return The action name the Convention plugin derives from a class name, like {@code edit-user} for
+     * {@code EditUserAction}.
+     */
+    private static String conventionName(String className) {
+        String name = className.endsWith("Action") ? className.substring(0, className.length() - "Action".length()) : className;
+        StringBuilder actionName = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0) {
+                    actionName.append('-');
+                }
+                actionName.append(Character.toLowerCase(c));
+            } else {
+                actionName.append(c);
+            }
+        }
+        return actionName.toString();
+    }
 }
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.marker.JavaSourceSet;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.xml.XPathMatcher;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Find the source files of projects whose Struts version is below a given version, to use as a precondition of the
+ * migration recipes so that projects that are already migrated are skipped.
+ * <p>
+ * The version of a project is the highest version of the {@code org.apache.struts} dependencies declared in its Maven
+ * POM or Gradle build file, or found on the classpath of its Java source sets. When there are none, the version of the
+ * DTD of its Struts XML files is used instead. Projects whose version cannot be detected are not skipped.
+ * <p>
+ * The versions are only detected in the first cycle. The migration recipes upgrade the dependencies and DTDs of the
+ * project in that cycle, and the later cycles must still see the version the project was on before.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class HasStrutsVersionBelow extends ScanningRecipe<HasStrutsVersionBelow.Accumulator> {
+
+    private static final String STRUTS_GROUP = "org.apache.struts";
+
+    private static final XPathMatcher DEPENDENCY_MATCHER = new XPathMatcher("//dependencies/dependency");
+    private static final XPathMatcher PROPERTY_MATCHER = new XPathMatcher("/project/properties/*");
+
+    private static final Pattern GRADLE_DEPENDENCY = Pattern.compile("org\\.apache\\.struts:(struts2?-[\\w-]+):(\\d[\\w.-]*)");
+    private static final Pattern DTD_VERSION = Pattern.compile("DTD Struts Configuration (\\d[\\d.]*)//");
+
+    @Option(displayName = "Version",
+            description = "The Struts version that projects are compared to. Projects on this version or a later one are skipped.",
+            example = "6.0")
+    String version;
+
+    String displayName = "Find projects on a Struts version below";
+
+    String description = "Finds the source files of projects whose Struts version, detected from their Maven or Gradle " +
+            "dependencies or else from the DTD of their Struts XML files, is below the given version.";
+
+    @Value
+    public static class Accumulator {
+        // Project name to the highest Struts version of its dependencies
+        Map<String, String> dependencyVersions = new HashMap<>();
+
+        // Project name to the highest version of the DTD of its Struts XML files
+        Map<String, String> dtdVersions = new HashMap<>();
+
+        // Set once the first cycle has scanned every source file, so that later cycles keep the detected versions
+        AtomicBoolean scanned = new AtomicBoolean();
+
+        void dependency(String project, String version) {
+            dependencyVersions.merge(project, version, HasStrutsVersionBelow::max);
+        }
+
+        void dtd(String project, String version) {
+            dtdVersions.merge(project, version, HasStrutsVersionBelow::max);
+        }
+
+        @Nullable String version(String project) {
+            String dependencyVersion = dependencyVersions.get(project);
+            return dependencyVersion != null ? dependencyVersion : dtdVersions.get(project);
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile) || acc.getScanned().get()) {
+                    return tree;
+                }
+                SourceFile sourceFile = (SourceFile) tree;
+                String project = project(sourceFile);
+                String sourcePath = sourceFile.getSourcePath().toString();
+
+                sourceFile.getMarkers().findFirst(JavaSourceSet.class).ifPresent(sourceSet -> {
+                    for (String gav : sourceSet.getGavToTypes().keySet()) {
+                        String[] coordinates = gav.split(":");
+                        if (coordinates.length == 3 && STRUTS_GROUP.equals(coordinates[0]) && isVersion(coordinates[2])) {
+                            acc.dependency(project, coordinates[2]);
+                        }
+                    }
+                });
+
+                if (tree instanceof Xml.Document) {
+                    if (sourcePath.endsWith("pom.xml")) {
+                        scanPom(acc, project, (Xml.Document) tree);
+                    } else if ("struts".equals(((Xml.Document) tree).getRoot().getName())) {
+                        scanDtd(acc, project, (Xml.Document) tree);
+                    }
+                } else if (sourcePath.endsWith("build.gradle") || sourcePath.endsWith("build.gradle.kts")) {
+                    Matcher matcher = GRADLE_DEPENDENCY.matcher(sourceFile.printAll());
+                    while (matcher.find()) {
+                        acc.dependency(project, matcher.group(2));
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static void scanPom(Accumulator acc, String project, Xml.Document pom) {
+        Map<String, String> properties = new HashMap<>();
+        Map<String, String> versions = new HashMap<>();
+        new XmlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                if (PROPERTY_MATCHER.matches(getCursor())) {
+                    properties.put(tag.getName(), tag.getValue().orElse("").trim());
+                } else if (DEPENDENCY_MATCHER.matches(getCursor()) &&
+                           STRUTS_GROUP.equals(tag.getChildValue("groupId").map(String::trim).orElse(null))) {
+                    tag.getChildValue("version").ifPresent(v ->
+                            versions.put(tag.getChildValue("artifactId").orElse(""), v.trim()));
+                }
+                return super.visitTag(tag, ctx);
+            }
+        }.visit(pom, new InMemoryExecutionContext());
+
+        for (String declared : versions.values()) {
+            String resolved = declared;
+            if (declared.startsWith("${") && declared.endsWith("}")) {
+                resolved = properties.getOrDefault(declared.substring(2, declared.length() - 1), "");
+            }
+            if (isVersion(resolved)) {
+                acc.dependency(project, resolved);
+            }
+        }
+    }
+
+    private static void scanDtd(Accumulator acc, String project, Xml.Document strutsXml) {
+        new XmlIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.DocTypeDecl visitDocTypeDecl(Xml.DocTypeDecl docTypeDecl, ExecutionContext ctx) {
+                if (!docTypeDecl.getInternalSubset().isEmpty()) {
+                    Matcher matcher = DTD_VERSION.matcher(docTypeDecl.getInternalSubset().get(0).getName());
+                    if (matcher.find()) {
+                        acc.dtd(project, matcher.group(1));
+                    }
+                }
+                return docTypeDecl;
+            }
+        }.visit(strutsXml, new InMemoryExecutionContext());
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        acc.getScanned().set(true);
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                String detected = acc.version(project((SourceFile) tree));
+                if (detected == null) {
+                    return SearchResult.found(tree, "Struts version unknown");
+                }
+                return compare(detected, version) < 0 ? SearchResult.found(tree, "Struts " + detected) : tree;
+            }
+        };
+    }
+
+    private static String project(SourceFile sourceFile) {
+        Optional<JavaProject> javaProject = sourceFile.getMarkers().findFirst(JavaProject.class);
+        return javaProject.map(JavaProject::getProjectName).orElse("");
+    }
+
+    private static boolean isVersion(String version) {
+        return !version.isEmpty() && Character.isDigit(version.charAt(0));
+    }
+
+    private static String max(String v1, String v2) {
+        return compare(v1, v2) >= 0 ? v1 : v2;
+    }
+
+    /**
+     * Compares the numeric parts of two versions, ignoring any qualifier, so that a milestone of a version counts as
+     * that version.
+     */
+    static int compare(String v1, String v2) {
+        String[] parts1 = numericPart(v1).split("\\.");
+        String[] parts2 = numericPart(v2).split("\\.");
+        for (int i = 0; i < Math.max(parts1.length, parts2.length); i++) {
+            int c = Integer.compare(part(parts1, i), part(parts2, i));
+            if (c != 0) {
+                return c;
+            }
+        }
+        return 0;
+    }
+
+    private static String numericPart(String version) {
+        int end = 0;
+        while (end < version.length() && (Character.isDigit(version.charAt(end)) || version.charAt(end) == '.')) {
+            end++;
+        }
+        return version.substring(0, end);
+    }
+
+    private static int part(String[] parts, int i) {
+        if (i >= parts.length || parts[i].isEmpty()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(parts[i]);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class ActionTagInvocations extends DataTable<ActionTagInvocations.Row> {
+
+    public ActionTagInvocations(Recipe recipe) {
+        super(recipe,
+                "Action tag invocations",
+                "Action tags in templates, each of which invokes an action with its interceptor stack while the page renders.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source file",
+                description = "The template that contains the action tag.")
+        String sourceFile;
+
+        @Column(displayName = "Line",
+                description = "The line of the action tag in the template.")
+        int line;
+
+        @Column(displayName = "Action name",
+                description = "The name of the invoked action.")
+        String name;
+
+        @Column(displayName = "Namespace",
+                description = "The namespace of the invoked action, if specified.")
+        String namespace;
+
+        @Column(displayName = "Execute result",
+                description = "Whether the result of the invoked action is rendered as well.")
+        boolean executeResult;
+
+        @Column(displayName = "Iterator depth",
+                description = "The number of iterators the action tag is nested in.")
+        int iteratorDepth;
+
+        @Column(displayName = "Estimated invocations",
+                description = "The estimated number of action invocations per render of the template.")
+        long estimatedInvocations;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class ChainedActions extends DataTable<ChainedActions.Row> {
+
+    public ChainedActions(Recipe recipe) {
+        super(recipe,
+                "Chained actions",
+                "Chain results that could not safely be replaced by the result of the chained action.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source file",
+                description = "The source file that the chain result is defined in.")
+        String sourceFile;
+
+        @Column(displayName = "Package",
+                description = "The package of the action.")
+        String pkg;
+
+        @Column(displayName = "Action name",
+                description = "The name of the action declaring the chain result.")
+        String name;
+
+        @Column(displayName = "Result name",
+                description = "The name of the chain result.")
+        String result;
+
+        @Column(displayName = "Target namespace",
+                description = "The namespace of the chained action.")
+        String targetNamespace;
+
+        @Column(displayName = "Target action",
+                description = "The name of the chained action.")
+        String targetAction;
+
+        @Column(displayName = "Chain depth",
+                description = "The number of actions invoked through chain results, following the chained action's own chain results.")
+        int chainDepth;
+
+        @Column(displayName = "Reason",
+                description = "Why the chain result was kept.")
+        String reason;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class DiagnosticInterceptors extends DataTable<DiagnosticInterceptors.Row> {
+
+    public DiagnosticInterceptors(Recipe recipe) {
+        super(recipe,
+                "Diagnostic interceptors",
+                "Actions that ran diagnostic interceptors such as `timer`, `logger`, `profiling` or `debugging` on every request.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source file",
+                description = "The source file that the action is defined in.")
+        String sourceFile;
+
+        @Column(displayName = "Package",
+                description = "The package of the action.")
+        String pkg;
+
+        @Column(displayName = "Action name",
+                description = "The name of the action.")
+        String name;
+
+        @Column(displayName = "Interceptor",
+                description = "The diagnostic interceptor the action ran.")
+        String interceptor;
+
+        @Column(displayName = "Referenced from",
+                description = "The interceptor stack that referenced the interceptor, or `action` when the action referenced it directly.")
+        String referencedFrom;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class FreemarkerCacheOverrides extends DataTable<FreemarkerCacheOverrides.Row> {
+
+    public FreemarkerCacheOverrides(Recipe recipe) {
+        super(recipe,
+                "FreeMarker cache overrides",
+                "Settings in `freemarker.properties` that override the template caching configured through Struts constants.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source file",
+                description = "The `freemarker.properties` file.")
+        String sourceFile;
+
+        @Column(displayName = "Setting",
+                description = "The FreeMarker setting.")
+        String setting;
+
+        @Column(displayName = "Value",
+                description = "The value of the setting.")
+        String value;
+    }
+}
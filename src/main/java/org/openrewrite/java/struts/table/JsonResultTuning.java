@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class JsonResultTuning extends DataTable<JsonResultTuning.Row> {
+
+    public JsonResultTuning(Recipe recipe) {
+        super(recipe,
+                "JSON result tuning",
+                "JSON results that were tuned, and the estimated reduction of their response payload.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source file",
+                description = "The Struts XML file or action class that declares the result.")
+        String sourceFile;
+
+        @Column(displayName = "Action class",
+                description = "The fully qualified name of the action class that is serialized.")
+        String className;
+
+        @Column(displayName = "Result",
+                description = "The name of the JSON result.")
+        String result;
+
+        @Column(displayName = "Exposed properties",
+                description = "The number of properties the JSON plugin serialized before, or 0 when the action class is not in the sources.")
+        int exposedProperties;
+
+        @Column(displayName = "Included properties",
+                description = "The number of properties serialized now.")
+        int includedProperties;
+
+        @Column(displayName = "Compressed",
+                description = "Whether `enableGZIP` was added to the result.")
+        boolean compressed;
+
+        @Column(displayName = "Estimated payload reduction",
+                description = "The estimated reduction of the response size, in percent, assuming properties of equal size and a gzip ratio of 70%.")
+        int estimatedPayloadReduction;
+
+        @Column(displayName = "Serializes null properties",
+                description = "Whether the result still serializes properties whose value is null, as `excludeNullProperties` is not enabled. Enabling it shrinks the response further, for clients that do not check for null properties.")
+        boolean nullPropertiesSerialized;
+    }
+}
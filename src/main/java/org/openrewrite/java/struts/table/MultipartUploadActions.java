@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class MultipartUploadActions extends DataTable<MultipartUploadActions.Row> {
+
+    public MultipartUploadActions(Recipe recipe) {
+        super(recipe,
+                "Multipart upload actions",
+                "Classes that receive file uploads, and whether they work with the streaming multipart parser.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source file",
+                description = "The source file of the class.")
+        String sourceFile;
+
+        @Column(displayName = "Class",
+                description = "The class receiving or handling the upload.")
+        String className;
+
+        @Column(displayName = "Upload property",
+                description = "The `File` property set by the file upload interceptor, if any.")
+        String property;
+
+        @Column(displayName = "Stream parser compatible",
+                description = "Whether the class works unchanged with the `jakarta-stream` multipart parser.")
+        boolean streamParserCompatible;
+
+        @Column(displayName = "Reason",
+                description = "Why the class needs to be changed by hand, if it does.")
+        String reason;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class SimpleThemeForms extends DataTable<SimpleThemeForms.Row> {
+
+    public SimpleThemeForms(Recipe recipe) {
+        super(recipe,
+                "Simple theme forms",
+                "Templates whose forms now render with the `simple` theme, and the theme templates no longer rendered per page view.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source file",
+                description = "The template that contains the forms.")
+        String sourceFile;
+
+        @Column(displayName = "Forms",
+                description = "The number of forms that now render with the `simple` theme.")
+        int forms;
+
+        @Column(displayName = "Fields",
+                description = "The number of form fields and buttons in these forms.")
+        int fields;
+
+        @Column(displayName = "Template renders saved",
+                description = "The estimated number of `xhtml` theme templates, like control headers and footers, no longer rendered per page view.")
+        int templateRendersSaved;
+    }
+}
@@ -51,5 +51,9 @@ public class StrutsActions extends DataTable<StrutsActions.Row> {
         @Column(displayName = "Method name",
                 description = "The method name of the action method.")
         String methodName;
+
+        @Column(displayName = "Namespace",
+                description = "The namespace of the action.")
+        String namespace;
     }
 }
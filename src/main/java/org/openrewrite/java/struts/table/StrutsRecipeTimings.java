@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class StrutsRecipeTimings extends DataTable<StrutsRecipeTimings.Row> {
+
+    public StrutsRecipeTimings(Recipe recipe) {
+        super(recipe,
+                "Struts recipe timings",
+                "The time each Struts recipe spent on each source file, in its scan and edit phases.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Recipe",
+                description = "The name of the recipe.")
+        String recipe;
+
+        @Column(displayName = "Source file",
+                description = "The source file the recipe visited.")
+        String sourceFile;
+
+        @Column(displayName = "Scan time (ns)",
+                description = "The time spent scanning the source file, or 0 for recipes without a scan phase.")
+        long scanTimeNanos;
+
+        @Column(displayName = "Edit time (ns)",
+                description = "The time spent editing the source file.")
+        long editTimeNanos;
+
+        @Column(displayName = "Bytes examined",
+                description = "The size of the text of the source file, when known without printing it.")
+        long bytesExamined;
+
+        @Column(displayName = "Matches",
+                description = "The number of expressions, tags or constants the recipe matched in the source file while editing it.")
+        int matches;
+    }
+}
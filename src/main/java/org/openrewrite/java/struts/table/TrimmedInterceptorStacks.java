@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class TrimmedInterceptorStacks extends DataTable<TrimmedInterceptorStacks.Row> {
+
+    public TrimmedInterceptorStacks(Recipe recipe) {
+        super(recipe,
+                "Trimmed interceptor stacks",
+                "Actions that were moved to a lighter interceptor stack, and the interceptors no longer run per request.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source file",
+                description = "The source file that the action is defined in.")
+        String sourceFile;
+
+        @Column(displayName = "Package",
+                description = "The package of the action.")
+        String pkg;
+
+        @Column(displayName = "Action name",
+                description = "The name of the action.")
+        String name;
+
+        @Column(displayName = "Class",
+                description = "The action class.")
+        String className;
+
+        @Column(displayName = "Original stack",
+                description = "The interceptor stack the action ran before.")
+        String originalStack;
+
+        @Column(displayName = "New stack",
+                description = "The interceptor stack the action runs now.")
+        String newStack;
+
+        @Column(displayName = "Interceptors saved",
+                description = "The number of interceptors no longer invoked for each request to the action.")
+        int interceptorsSaved;
+
+        @Column(displayName = "Removed interceptors",
+                description = "The interceptors no longer invoked for each request to the action.")
+        String removedInterceptors;
+    }
+}
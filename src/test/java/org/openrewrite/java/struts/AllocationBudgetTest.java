@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.LargeSourceSet;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.struts.internal.TagUtils;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Keeps the allocations of recipe hot paths within a budget, so that a regression fails {@code ./gradlew test}. The
+ * budgets of whole recipe runs are taken over what a recipe run that visits nothing allocates, so that they only count
+ * the recipe and not the changes of rewrite-core between its releases.
+ */
+class AllocationBudgetTest {
+
+    private static final StrutsMonorepoGenerator CORPUS = new StrutsMonorepoGenerator(42, 4, 40, 40);
+
+    @BeforeAll
+    static void measurable() {
+        assumeTrue(Allocations.isSupported(), "Thread allocation measurement is not supported");
+    }
+
+    @Test
+    void tagAttributeLookupDoesNotAllocate() {
+        Xml.Tag action = Xml.Tag.build("<action name=\"list\" class=\"com.example.ListAction\" method=\"list\"/>");
+        Runnable lookups = () -> {
+            for (int i = 0; i < 100_000; i++) {
+                TagUtils.getAttribute(action, "method", "");
+                TagUtils.getAttribute(action, "converter", "");
+            }
+        };
+        lookups.run();
+
+        assertThat(Allocations.allocatedBytes(lookups))
+          .as("bytes allocated by 200,000 attribute lookups")
+          .isLessThan(16 * 1024);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+      "org.openrewrite.java.struts.migrate6.MigrateDateTagFormat, 64",
+      "org.openrewrite.java.struts.migrate6.MigrateDynamicMethodInvocation, 256",
+      "org.openrewrite.java.struts.migrate6.MigrateStaticOgnlMethodAccess, 512",
+      "org.openrewrite.java.struts.migrate6.MigrateStruts6Constants, 128",
+      "org.openrewrite.java.struts.search.FindActionTagInvocations, 64",
+      "org.openrewrite.java.struts.search.FindStaticOgnlMethodAccess, 128",
+      "org.openrewrite.java.struts.search.FindStrutsActions, 128"
+    })
+    void recipeStaysWithinBudget(String recipeName, long budgetKilobytesPerFile) {
+        Recipe recipe = Environment.builder()
+          .scanRuntimeClasspath("org.openrewrite.java.struts")
+          .build()
+          .activateRecipes(recipeName);
+        List<SourceFile> sources = CORPUS.parse(new InMemoryExecutionContext());
+        LargeSourceSet sourceSet = new InMemoryLargeSourceSet(sources);
+
+        // The first runs load classes and fill caches, which is not what the budget is about
+        Recipe noop = Recipe.noop();
+        noop.run(sourceSet, new InMemoryExecutionContext());
+        recipe.run(sourceSet, new InMemoryExecutionContext());
+        long overhead = Allocations.allocatedBytes(() -> noop.run(sourceSet, new InMemoryExecutionContext()));
+        long allocated = Allocations.allocatedBytes(() -> recipe.run(sourceSet, new InMemoryExecutionContext()));
+
+        assertThat((allocated - overhead) / sources.size())
+          .as("bytes allocated per file by %s", recipeName)
+          .isLessThanOrEqualTo(budgetKilobytesPerFile * 1024);
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.struts.table.FreemarkerCacheOverrides;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.mavenProject;
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.test.SourceSpecs.text;
+import static org.openrewrite.xml.Assertions.xml;
+
+class ConfigureFreemarkerTemplateCacheTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ConfigureFreemarkerTemplateCache(null, null));
+    }
+
+    @DocumentExample
+    @Test
+    void addCachingConstants() {
+        rewriteRun(
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.devMode" value="false"/>
+                  <package name="app" extends="struts-default">
+                      <action name="list" class="com.example.ListAction">
+                          <result type="freemarker">/list.ftl</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.devMode" value="false"/>
+                  <constant name="struts.freemarker.templatesCache" value="true"/>
+                  <constant name="struts.freemarker.templatesCache.updateDelay" value="3600"/>
+                  <constant name="struts.freemarker.mru.max.strong.size" value="250"/>
+                  <package name="app" extends="struts-default">
+                      <action name="list" class="com.example.ListAction">
+                          <result type="freemarker">/list.ftl</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void enableDisabledCacheForDefaultResultType() {
+        rewriteRun(
+          spec -> spec.recipe(new ConfigureFreemarkerTemplateCache(600, 100)),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.freemarker.templatesCache" value="false"/>
+                  <constant name="struts.freemarker.templatesCache.updateDelay" value="0"/>
+                  <package name="app" extends="struts-default">
+                      <result-types>
+                          <result-type name="ftl" class="org.apache.struts2.views.freemarker.FreemarkerResult" default="true"/>
+                      </result-types>
+                      <action name="list" class="com.example.ListAction">
+                          <result>/list.ftl</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.freemarker.templatesCache" value="true"/>
+                  <constant name="struts.freemarker.templatesCache.updateDelay" value="600"/>
+                  <constant name="struts.freemarker.mru.max.strong.size" value="100"/>
+                  <package name="app" extends="struts-default">
+                      <result-types>
+                          <result-type name="ftl" class="org.apache.struts2.views.freemarker.FreemarkerResult" default="true"/>
+                      </result-types>
+                      <action name="list" class="com.example.ListAction">
+                          <result>/list.ftl</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void onlyReportDisabledCacheInDevMode() {
+        rewriteRun(
+          properties(
+            """
+              struts.devMode=true
+              """,
+            spec -> spec.path("src/main/resources/struts.properties")
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.freemarker.templatesCache" value="false"/>
+                  <constant name="struts.freemarker.templatesCache.updateDelay" value="0"/>
+                  <package name="app" extends="struts-default">
+                      <action name="list" class="com.example.ListAction">
+                          <result type="freemarker">/list.ftl</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <!--~~(Disables template caching, kept as struts.devMode is configured)~~>--><constant name="struts.freemarker.templatesCache" value="false"/>
+                  <!--~~(Disables template caching, kept as struts.devMode is configured)~~>--><constant name="struts.freemarker.templatesCache.updateDelay" value="0"/>
+                  <constant name="struts.freemarker.mru.max.strong.size" value="250"/>
+                  <package name="app" extends="struts-default">
+                      <action name="list" class="com.example.ListAction">
+                          <result type="freemarker">/list.ftl</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void configureEachProject() {
+        rewriteRun(
+          mavenProject("web",
+            xml(
+              //language=xml
+              """
+                <struts>
+                    <package name="web" extends="struts-default">
+                        <action name="list" class="com.example.ListAction">
+                            <result type="freemarker">/list.ftl</result>
+                        </action>
+                    </package>
+                </struts>
+                """,
+              //language=xml
+              """
+                <struts>
+                    <constant name="struts.freemarker.templatesCache" value="true"/>
+                    <constant name="struts.freemarker.templatesCache.updateDelay" value="3600"/>
+                    <constant name="struts.freemarker.mru.max.strong.size" value="250"/>
+                    <package name="web" extends="struts-default">
+                        <action name="list" class="com.example.ListAction">
+                            <result type="freemarker">/list.ftl</result>
+                        </action>
+                    </package>
+                </struts>
+                """,
+              spec -> spec.path("src/main/resources/struts.xml")
+            )
+          ),
+          mavenProject("api",
+            xml(
+              //language=xml
+              """
+                <struts>
+                    <constant name="struts.freemarker.templatesCache.updateDelay" value="60"/>
+                    <package name="api" extends="struts-default">
+                        <action name="export" class="com.example.ExportAction">
+                            <result type="freemarker">/export.ftl</result>
+                        </action>
+                    </package>
+                </struts>
+                """,
+              //language=xml
+              """
+                <struts>
+                    <constant name="struts.freemarker.templatesCache.updateDelay" value="60"/>
+                    <constant name="struts.freemarker.templatesCache" value="true"/>
+                    <constant name="struts.freemarker.mru.max.strong.size" value="250"/>
+                    <package name="api" extends="struts-default">
+                        <action name="export" class="com.example.ExportAction">
+                            <result type="freemarker">/export.ftl</result>
+                        </action>
+                    </package>
+                </struts>
+                """,
+              spec -> spec.path("src/main/resources/struts.xml")
+            )
+          ),
+          mavenProject("jsp",
+            xml(
+              //language=xml
+              """
+                <struts>
+                    <package name="jsp" extends="struts-default">
+                        <action name="home" class="com.example.HomeAction">
+                            <result>/home.jsp</result>
+                        </action>
+                    </package>
+                </struts>
+                """,
+              spec -> spec.path("src/main/resources/struts.xml")
+            )
+          )
+        );
+    }
+
+    @Test
+    void reportFreemarkerPropertiesOverrides() {
+        rewriteRun(
+          spec -> spec.dataTable(FreemarkerCacheOverrides.Row.class, rows ->
+            assertThat(rows).containsExactly(
+              new FreemarkerCacheOverrides.Row("src/main/resources/freemarker.properties", "template_update_delay", "0"),
+              new FreemarkerCacheOverrides.Row("src/main/resources/freemarker.properties", "cache_storage", "strong:0, soft:0"))),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.freemarker.templatesCache" value="true"/>
+                  <constant name="struts.freemarker.templatesCache.updateDelay" value="3600"/>
+                  <constant name="struts.freemarker.mru.max.strong.size" value="250"/>
+                  <package name="app" extends="struts-default">
+                      <action name="list" class="com.example.ListAction">
+                          <result type="freemarker">/list.ftl</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          ),
+          text(
+            """
+              # development settings
+              template_update_delay=0
+              cache_storage = strong:0, soft:0
+              default_encoding=UTF-8
+              """,
+            """
+              ~~(Overrides the template cache configured by Struts)~~># development settings
+              template_update_delay=0
+              cache_storage = strong:0, soft:0
+              default_encoding=UTF-8
+              """,
+            spec -> spec.path("src/main/resources/freemarker.properties")
+          )
+        );
+    }
+
+    @Test
+    void noFreemarkerResults() {
+        rewriteRun(
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="list" class="com.example.ListAction">
+                          <result>/list.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.mavenProject;
+import static org.openrewrite.test.SourceSpecs.text;
+import static org.openrewrite.xml.Assertions.xml;
+
+class ExcludeStaticAssetsFromStrutsFilterTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ExcludeStaticAssetsFromStrutsFilter());
+    }
+
+    @DocumentExample
+    @Test
+    void addExcludePatternForStaticDirectories() {
+        rewriteRun(
+          text("body { margin: 0; }", spec -> spec.path("src/main/webapp/css/site.css")),
+          text("console.log('hello');", spec -> spec.path("src/main/webapp/js/app.js")),
+          text("<html/>", spec -> spec.path("src/main/webapp/WEB-INF/content/index.html")),
+          xml(
+            //language=xml
+            """
+              <web-app>
+                  <filter>
+                      <filter-name>struts2</filter-name>
+                      <filter-class>org.apache.struts2.dispatcher.filter.StrutsPrepareAndExecuteFilter</filter-class>
+                  </filter>
+                  <filter-mapping>
+                      <filter-name>struts2</filter-name>
+                      <url-pattern>/*</url-pattern>
+                  </filter-mapping>
+              </web-app>
+              """,
+            //language=xml
+            """
+              <web-app>
+                  <filter>
+                      <filter-name>struts2</filter-name>
+                      <filter-class>org.apache.struts2.dispatcher.filter.StrutsPrepareAndExecuteFilter</filter-class>
+                      <init-param>
+                          <param-name>struts.action.excludePattern</param-name>
+                          <param-value>/css/.*,/js/.*</param-value>
+                      </init-param>
+                  </filter>
+                  <filter-mapping>
+                      <filter-name>struts2</filter-name>
+                      <url-pattern>/*</url-pattern>
+                  </filter-mapping>
+              </web-app>
+              """,
+            spec -> spec.path("src/main/webapp/WEB-INF/web.xml")
+          )
+        );
+    }
+
+    @Test
+    void keepExistingExcludePattern() {
+        rewriteRun(
+          text("body { margin: 0; }", spec -> spec.path("src/main/webapp/css/site.css")),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.action.excludePattern" value="/static/.*"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          ),
+          xml(
+            //language=xml
+            """
+              <web-app>
+                  <filter>
+                      <filter-name>struts2</filter-name>
+                      <filter-class>org.apache.struts2.dispatcher.filter.StrutsPrepareAndExecuteFilter</filter-class>
+                  </filter>
+                  <filter-mapping>
+                      <filter-name>struts2</filter-name>
+                      <url-pattern>/*</url-pattern>
+                  </filter-mapping>
+              </web-app>
+              """,
+            spec -> spec.path("src/main/webapp/WEB-INF/web.xml")
+          )
+        );
+    }
+
+    @Test
+    void onlyEditInitParamsOfStrutsFilter() {
+        rewriteRun(
+          text("body { margin: 0; }", spec -> spec.path("src/main/webapp/css/site.css")),
+          xml(
+            //language=xml
+            """
+              <web-app>
+                  <filter>
+                      <filter-name>cache</filter-name>
+                      <filter-class>com.example.CacheFilter</filter-class>
+                      <init-param>
+                          <param-name>struts.action.excludePattern</param-name>
+                          <param-value>/api/.*</param-value>
+                      </init-param>
+                      <init-param>
+                          <param-name>struts.serve.static.browserCache</param-name>
+                          <param-value>false</param-value>
+                      </init-param>
+                  </filter>
+                  <filter>
+                      <filter-name>struts2</filter-name>
+                      <filter-class>org.apache.struts2.dispatcher.filter.StrutsPrepareAndExecuteFilter</filter-class>
+                      <init-param>
+                          <param-name>struts.serve.static.browserCache</param-name>
+                          <param-value>false</param-value>
+                      </init-param>
+                  </filter>
+                  <filter-mapping>
+                      <filter-name>struts2</filter-name>
+                      <url-pattern>/*</url-pattern>
+                  </filter-mapping>
+              </web-app>
+              """,
+            //language=xml
+            """
+              <web-app>
+                  <filter>
+                      <filter-name>cache</filter-name>
+                      <filter-class>com.example.CacheFilter</filter-class>
+                      <init-param>
+                          <param-name>struts.action.excludePattern</param-name>
+                          <param-value>/api/.*</param-value>
+                      </init-param>
+                      <init-param>
+                          <param-name>struts.serve.static.browserCache</param-name>
+                          <param-value>false</param-value>
+                      </init-param>
+                  </filter>
+                  <filter>
+                      <filter-name>struts2</filter-name>
+                      <filter-class>org.apache.struts2.dispatcher.filter.StrutsPrepareAndExecuteFilter</filter-class>
+                      <init-param>
+                          <param-name>struts.serve.static.browserCache</param-name>
+                          <param-value>true</param-value>
+                      </init-param>
+                      <init-param>
+                          <param-name>struts.action.excludePattern</param-name>
+                          <param-value>/css/.*</param-value>
+                      </init-param>
+                  </filter>
+                  <filter-mapping>
+                      <filter-name>struts2</filter-name>
+                      <url-pattern>/*</url-pattern>
+                  </filter-mapping>
+              </web-app>
+              """,
+            spec -> spec.path("src/main/webapp/WEB-INF/web.xml")
+          )
+        );
+    }
+
+    @Test
+    void enableBrowserCache() {
+        rewriteRun(
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.serve.static.browserCache" value="false"/>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.serve.static.browserCache" value="true"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void configureEachWebApplication() {
+        rewriteRun(
+          mavenProject("shop",
+            text("body { margin: 0; }", spec -> spec.path("src/main/webapp/css/site.css")),
+            xml(
+              //language=xml
+              """
+                <web-app>
+                    <filter>
+                        <filter-name>struts2</filter-name>
+                        <filter-class>org.apache.struts2.dispatcher.filter.StrutsPrepareAndExecuteFilter</filter-class>
+                    </filter>
+                    <filter-mapping>
+                        <filter-name>struts2</filter-name>
+                        <url-pattern>/*</url-pattern>
+                    </filter-mapping>
+                </web-app>
+                """,
+              //language=xml
+              """
+                <web-app>
+                    <filter>
+                        <filter-name>struts2</filter-name>
+                        <filter-class>org.apache.struts2.dispatcher.filter.StrutsPrepareAndExecuteFilter</filter-class>
+                        <init-param>
+                            <param-name>struts.action.excludePattern</param-name>
+                            <param-value>/css/.*</param-value>
+                        </init-param>
+                    </filter>
+                    <filter-mapping>
+                        <filter-name>struts2</filter-name>
+                        <url-pattern>/*</url-pattern>
+                    </filter-mapping>
+                </web-app>
+                """,
+              spec -> spec.path("src/main/webapp/WEB-INF/web.xml")
+            )
+          ),
+          mavenProject("admin",
+            text("console.log('hello');", spec -> spec.path("src/main/webapp/js/app.js")),
+            xml(
+              //language=xml
+              """
+                <struts>
+                    <constant name="struts.action.excludePattern" value="/static/.*"/>
+                </struts>
+                """,
+              spec -> spec.path("src/main/resources/struts.xml")
+            ),
+            xml(
+              //language=xml
+              """
+                <web-app>
+                    <filter>
+                        <filter-name>struts2</filter-name>
+                        <filter-class>org.apache.struts2.dispatcher.filter.StrutsPrepareAndExecuteFilter</filter-class>
+                    </filter>
+                    <filter-mapping>
+                        <filter-name>struts2</filter-name>
+                        <url-pattern>/*</url-pattern>
+                    </filter-mapping>
+                </web-app>
+                """,
+              spec -> spec.path("src/main/webapp/WEB-INF/web.xml")
+            )
+          )
+        );
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class HoistActionContextLookupsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new HoistActionContextLookups())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("javax.servlet-api")
+            .addClasspathEntry(JavaParser.dependenciesFromResources(new InMemoryExecutionContext(), "struts2-core-6.0").getFirst()));
+    }
+
+    @DocumentExample
+    @Test
+    void hoistRepeatedAndLoopedLookups() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionContext;
+              import com.opensymphony.xwork2.ActionSupport;
+              import org.apache.struts2.ServletActionContext;
+
+              import javax.servlet.http.HttpServletRequest;
+
+              public class ReportAction extends ActionSupport {
+                  private String[] names;
+
+                  public String execute() {
+                      String locale = ActionContext.getContext().getLocale().toString();
+                      ServletActionContext.getRequest().setAttribute("locale", locale);
+                      for (String name : names) {
+                          ServletActionContext.getRequest().setAttribute(name, ActionContext.getContext().getName());
+                      }
+                      return SUCCESS;
+                  }
+
+                  private String remoteAddress(HttpServletRequest httpRequest) {
+                      return httpRequest.getRemoteAddr();
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionContext;
+              import com.opensymphony.xwork2.ActionSupport;
+              import org.apache.struts2.ServletActionContext;
+
+              import javax.servlet.http.HttpServletRequest;
+
+              public class ReportAction extends ActionSupport {
+                  private String[] names;
+
+                  public String execute() {
+                      ActionContext actionContext = ActionContext.getContext();
+                      String locale = actionContext.getLocale().toString();
+                      HttpServletRequest request = ServletActionContext.getRequest();
+                      request.setAttribute("locale", locale);
+                      for (String name : names) {
+                          request.setAttribute(name, actionContext.getName());
+                      }
+                      return SUCCESS;
+                  }
+
+                  private String remoteAddress(HttpServletRequest httpRequest) {
+                      return httpRequest.getRemoteAddr();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepGuardedLookupsInsideTheirGuard() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionContext;
+              import com.opensymphony.xwork2.ActionSupport;
+              import org.apache.struts2.ServletActionContext;
+
+              public class AuditAction extends ActionSupport {
+                  private String[] names;
+
+                  public String execute() {
+                      if (ActionContext.getContext() != null) {
+                          ServletActionContext.getRequest().setAttribute("user", getText("user"));
+                          ServletActionContext.getRequest().setAttribute("time", getText("time"));
+                      }
+                      return SUCCESS;
+                  }
+
+                  public String list() {
+                      for (String name : names) {
+                          ServletActionContext.getRequest().setAttribute(name, name);
+                      }
+                      return SUCCESS;
+                  }
+
+                  public String search(boolean verbose) {
+                      if (verbose) {
+                          ServletActionContext.getRequest().setAttribute("verbose", verbose);
+                      } else {
+                          ServletActionContext.getRequest().removeAttribute("verbose");
+                      }
+                      return SUCCESS;
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionContext;
+              import com.opensymphony.xwork2.ActionSupport;
+              import org.apache.struts2.ServletActionContext;
+
+              import javax.servlet.http.HttpServletRequest;
+
+              public class AuditAction extends ActionSupport {
+                  private String[] names;
+
+                  public String execute() {
+                      if (ActionContext.getContext() != null) {
+                          HttpServletRequest request = ServletActionContext.getRequest();
+                          request.setAttribute("user", getText("user"));
+                          request.setAttribute("time", getText("time"));
+                      }
+                      return SUCCESS;
+                  }
+
+                  public String list() {
+                      for (String name : names) {
+                          ServletActionContext.getRequest().setAttribute(name, name);
+                      }
+                      return SUCCESS;
+                  }
+
+                  public String search(boolean verbose) {
+                      if (verbose) {
+                          ServletActionContext.getRequest().setAttribute("verbose", verbose);
+                      } else {
+                          ServletActionContext.getRequest().removeAttribute("verbose");
+                      }
+                      return SUCCESS;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reuseExistingLocal() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionSupport;
+              import org.apache.struts2.ServletActionContext;
+
+              import javax.servlet.http.HttpServletRequest;
+
+              public class SearchAction extends ActionSupport {
+                  public String execute() {
+                      HttpServletRequest request = ServletActionContext.getRequest();
+                      String query = request.getParameter("q");
+                      String page = ServletActionContext.getRequest().getParameter("page");
+                      return SUCCESS;
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionSupport;
+              import org.apache.struts2.ServletActionContext;
+
+              import javax.servlet.http.HttpServletRequest;
+
+              public class SearchAction extends ActionSupport {
+                  public String execute() {
+                      HttpServletRequest request = ServletActionContext.getRequest();
+                      String query = request.getParameter("q");
+                      String page = request.getParameter("page");
+                      return SUCCESS;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void replaceFindValueWithGetter() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionContext;
+              import com.opensymphony.xwork2.ActionSupport;
+
+              public class ProfileAction extends ActionSupport {
+                  private String userName;
+
+                  public String getUserName() {
+                      return userName;
+                  }
+
+                  public String execute() {
+                      Object name = ActionContext.getContext().getValueStack().findValue("userName");
+                      Object address = ActionContext.getContext().getValueStack().findValue("user.address");
+                      addActionMessage("Hello " + name + " from " + address);
+                      return SUCCESS;
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionContext;
+              import com.opensymphony.xwork2.ActionSupport;
+
+              public class ProfileAction extends ActionSupport {
+                  private String userName;
+
+                  public String getUserName() {
+                      return userName;
+                  }
+
+                  public String execute() {
+                      Object name = getUserName();
+                      Object address = ActionContext.getContext().getValueStack().findValue("user.address");
+                      addActionMessage("Hello " + name + " from " + address);
+                      return SUCCESS;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void castGetterPassedToOverloadedMethod() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionContext;
+              import com.opensymphony.xwork2.ActionSupport;
+
+              public class ProfileAction extends ActionSupport {
+                  private String userName;
+
+                  public String getUserName() {
+                      return userName;
+                  }
+
+                  public String execute() {
+                      log(ActionContext.getContext().getValueStack().findValue("userName"));
+                      log(ActionContext.getContext().getName());
+                      return SUCCESS;
+                  }
+
+                  private void log(Object value) {
+                  }
+
+                  private void log(String value) {
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionContext;
+              import com.opensymphony.xwork2.ActionSupport;
+
+              public class ProfileAction extends ActionSupport {
+                  private String userName;
+
+                  public String getUserName() {
+                      return userName;
+                  }
+
+                  public String execute() {
+                      log((Object) getUserName());
+                      log(ActionContext.getContext().getName());
+                      return SUCCESS;
+                  }
+
+                  private void log(Object value) {
+                  }
+
+                  private void log(String value) {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepFindValueOnOtherValueStacks() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionSupport;
+              import com.opensymphony.xwork2.util.ValueStack;
+
+              public class ProfileAction extends ActionSupport {
+                  private String userName;
+
+                  public String getUserName() {
+                      return userName;
+                  }
+
+                  public Object lookup(ValueStack stack) {
+                      return stack.findValue("userName");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepLookupsInLambdasAndModelDrivenActions() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionContext;
+              import com.opensymphony.xwork2.ActionSupport;
+              import com.opensymphony.xwork2.ModelDriven;
+
+              import java.util.function.Supplier;
+
+              public class UserAction extends ActionSupport implements ModelDriven<Object> {
+                  private final Object user = new Object();
+
+                  public Object getModel() {
+                      return user;
+                  }
+
+                  public String getName() {
+                      return "name";
+                  }
+
+                  public String execute() {
+                      Supplier<Object> locale = () -> ActionContext.getContext().getLocale();
+                      Supplier<Object> name = () -> ActionContext.getContext().getValueStack().findValue("name");
+                      return SUCCESS;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.struts.table.DiagnosticInterceptors;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.xml.Assertions.xml;
+
+class RemoveDiagnosticInterceptorsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new RemoveDiagnosticInterceptors());
+    }
+
+    @DocumentExample
+    @Test
+    void removeFromInheritedStack() {
+        rewriteRun(
+          spec -> spec.dataTable(DiagnosticInterceptors.Row.class, rows ->
+            assertThat(rows).containsExactlyInAnyOrder(
+              new DiagnosticInterceptors.Row("base.xml", "admin", "users", "timer", "appStack"),
+              new DiagnosticInterceptors.Row("base.xml", "admin", "users", "logger", "appStack"),
+              new DiagnosticInterceptors.Row("base.xml", "admin", "users", "debugging", "defaultStack"),
+              new DiagnosticInterceptors.Row("base.xml", "admin", "report", "profiling", "action"),
+              new DiagnosticInterceptors.Row("base.xml", "admin", "report", "debugging", "defaultStack")
+            )),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="base" extends="struts-default">
+                      <interceptors>
+                          <interceptor-stack name="appStack">
+                              <interceptor-ref name="timer"/>
+                              <interceptor-ref name="logger"/>
+                              <interceptor-ref name="defaultStack"/>
+                          </interceptor-stack>
+                      </interceptors>
+                      <default-interceptor-ref name="appStack"/>
+                  </package>
+                  <package name="admin" extends="base" namespace="/admin">
+                      <action name="users" class="com.example.UsersAction">
+                          <result>/users.jsp</result>
+                      </action>
+                      <action name="report" class="com.example.ReportAction">
+                          <interceptor-ref name="profiling"/>
+                          <interceptor-ref name="defaultStack"/>
+                          <result>/report.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <package name="base" extends="struts-default">
+                      <interceptors>
+                          <interceptor-stack name="appStack">
+                              <interceptor-ref name="defaultStack"/>
+                          </interceptor-stack>
+                      </interceptors>
+                      <default-interceptor-ref name="appStack"/>
+                  </package>
+                  <package name="admin" extends="base" namespace="/admin">
+                      <action name="users" class="com.example.UsersAction">
+                          <result>/users.jsp</result>
+                      </action>
+                      <action name="report" class="com.example.ReportAction">
+                          <interceptor-ref name="defaultStack"/>
+                          <result>/report.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("base.xml")
+          )
+        );
+    }
+
+    @Test
+    void removeCustomDeclarationOfDiagnosticClass() {
+        rewriteRun(
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <interceptors>
+                          <interceptor name="stopwatch" class="com.opensymphony.xwork2.interceptor.TimerInterceptor"/>
+                          <interceptor-stack name="appStack">
+                              <interceptor-ref name="stopwatch"/>
+                              <interceptor-ref name="defaultStack"/>
+                          </interceptor-stack>
+                      </interceptors>
+                  </package>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <interceptors>
+                          <interceptor name="stopwatch" class="com.opensymphony.xwork2.interceptor.TimerInterceptor"/>
+                          <interceptor-stack name="appStack">
+                              <interceptor-ref name="defaultStack"/>
+                          </interceptor-stack>
+                      </interceptors>
+                  </package>
+              </struts>
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepOnlyInterceptorOfAction() {
+        rewriteRun(
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="ping">
+                          <interceptor-ref name="timer"/>
+                          <result>/ping.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportStockDefaultStack() {
+        rewriteRun(
+          spec -> spec.dataTable(DiagnosticInterceptors.Row.class, rows ->
+            assertThat(rows).containsExactly(
+              new DiagnosticInterceptors.Row("struts.xml", "app", "home", "debugging", "defaultStack")
+            )),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="home" class="com.example.HomeAction">
+                          <result>/home.jsp</result>
+                      </action>
+                      <action name="upload" class="com.example.UploadAction">
+                          <interceptor-ref name="fileUploadStack"/>
+                          <result>/upload.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void resolveInterceptorNamesPerPackage() {
+        rewriteRun(
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="reports" extends="struts-default">
+                      <interceptors>
+                          <interceptor name="audit" class="com.opensymphony.xwork2.interceptor.LoggingInterceptor"/>
+                          <interceptor-stack name="reportStack">
+                              <interceptor-ref name="audit"/>
+                              <interceptor-ref name="defaultStack"/>
+                          </interceptor-stack>
+                      </interceptors>
+                  </package>
+                  <package name="orders" extends="struts-default">
+                      <interceptors>
+                          <interceptor name="audit" class="com.example.AuditInterceptor"/>
+                          <interceptor-stack name="orderStack">
+                              <interceptor-ref name="audit"/>
+                              <interceptor-ref name="defaultStack"/>
+                          </interceptor-stack>
+                      </interceptors>
+                  </package>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <package name="reports" extends="struts-default">
+                      <interceptors>
+                          <interceptor name="audit" class="com.opensymphony.xwork2.interceptor.LoggingInterceptor"/>
+                          <interceptor-stack name="reportStack">
+                              <interceptor-ref name="defaultStack"/>
+                          </interceptor-stack>
+                      </interceptors>
+                  </package>
+                  <package name="orders" extends="struts-default">
+                      <interceptors>
+                          <interceptor name="audit" class="com.example.AuditInterceptor"/>
+                          <interceptor-stack name="orderStack">
+                              <interceptor-ref name="audit"/>
+                              <interceptor-ref name="defaultStack"/>
+                          </interceptor-stack>
+                      </interceptors>
+                  </package>
+              </struts>
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.struts.table.ChainedActions;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.xml.Assertions.xml;
+
+class ReplaceChainResultsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ReplaceChainResults());
+    }
+
+    @DocumentExample
+    @Test
+    void replaceChainToViewOnlyAction() {
+        rewriteRun(
+          spec -> spec.dataTable(ChainedActions.Row.class, rows ->
+            assertThat(rows).containsExactly(
+              new ChainedActions.Row("struts.xml", "app", "save", "input", "", "edit", 1,
+                "The chained action has class com.example.EditAction"))),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="save" class="com.example.SaveAction">
+                          <result type="chain">confirmation</result>
+                          <result name="input" type="chain">edit</result>
+                      </action>
+                      <action name="confirmation">
+                          <result>/confirmation.jsp</result>
+                      </action>
+                      <action name="edit" class="com.example.EditAction">
+                          <result>/edit.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="save" class="com.example.SaveAction">
+                          <result type="dispatcher">/confirmation.jsp</result>
+                          <result name="input" type="chain">edit</result>
+                      </action>
+                      <action name="confirmation">
+                          <result>/confirmation.jsp</result>
+                      </action>
+                      <action name="edit" class="com.example.EditAction">
+                          <result>/edit.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void followChainsToRedirect() {
+        rewriteRun(
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="logout" class="com.example.LogoutAction">
+                          <result type="chain">
+                              <param name="actionName">bye</param>
+                          </result>
+                      </action>
+                      <action name="bye">
+                          <result type="chain">home</result>
+                      </action>
+                      <action name="home" class="com.opensymphony.xwork2.ActionSupport">
+                          <result type="redirectAction">
+                              <param name="actionName">index</param>
+                          </result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="logout" class="com.example.LogoutAction">
+                          <result type="redirectAction">
+                              <param name="actionName">index</param>
+                          </result>
+                      </action>
+                      <action name="bye">
+                          <result type="redirectAction">
+                              <param name="actionName">index</param>
+                          </result>
+                      </action>
+                      <action name="home" class="com.opensymphony.xwork2.ActionSupport">
+                          <result type="redirectAction">
+                              <param name="actionName">index</param>
+                          </result>
+                      </action>
+                  </package>
+              </struts>
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportDepthOfKeptChain() {
+        rewriteRun(
+          spec -> spec.dataTable(ChainedActions.Row.class, rows ->
+            assertThat(rows).extracting(ChainedActions.Row::getName, ChainedActions.Row::getChainDepth)
+              .containsExactlyInAnyOrder(
+                tuple("first", 2),
+                tuple("second", 1))),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default" namespace="/app">
+                      <action name="first" class="com.example.FirstAction">
+                          <result type="chain">second</result>
+                      </action>
+                      <action name="second" class="com.example.SecondAction">
+                          <result type="chain">third</result>
+                      </action>
+                      <action name="third" class="com.example.ThirdAction">
+                          <result>third.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepChainIntoSecuredPackage() {
+        rewriteRun(
+          spec -> spec.dataTable(ChainedActions.Row.class, rows ->
+            assertThat(rows).containsExactlyInAnyOrder(
+              new ChainedActions.Row("struts.xml", "public", "login", "success", "/admin", "dashboard", 1,
+                "The package of the chained action runs interceptor stack authStack"),
+              new ChainedActions.Row("struts.xml", "public", "report", "success", "/reports", "monthly", 1,
+                "The package of the chained action has default class com.example.ReportAction"))),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="secured" extends="struts-default">
+                      <interceptors>
+                          <interceptor name="auth" class="com.example.AuthInterceptor"/>
+                          <interceptor-stack name="authStack">
+                              <interceptor-ref name="auth"/>
+                              <interceptor-ref name="defaultStack"/>
+                          </interceptor-stack>
+                      </interceptors>
+                      <default-interceptor-ref name="authStack"/>
+                  </package>
+                  <package name="admin" extends="secured" namespace="/admin">
+                      <action name="dashboard">
+                          <result>/admin/dashboard.jsp</result>
+                      </action>
+                  </package>
+                  <package name="reports" extends="struts-default" namespace="/reports">
+                      <default-class-ref class="com.example.ReportAction"/>
+                      <action name="monthly">
+                          <result>/reports/monthly.jsp</result>
+                      </action>
+                  </package>
+                  <package name="public" extends="struts-default">
+                      <action name="login" class="com.example.LoginAction">
+                          <result type="chain">
+                              <param name="namespace">/admin</param>
+                              <param name="actionName">dashboard</param>
+                          </result>
+                      </action>
+                      <action name="report" class="com.example.IndexAction">
+                          <result type="chain">
+                              <param name="namespace">/reports</param>
+                              <param name="actionName">monthly</param>
+                          </result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("struts.xml")
+          )
+        );
+    }
+}
@@ -0,0 +1,369 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.mavenProject;
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.xml.Assertions.xml;
+
+class RestrictConventionPluginScanningTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new RestrictConventionPluginScanning())
+          .parser(JavaParser.fromJavaVersion()
+            //language=java
+            .dependsOn(
+              """
+                package org.apache.struts2.convention.annotation;
+                public @interface Action {
+                    String value() default "";
+                }
+                """,
+              """
+                package org.apache.struts2.convention.annotation;
+                public @interface Namespace {
+                    String value();
+                }
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void restrictToActionPackages() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example.web.orders;
+
+              import org.apache.struts2.convention.annotation.Action;
+              import org.apache.struts2.convention.annotation.Namespace;
+
+              @Namespace("/orders")
+              public class ListOrders {
+                  @Action("list")
+                  public String execute() {
+                      return "success";
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example.web.actions.reports;
+
+              public class MonthlyReportAction {
+                  public String execute() {
+                      return "success";
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example.web.users;
+
+              public class EditUserAction {
+                  public String execute() {
+                      return "success";
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example.service;
+
+              public class UserService {
+              }
+              """
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.devMode" value="false"/>
+                  <package name="app" extends="convention-default"/>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.devMode" value="false"/>
+                  <constant name="struts.convention.action.packages" value="com.example.web.actions.reports,com.example.web.orders"/>
+                  <constant name="struts.convention.package.locators.basePackage" value="com.example.web"/>
+                  <constant name="struts.convention.exclude.parentClassLoader" value="true"/>
+                  <package name="app" extends="convention-default"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void keepConfiguredConstants() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example.actions;
+
+              import org.apache.struts2.convention.annotation.Action;
+
+              public class Home {
+                  @Action("home")
+                  public String execute() {
+                      return "success";
+                  }
+              }
+              """
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.convention.action.packages" value="com.example"/>
+                  <constant name="struts.convention.package.locators.basePackage" value="com.example"/>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.convention.action.packages" value="com.example"/>
+                  <constant name="struts.convention.package.locators.basePackage" value="com.example"/>
+                  <constant name="struts.convention.exclude.parentClassLoader" value="true"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void keepConstantsConfiguredInStrutsProperties() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example.actions;
+
+              import org.apache.struts2.convention.annotation.Action;
+
+              public class Home {
+                  @Action("home")
+                  public String execute() {
+                      return "success";
+                  }
+              }
+              """
+          ),
+          properties(
+            """
+              struts.convention.action.packages : com.example.actions
+              struts.convention.exclude.parentClassLoader = \
+                true
+              """,
+            spec -> spec.path("src/main/resources/struts.properties")
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.convention.package.locators.basePackage" value="com.example"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void configureEachProjectOnItsOwn() {
+        rewriteRun(
+          mavenProject("web",
+            //language=java
+            java(
+              """
+                package com.example.web.actions;
+
+                import org.apache.struts2.convention.annotation.Action;
+
+                public class Home {
+                    @Action("home")
+                    public String execute() {
+                        return "success";
+                    }
+                }
+                """
+            ),
+            xml(
+              //language=xml
+              """
+                <struts>
+                </struts>
+                """,
+              //language=xml
+              """
+                <struts>
+                    <constant name="struts.convention.action.packages" value="com.example.web.actions"/>
+                    <constant name="struts.convention.package.locators.basePackage" value="com.example.web"/>
+                    <constant name="struts.convention.exclude.parentClassLoader" value="true"/>
+                </struts>
+                """,
+              spec -> spec.path("src/main/resources/struts.xml")
+            )
+          ),
+          mavenProject("admin",
+            //language=java
+            java(
+              """
+                package com.example.admin.action;
+
+                public class AuditAction {
+                    public String execute() {
+                        return "success";
+                    }
+                }
+                """
+            ),
+            xml(
+              //language=xml
+              """
+                <struts>
+                    <package name="admin" extends="struts-default">
+                        <action name="audit" class="com.example.admin.action.AuditAction"/>
+                    </package>
+                </struts>
+                """,
+              spec -> spec.path("src/main/resources/struts.xml")
+            )
+          )
+        );
+    }
+
+    @Test
+    void leaveOutActionClassesOutsideLocators() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example.orders;
+
+              import org.apache.struts2.convention.annotation.Action;
+
+              public class ListOrders {
+                  @Action("list")
+                  public String execute() {
+                      return "success";
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example.web.users;
+
+              public class EditUserAction {
+                  public String execute() {
+                      return "success";
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example.web.admin;
+
+              public class AuditAction {
+                  public String execute() {
+                      return "success";
+                  }
+              }
+              """
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.convention.package.locators" value="admin"/>
+                  <package name="app" extends="convention-default">
+                      <action name="editUser" class="com.example.web.users.EditUserAction"/>
+                  </package>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.convention.package.locators" value="admin"/>
+                  <constant name="struts.convention.action.packages" value="com.example.orders,com.example.web.admin"/>
+                  <constant name="struts.convention.package.locators.basePackage" value="com.example.web"/>
+                  <constant name="struts.convention.exclude.parentClassLoader" value="true"/>
+                  <package name="app" extends="convention-default">
+                      <action name="editUser" class="com.example.web.users.EditUserAction"/>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void noChangeWithoutConventionPlugin() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example.web;
+
+              public class LoginAction {
+              }
+              """
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="login" class="com.example.web.LoginAction"/>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+}
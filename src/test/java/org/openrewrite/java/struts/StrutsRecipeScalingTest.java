@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.LargeSourceSet;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs recipes over a {@link StrutsMonorepoGenerator} corpus at 1, 10 and 100 times its base size, and checks that both
+ * their time and the bytes they allocate grow linearly with the number of source files. Allocations do not depend on
+ * the load of the machine, but a join that only compares what it already holds allocates nothing per comparison, so
+ * the time is checked as well. Excluded from {@code ./gradlew test}; run with {@code ./gradlew scaleTest}.
+ */
+class StrutsRecipeScalingTest {
+
+    private static final StrutsMonorepoGenerator BASE = new StrutsMonorepoGenerator(42, 2, 10, 10);
+    private static final int[] FACTORS = {1, 10, 100};
+
+    // How much the allocations per source file may grow from one corpus size to the next before they count as superlinear
+    private static final double ALLOCATION_TOLERANCE = 1.5;
+
+    // How much the time of the largest corpus may exceed the linear extrapolation from the smaller ones
+    private static final double TIME_TOLERANCE = 2.0;
+
+    // The timed runs per corpus size, of which the median is taken
+    private static final int RUNS = 5;
+
+    @Test
+    void generatorIsDeterministic() {
+        StrutsMonorepoGenerator generator = new StrutsMonorepoGenerator(7, 3, 20, 15);
+        assertThat(generator.generate())
+          .hasSize(generator.getSourceFileCount())
+          .isEqualTo(new StrutsMonorepoGenerator(7, 3, 20, 15).generate())
+          .isNotEqualTo(new StrutsMonorepoGenerator(8, 3, 20, 15).generate());
+    }
+
+    @Tag("scale")
+    @ParameterizedTest
+    @ValueSource(strings = {
+      "org.openrewrite.java.struts.migrate6.MigrateDateTagFormat",
+      "org.openrewrite.java.struts.migrate6.MigrateDynamicMethodInvocation",
+      "org.openrewrite.java.struts.migrate6.MigrateStaticOgnlMethodAccess",
+      "org.openrewrite.java.struts.migrate6.MigrateStruts6Constants",
+      "org.openrewrite.java.struts.migrate6.RemoveFreemarkerHtmlBuiltin",
+      "org.openrewrite.java.struts.migrate7.UpdateStruts7Constants",
+      "org.openrewrite.java.struts.search.FindActionTagInvocations",
+      "org.openrewrite.java.struts.search.FindStaticOgnlMethodAccess",
+      "org.openrewrite.java.struts.search.FindStrutsActions"
+    })
+    void scalesLinearly(String recipeName) {
+        assumeTrue(Allocations.isSupported(), "Thread allocation measurement is not supported");
+        Recipe recipe = Environment.builder()
+          .scanRuntimeClasspath("org.openrewrite.java.struts")
+          .build()
+          .activateRecipes(recipeName);
+
+        int[] files = new int[FACTORS.length];
+        double[] bytesPerFile = new double[FACTORS.length];
+        long[] nanos = new long[FACTORS.length];
+        for (int i = 0; i < FACTORS.length; i++) {
+            List<SourceFile> sources = BASE.scale(FACTORS[i]).parse(new InMemoryExecutionContext());
+            LargeSourceSet sourceSet = new InMemoryLargeSourceSet(sources);
+            // The first run loads classes and fills caches, which does not grow with the corpus
+            recipe.run(sourceSet, new InMemoryExecutionContext());
+            files[i] = sources.size();
+            bytesPerFile[i] = (double) Allocations.allocatedBytes(() ->
+              recipe.run(sourceSet, new InMemoryExecutionContext())) / sources.size();
+            nanos[i] = medianNanos(() -> recipe.run(sourceSet, new InMemoryExecutionContext()));
+        }
+
+        for (int i = 1; i < FACTORS.length; i++) {
+            assertThat(bytesPerFile[i])
+              .as("%s bytes allocated per file at %dx the corpus, compared to %dx", recipeName, FACTORS[i], FACTORS[i - 1])
+              .isLessThanOrEqualTo(bytesPerFile[i - 1] * ALLOCATION_TOLERANCE);
+        }
+
+        // Extrapolate the line through the two smaller corpora, but never below scaling the middle one proportionally,
+        // so that a fixed cost measured with noise cannot turn into a slope of zero
+        int last = FACTORS.length - 1;
+        double slope = Math.max(0, (double) (nanos[last - 1] - nanos[last - 2]) / (files[last - 1] - files[last - 2]));
+        double linear = Math.max(nanos[last - 1] + slope * (files[last] - files[last - 1]),
+          (double) nanos[last - 1] * files[last] / files[last - 1]);
+        assertThat((double) nanos[last])
+          .as("%s median nanoseconds at %dx the corpus, compared to the linear extrapolation from %dx and %dx",
+            recipeName, FACTORS[last], FACTORS[last - 2], FACTORS[last - 1])
+          .isLessThanOrEqualTo(linear * TIME_TOLERANCE);
+    }
+
+    private static long medianNanos(Runnable run) {
+        long[] nanos = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            run.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[RUNS / 2];
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.struts.table.JsonResultTuning;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.xml.Assertions.xml;
+
+class TuneJsonResultsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new TuneJsonResults(null))
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "struts2-core-6.0")
+            //language=java
+            .dependsOn(
+              """
+                package org.apache.struts2.convention.annotation;
+                public @interface Result {
+                    String name() default "success";
+                    String location() default "";
+                    String type() default "";
+                    String[] params() default {};
+                }
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void tuneXmlResult() {
+        rewriteRun(
+          spec -> spec.dataTable(JsonResultTuning.Row.class, rows ->
+            assertThat(rows).containsExactly(
+              new JsonResultTuning.Row("src/main/resources/struts.xml", "com.example.UsersAction", "success", 3, 2, true, 80, true))),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionSupport;
+              import java.util.List;
+
+              public class UsersAction extends ActionSupport {
+                  private UserService userService;
+                  private List<String> users;
+                  private int total;
+
+                  public UserService getUserService() {
+                      return userService;
+                  }
+
+                  public List<String> getUsers() {
+                      return users;
+                  }
+
+                  public int getTotal() {
+                      return total;
+                  }
+              }
+
+              interface UserService {
+              }
+              """
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="api" extends="json-default">
+                      <action name="users" class="com.example.UsersAction">
+                          <result type="json"/>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <package name="api" extends="json-default">
+                      <action name="users" class="com.example.UsersAction">
+                          <result type="json">
+                              <param name="enableGZIP">true</param>
+                              <param name="includeProperties">users\\[\\d+\\].*,total</param>
+                          </result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void keepErrorsWhenSerializingHierarchy() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionSupport;
+              import java.util.Map;
+
+              public class OrderAction extends ActionSupport {
+                  private Map<String, Integer> orders;
+                  private int ordersTotal;
+
+                  public Map<String, Integer> getOrders() {
+                      return orders;
+                  }
+
+                  public int getOrdersTotal() {
+                      return ordersTotal;
+                  }
+              }
+              """
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="api" extends="json-default">
+                      <action name="order" class="com.example.OrderAction">
+                          <result type="json">
+                              <param name="ignoreHierarchy">false</param>
+                          </result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml").after(actual -> {
+                assertThat(actual).containsPattern("<param name=\"includeProperties\">[^<]*</param>");
+                String includeProperties = actual.replaceAll("(?s).*<param name=\"includeProperties\">([^<]*)</param>.*", "$1");
+                assertThat(includeProperties.split(",")).containsExactlyInAnyOrder(
+                  "orders\\..*", "ordersTotal", "actionErrors\\[\\d+\\].*", "actionMessages\\[\\d+\\].*", "fieldErrors\\..*");
+                return actual;
+            })
+          )
+        );
+    }
+
+    @Test
+    void keepExistingNarrowing() {
+        rewriteRun(
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="api" extends="json-default">
+                      <action name="users" class="com.example.UsersAction">
+                          <result type="json">
+                              <param name="root">users</param>
+                              <param name="excludeNullProperties">true</param>
+                          </result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <package name="api" extends="json-default">
+                      <action name="users" class="com.example.UsersAction">
+                          <result type="json">
+                              <param name="root">users</param>
+                              <param name="excludeNullProperties">true</param>
+                              <param name="enableGZIP">true</param>
+                          </result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void tuneAnnotatedResult() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionSupport;
+              import org.apache.struts2.convention.annotation.Result;
+
+              @Result(type = "json")
+              public class StatusAction extends ActionSupport {
+                  public String getStatus() {
+                      return "ok";
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionSupport;
+              import org.apache.struts2.convention.annotation.Result;
+
+              @Result(type = "json", params = {"enableGZIP", "true"})
+              public class StatusAction extends ActionSupport {
+                  public String getStatus() {
+                      return "ok";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void appendToAnnotationParams() {
+        rewriteRun(
+          spec -> spec.recipe(new TuneJsonResults(true)),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionSupport;
+              import org.apache.struts2.convention.annotation.Result;
+
+              @Result(type = "json", params = {"enableGZIP", "false"})
+              public class StatusAction extends ActionSupport {
+                  public String getStatus() {
+                      return "ok";
+                  }
+              }
+              """,
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionSupport;
+              import org.apache.struts2.convention.annotation.Result;
+
+              @Result(type = "json", params = {"enableGZIP", "false", "excludeNullProperties", "true"})
+              public class StatusAction extends ActionSupport {
+                  public String getStatus() {
+                      return "ok";
+                  }
+              }
+              """
+          )
+        );
+    }
+}
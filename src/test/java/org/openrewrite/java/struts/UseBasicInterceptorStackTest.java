@@ -0,0 +1,376 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.struts.table.TrimmedInterceptorStacks;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.SourceSpecs.text;
+import static org.openrewrite.xml.Assertions.xml;
+
+class UseBasicInterceptorStackTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseBasicInterceptorStack())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "struts2-core-6.0"));
+    }
+
+    @DocumentExample
+    @Test
+    void readOnlyActionUsesBasicStack() {
+        rewriteRun(
+          spec -> spec.dataTable(TrimmedInterceptorStacks.Row.class, rows ->
+            assertThat(rows).singleElement().satisfies(row -> {
+                assertThat(row.getName()).isEqualTo("list");
+                assertThat(row.getInterceptorsSaved()).isEqualTo(10);
+            })),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionSupport;
+
+              public class ListAction extends ActionSupport {
+                  public String execute() {
+                      return SUCCESS;
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionSupport;
+
+              public class SaveAction extends ActionSupport {
+                  private String name;
+
+                  public void setName(String name) {
+                      this.name = name;
+                  }
+
+                  @Override
+                  public void validate() {
+                      if (name == null) {
+                          addFieldError("name", "required");
+                      }
+                  }
+              }
+              """
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="list" class="com.example.ListAction">
+                          <result>/list.jsp</result>
+                      </action>
+                      <action name="save" class="com.example.SaveAction">
+                          <result>/save.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="list" class="com.example.ListAction">
+                          <result>/list.jsp</result>
+                          <interceptor-ref name="basicStack"/>
+                      </action>
+                      <action name="save" class="com.example.SaveAction">
+                          <result>/save.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void keepDefaultStackForFileUpload() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionSupport;
+              import java.io.File;
+
+              public class UploadAction extends ActionSupport {
+                  private File upload;
+
+                  public void setUpload(File upload) {
+                      this.upload = upload;
+                  }
+              }
+              """
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="upload" class="com.example.UploadAction">
+                          <result>/upload.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void keepDefaultStackWithValidationFile() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionSupport;
+
+              public class LoginAction extends ActionSupport {
+              }
+              """
+          ),
+          xml(
+            //language=xml
+            """
+              <validators>
+                  <field name="username">
+                      <field-validator type="requiredstring"/>
+                  </field>
+              </validators>
+              """,
+            spec -> spec.path("src/main/resources/com/example/LoginAction-validation.xml")
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="login" class="com.example.LoginAction">
+                          <result>/login.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void keepCustomInterceptors() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionSupport;
+
+              public class ListAction extends ActionSupport {
+              }
+              """
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="list" class="com.example.ListAction">
+                          <interceptor-ref name="defaultStack"/>
+                          <result>/list.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void keepDefaultStackWhenSwitchingLocale() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionSupport;
+
+              public class ListAction extends ActionSupport {
+                  public String execute() {
+                      return SUCCESS;
+                  }
+              }
+              """
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="list" class="com.example.ListAction">
+                          <result>/list.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          ),
+          text(
+            """
+              <s:url var="german" action="list">
+                  <s:param name="request_locale">de</s:param>
+              </s:url>
+              <s:a href="%{german}">Deutsch</s:a>
+              """,
+            spec -> spec.path("src/main/webapp/list.jsp")
+          )
+        );
+    }
+
+    @Test
+    void keepDefaultStackForConvertedProperties() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionSupport;
+
+              public class PageAction extends ActionSupport {
+                  private int page;
+
+                  public void setPage(int page) {
+                      this.page = page;
+                  }
+
+                  public String execute() {
+                      return SUCCESS;
+                  }
+              }
+              """
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="page" class="com.example.PageAction">
+                          <result>/page.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void switchLocalePerPackage() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.opensymphony.xwork2.ActionSupport;
+
+              public class ListAction extends ActionSupport {
+                  public String execute() {
+                      return SUCCESS;
+                  }
+              }
+              """
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="shop" namespace="/shop" extends="struts-default">
+                      <action name="list" class="com.example.ListAction">
+                          <result>/WEB-INF/shop/list.jsp</result>
+                      </action>
+                  </package>
+                  <package name="admin" namespace="/admin" extends="struts-default">
+                      <action name="list" class="com.example.ListAction">
+                          <result>/WEB-INF/admin/list.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <package name="shop" namespace="/shop" extends="struts-default">
+                      <action name="list" class="com.example.ListAction">
+                          <result>/WEB-INF/shop/list.jsp</result>
+                      </action>
+                  </package>
+                  <package name="admin" namespace="/admin" extends="struts-default">
+                      <action name="list" class="com.example.ListAction">
+                          <result>/WEB-INF/admin/list.jsp</result>
+                          <interceptor-ref name="basicStack"/>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          ),
+          text(
+            """
+              <s:url var="german" action="list">
+                  <s:param name="request_locale">de</s:param>
+              </s:url>
+              <s:a href="%{german}">Deutsch</s:a>
+              """,
+            spec -> spec.path("src/main/webapp/WEB-INF/shop/list.jsp")
+          ),
+          text(
+            """
+              <s:property value="name"/>
+              """,
+            spec -> spec.path("src/main/webapp/WEB-INF/admin/list.jsp")
+          )
+        );
+    }
+}
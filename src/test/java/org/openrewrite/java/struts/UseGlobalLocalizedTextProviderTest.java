@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.mavenProject;
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.test.SourceSpecs.text;
+import static org.openrewrite.xml.Assertions.xml;
+
+class UseGlobalLocalizedTextProviderTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseGlobalLocalizedTextProvider());
+    }
+
+    //language=java
+    private static final String LOGIN_ACTION = """
+      package com.example;
+
+      public class LoginAction {
+      }
+      """;
+
+    @DocumentExample
+    @Test
+    void useGlobalOnlyProvider() {
+        rewriteRun(
+          java(LOGIN_ACTION),
+          text(
+            """
+              login.title=Login
+              """,
+            spec -> spec.path("src/main/resources/global.properties")
+          ),
+          text(
+            """
+              login.title=Anmelden
+              """,
+            spec -> spec.path("src/main/resources/global_de.properties")
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.custom.i18n.resources" value="global"/>
+                  <constant name="struts.i18n.search.defaultbundles.first" value="true"/>
+                  <package name="app" extends="struts-default"/>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.custom.i18n.resources" value="global"/>
+                  <constant name="struts.i18n.search.defaultbundles.first" value="false"/>
+                  <constant name="struts.localizedTextProvider" value="global-only"/>
+                  <package name="app" extends="struts-default"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void keepProviderWithClassBundle() {
+        rewriteRun(
+          java(LOGIN_ACTION),
+          text(
+            """
+              login.title=Anmelden
+              """,
+            spec -> spec.path("src/main/resources/com/example/LoginAction_de_DE.properties")
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.custom.i18n.resources" value="global"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void keepProviderWithPackageBundle() {
+        rewriteRun(
+          java(LOGIN_ACTION),
+          text(
+            """
+              login.title=Login
+              """,
+            spec -> spec.path("src/main/resources/com/example/package.properties")
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.custom.i18n.resources" value="global"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void keepProviderWithoutGlobalBundles() {
+        rewriteRun(
+          java(LOGIN_ACTION),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void readConstantsFromStrutsProperties() {
+        rewriteRun(
+          java(LOGIN_ACTION),
+          properties(
+            """
+              # struts.localizedTextProvider is left at its default
+              struts.custom.i18n.resources : global
+              """,
+            spec -> spec.path("src/main/resources/struts.properties")
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default"/>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.localizedTextProvider" value="global-only"/>
+                  <package name="app" extends="struts-default"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void decidePerProject() {
+        rewriteRun(
+          mavenProject("global",
+            text(
+              """
+                login.title=Login
+                """,
+              spec -> spec.path("src/main/resources/global.properties")
+            ),
+            xml(
+              //language=xml
+              """
+                <struts>
+                    <constant name="struts.custom.i18n.resources" value="global"/>
+                </struts>
+                """,
+              //language=xml
+              """
+                <struts>
+                    <constant name="struts.custom.i18n.resources" value="global"/>
+                    <constant name="struts.localizedTextProvider" value="global-only"/>
+                </struts>
+                """,
+              spec -> spec.path("src/main/resources/struts.xml")
+            )
+          ),
+          mavenProject("legacy",
+            xml(
+              //language=xml
+              """
+                <struts>
+                    <constant name="struts.i18n.search.defaultbundles.first" value="true"/>
+                </struts>
+                """,
+              spec -> spec.path("src/main/resources/struts.xml")
+            )
+          )
+        );
+    }
+
+    @Test
+    void keepProviderWithClassBundleOfLibraryModule() {
+        rewriteRun(
+          mavenProject("common",
+            //language=java
+            java(
+              """
+                package com.example.common;
+
+                public class BaseAction {
+                }
+                """
+            ),
+            text(
+              """
+                error.required=Required
+                """,
+              spec -> spec.path("src/main/resources/com/example/common/BaseAction.properties")
+            )
+          ),
+          mavenProject("web",
+            java(LOGIN_ACTION),
+            xml(
+              //language=xml
+              """
+                <struts>
+                    <constant name="struts.custom.i18n.resources" value="global"/>
+                </struts>
+                """,
+              spec -> spec.path("src/main/resources/struts.xml")
+            )
+          )
+        );
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.struts.table.SimpleThemeForms;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.test.SourceSpecs.text;
+import static org.openrewrite.xml.Assertions.xml;
+
+class UseSimpleThemeForFormsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseSimpleThemeForForms());
+    }
+
+    @DocumentExample
+    @Test
+    void switchFormsWithoutLabels() {
+        rewriteRun(
+          spec -> spec.dataTable(SimpleThemeForms.Row.class, rows ->
+            assertThat(rows).containsExactly(
+              new SimpleThemeForms.Row("src/main/webapp/search.jsp", 1, 2, 7))),
+          text(
+            """
+              <%@ taglib prefix="s" uri="/struts-tags" %>
+              <s:form action="search">
+                  <s:textfield name="query" placeholder="Search"/>
+                  <s:submit value="Go"/>
+              </s:form>
+              <s:form action="login">
+                  <s:textfield name="username" label="User name"/>
+                  <s:password name="password" key="login.password"/>
+              </s:form>
+              """,
+            """
+              <%@ taglib prefix="s" uri="/struts-tags" %>
+              <s:form theme="simple" action="search">
+                  <s:textfield name="query" placeholder="Search"/>
+                  <s:submit value="Go"/>
+              </s:form>
+              <s:form action="login">
+                  <s:textfield name="username" label="User name"/>
+                  <s:password name="password" key="login.password"/>
+              </s:form>
+              """,
+            spec -> spec.path("src/main/webapp/search.jsp")
+          )
+        );
+    }
+
+    @Test
+    void setThemeGloballyWhenAllFormsQualify() {
+        rewriteRun(
+          spec -> spec.dataTable(SimpleThemeForms.Row.class, rows ->
+            assertThat(rows).containsExactly(
+              new SimpleThemeForms.Row("src/main/resources/templates/search.ftl", 1, 1, 5))),
+          text(
+            """
+              <@s.form action="search">
+                  <@s.textfield name="query"/>
+              </@s.form>
+              """,
+            spec -> spec.path("src/main/resources/templates/search.ftl")
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.devMode" value="false"/>
+                  <package name="app" extends="struts-default"/>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.devMode" value="false"/>
+                  <constant name="struts.ui.theme" value="simple"/>
+                  <package name="app" extends="struts-default"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void keepFormsWithTableLayoutOrValidation() {
+        rewriteRun(
+          text(
+            """
+              <s:form action="order">
+                  <tr><td colspan="2">Your order</td></tr>
+                  <s:textfield name="quantity"/>
+              </s:form>
+              <s:form action="register" validate="true">
+                  <s:textfield name="email"/>
+              </s:form>
+              <s:form action="profile" theme="css_xhtml">
+                  <s:textfield name="nickname"/>
+              </s:form>
+              """,
+            spec -> spec.path("src/main/webapp/order.jsp")
+          )
+        );
+    }
+
+    @Test
+    void onlySwitchFormsRenderingFieldErrorsWithServerSideValidation() {
+        rewriteRun(
+          xml(
+            //language=xml
+            """
+              <validators>
+                  <field name="email">
+                      <field-validator type="requiredstring"/>
+                  </field>
+              </validators>
+              """,
+            spec -> spec.path("src/main/resources/com/example/RegisterAction-validation.xml")
+          ),
+          text(
+            """
+              <s:form action="register">
+                  <s:textfield name="email"/>
+                  <s:submit/>
+              </s:form>
+              """,
+            spec -> spec.path("src/main/webapp/register.jsp")
+          ),
+          text(
+            """
+              <s:fielderror fieldName="query"/>
+              <s:form action="search">
+                  <s:textfield name="query"/>
+              </s:form>
+              """,
+            """
+              <s:fielderror fieldName="query"/>
+              <s:form theme="simple" action="search">
+                  <s:textfield name="query"/>
+              </s:form>
+              """,
+            spec -> spec.path("src/main/webapp/search.jsp")
+          )
+        );
+    }
+}
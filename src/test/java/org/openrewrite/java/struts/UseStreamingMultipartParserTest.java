@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.struts.table.MultipartUploadActions;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.mavenProject;
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.xml.Assertions.xml;
+
+class UseStreamingMultipartParserTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseStreamingMultipartParser(null, null))
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "struts2-core-6.0"));
+    }
+
+    //language=java
+    private static final String UPLOAD_ACTION = """
+      package com.example;
+
+      import com.opensymphony.xwork2.ActionSupport;
+      import java.io.File;
+
+      public class UploadAction extends ActionSupport {
+          private File upload;
+          private String uploadContentType;
+          private String uploadFileName;
+
+          public void setUpload(File upload) {
+              this.upload = upload;
+          }
+
+          public void setUploadContentType(String uploadContentType) {
+              this.uploadContentType = uploadContentType;
+          }
+
+          public void setUploadFileName(String uploadFileName) {
+              this.uploadFileName = uploadFileName;
+          }
+      }
+      """;
+
+    @DocumentExample
+    @Test
+    void switchParser() {
+        rewriteRun(
+          spec -> spec.dataTable(MultipartUploadActions.Row.class, rows ->
+            assertThat(rows).containsExactly(
+              new MultipartUploadActions.Row("com/example/UploadAction.java", "com.example.UploadAction", "upload", true, ""))),
+          java(UPLOAD_ACTION),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.multipart.parser" value="jakarta"/>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.multipart.parser" value="jakarta-stream"/>
+                  <constant name="struts.multipart.maxSize" value="10485760"/>
+                  <constant name="struts.multipart.maxFiles" value="10"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void addParserAndLimits() {
+        rewriteRun(
+          java(UPLOAD_ACTION),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.devMode" value="false"/>
+                  <package name="app" extends="struts-default"/>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.devMode" value="false"/>
+                  <constant name="struts.multipart.parser" value="jakarta-stream"/>
+                  <constant name="struts.multipart.maxSize" value="10485760"/>
+                  <constant name="struts.multipart.maxFiles" value="10"/>
+                  <package name="app" extends="struts-default"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void addConfiguredLimits() {
+        rewriteRun(
+          spec -> spec.recipe(new UseStreamingMultipartParser(52428800L, 5)),
+          java(UPLOAD_ACTION),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.multipart.parser" value="jakarta"/>
+                  <constant name="struts.multipart.maxFiles" value="20"/>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.multipart.parser" value="jakarta-stream"/>
+                  <constant name="struts.multipart.maxFiles" value="20"/>
+                  <constant name="struts.multipart.maxSize" value="52428800"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void keepParserWhenBufferedParserIsUsed() {
+        rewriteRun(
+          java(UPLOAD_ACTION),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import org.apache.struts2.dispatcher.multipart.JakartaMultiPartRequest;
+
+              public class CustomUploads {
+                  JakartaMultiPartRequest request;
+              }
+              """
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.multipart.parser" value="jakarta"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void noUploadActions() {
+        rewriteRun(
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.multipart.parser" value="jakarta"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void switchParserInStrutsProperties() {
+        rewriteRun(
+          java(UPLOAD_ACTION),
+          properties(
+            """
+              struts.multipart.parser=jakarta
+              """,
+            """
+              struts.multipart.parser=jakarta-stream
+              """,
+            spec -> spec.path("src/main/resources/struts.properties")
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default"/>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.multipart.maxSize" value="10485760"/>
+                  <constant name="struts.multipart.maxFiles" value="10"/>
+                  <package name="app" extends="struts-default"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void decidePerProject() {
+        rewriteRun(
+          mavenProject("streaming",
+            java(UPLOAD_ACTION),
+            xml(
+              //language=xml
+              """
+                <struts>
+                    <constant name="struts.multipart.parser" value="jakarta"/>
+                </struts>
+                """,
+              //language=xml
+              """
+                <struts>
+                    <constant name="struts.multipart.parser" value="jakarta-stream"/>
+                    <constant name="struts.multipart.maxSize" value="10485760"/>
+                    <constant name="struts.multipart.maxFiles" value="10"/>
+                </struts>
+                """,
+              spec -> spec.path("src/main/resources/struts.xml")
+            )
+          ),
+          mavenProject("buffered",
+            //language=java
+            java(
+              """
+                package com.example;
+
+                import org.apache.struts2.dispatcher.multipart.JakartaMultiPartRequest;
+
+                public class CustomUploads {
+                    JakartaMultiPartRequest request;
+                }
+                """
+            ),
+            xml(
+              //language=xml
+              """
+                <struts>
+                    <constant name="struts.multipart.parser" value="jakarta"/>
+                </struts>
+                """,
+              spec -> spec.path("src/main/resources/struts.xml")
+            )
+          )
+        );
+    }
+}
@@ -15,11 +15,18 @@
  */
 package org.openrewrite.java.struts.migrate6;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.java.struts.internal.RecipeEvent;
+import org.openrewrite.java.struts.table.StrutsRecipeTimings;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import java.nio.file.Path;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.test.SourceSpecs.text;
 
@@ -207,6 +214,74 @@ class MigrateDateTagFormatTest implements RewriteTest {
         );
     }
 
+    @Test
+    void recordsTimingPerFile() {
+        rewriteRun(
+          spec -> spec.dataTable(StrutsRecipeTimings.Row.class, rows ->
+            assertThat(rows).singleElement().satisfies(row -> {
+                assertThat(row.getRecipe()).isEqualTo("org.openrewrite.java.struts.migrate6.MigrateDateTagFormat");
+                assertThat(row.getSourceFile()).isEqualTo("src/main/webapp/dates.jsp");
+                assertThat(row.getBytesExamined()).isPositive();
+                assertThat(row.getMatches()).isEqualTo(2);
+            })),
+          text(
+            """
+              <s:date name="start" format="YYYY-MM-dd" />
+              <s:date name="end" format="u" />
+              """,
+            """
+              <s:date name="start" format="yyyy-MM-dd" />
+              <s:date name="end" format="e" />
+              """,
+            spec -> spec.path("src/main/webapp/dates.jsp")
+          ),
+          text(
+            """
+              <s:date name="start" format="yyyy-MM-dd" />
+              """,
+            spec -> spec.path("src/main/webapp/migrated.jsp")
+          ),
+          text(
+            """
+              format="YYYY-MM-dd"
+              """,
+            spec -> spec.path("README.txt")
+          )
+        );
+    }
+
+    @Test
+    void emitsFlightRecorderEvent(@TempDir Path tempDir) throws Exception {
+        Path dump = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RecipeEvent.NAME);
+            recording.start();
+            rewriteRun(
+              text(
+                """
+                  <s:date name="start" format="YYYY-MM-dd" />
+                  """,
+                """
+                  <s:date name="start" format="yyyy-MM-dd" />
+                  """,
+                spec -> spec.path("src/main/webapp/dates.jsp")
+              )
+            );
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        assertThat(RecordingFile.readAllEvents(dump))
+          .filteredOn(event -> RecipeEvent.NAME.equals(event.getEventType().getName()))
+          .anySatisfy(event -> {
+              assertThat(event.getString("recipe")).isEqualTo("org.openrewrite.java.struts.migrate6.MigrateDateTagFormat");
+              assertThat(event.getString("phase")).isEqualTo("rewrite templates");
+              assertThat(event.getString("sourcePath")).isEqualTo("src/main/webapp/dates.jsp");
+              assertThat(event.getInt("matches")).isEqualTo(1);
+              assertThat(event.getLong("size")).isPositive();
+          });
+    }
+
     @Test
     void unitTestMigrateFormatPattern() {
         // Test u -> e conversion
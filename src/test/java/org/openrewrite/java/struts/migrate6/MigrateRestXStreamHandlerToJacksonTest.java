@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.migrate6;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.mavenProject;
+import static org.openrewrite.java.Assertions.srcMainResources;
+import static org.openrewrite.maven.Assertions.pomXml;
+import static org.openrewrite.xml.Assertions.xml;
+
+class MigrateRestXStreamHandlerToJacksonTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipeFromResources("org.openrewrite.java.struts.migrate6.MigrateRestXStreamHandlerToJackson")
+          .parser(JavaParser.fromJavaVersion()
+            //language=java
+            .dependsOn(
+              """
+                package com.thoughtworks.xstream.annotations;
+                public @interface XStreamAlias {
+                    String value();
+                }
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void replaceHandlerOverride() {
+        rewriteRun(
+          srcMainResources(
+            xml(
+              //language=xml
+              """
+                <struts>
+                    <constant name="struts.rest.handlerOverride.xml" value="xstream"/>
+                    <bean type="org.apache.struts2.rest.handler.ContentTypeHandler" name="myXml"
+                          class="org.apache.struts2.rest.handler.XStreamHandler"/>
+                </struts>
+                """,
+              //language=xml
+              """
+                <struts>
+                    <constant name="struts.rest.handlerOverride.xml" value="jacksonXml"/>
+                    <bean type="org.apache.struts2.rest.handler.ContentTypeHandler" name="myXml"
+                          class="org.apache.struts2.rest.handler.JacksonXmlHandler"/>
+                </struts>
+                """,
+              spec -> spec.path("struts.xml")
+            )
+          )
+        );
+    }
+
+    @Test
+    void findXStreamAnnotations() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package com.example;
+
+              import com.thoughtworks.xstream.annotations.XStreamAlias;
+
+              @XStreamAlias("user")
+              public class User {
+              }
+              """,
+            """
+              package com.example;
+
+              import com.thoughtworks.xstream.annotations.XStreamAlias;
+
+              /*~~>*/@XStreamAlias("user")
+              public class User {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void addJacksonXmlToModulesWithRestPlugin() {
+        rewriteRun(
+          mavenProject("rest",
+            pomXml(
+              //language=xml
+              """
+                <project>
+                  <groupId>group</groupId>
+                  <artifactId>rest</artifactId>
+                  <version>1</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>org.apache.struts</groupId>
+                          <artifactId>struts2-rest-plugin</artifactId>
+                          <version>6.0.3</version>
+                      </dependency>
+                  </dependencies>
+                </project>
+                """,
+              spec -> spec.after(pomXml ->
+                assertThat(pomXml)
+                  .contains("<artifactId>jackson-dataformat-xml</artifactId>")
+                  .containsPattern("<version>2\\.\\d+\\.\\d+</version>")
+                  .actual())
+            ),
+            srcMainResources(
+              xml(
+                //language=xml
+                """
+                  <struts>
+                      <constant name="struts.rest.handlerOverride.xml" value="xstream"/>
+                  </struts>
+                  """,
+                //language=xml
+                """
+                  <struts>
+                      <constant name="struts.rest.handlerOverride.xml" value="jacksonXml"/>
+                  </struts>
+                  """,
+                spec -> spec.path("struts.xml")
+              )
+            )
+          ),
+          mavenProject("web",
+            pomXml(
+              //language=xml
+              """
+                <project>
+                  <groupId>group</groupId>
+                  <artifactId>web</artifactId>
+                  <version>1</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>org.apache.struts</groupId>
+                          <artifactId>struts2-core</artifactId>
+                          <version>6.0.3</version>
+                      </dependency>
+                  </dependencies>
+                </project>
+                """
+            )
+          )
+        );
+    }
+}
@@ -15,11 +15,35 @@
  */
 package org.openrewrite.java.struts.migrate6;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
-import org.openrewrite.DocumentExample;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.*;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.struts.internal.FactsFile;
+import org.openrewrite.java.struts.internal.RecipeEvent;
+import org.openrewrite.java.struts.table.StaticOgnlMethodAccess;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
+import org.openrewrite.test.TypeValidation;
+import org.openrewrite.xml.XmlParser;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
 import static org.openrewrite.xml.Assertions.xml;
 
 class MigrateStaticOgnlMethodAccessTest implements RewriteTest {
@@ -185,4 +209,514 @@ class MigrateStaticOgnlMethodAccessTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void reuseCachedScanResults(@TempDir Path cacheDirectory) throws Exception {
+        Path recipeCache = cacheDirectory.resolve("org.openrewrite.java.struts.migrate6.MigrateStaticOgnlMethodAccess");
+        Files.createDirectories(recipeCache);
+        Path stale = Files.createFile(recipeCache.resolve("sha256-stale"));
+        Files.setLastModifiedTime(stale, FileTime.fromMillis(0));
+
+        //language=xml
+        String strutsXml = """
+          <struts>
+              <package name="app" extends="struts-default">
+                  <action name="dashboard" class="com.example.DashboardAction">
+                      <result>/dashboard.jsp</result>
+                  </action>
+              </package>
+          </struts>
+          """;
+        //language=xml
+        String dashboardJsp = """
+          <html>
+              <body>
+                  <s:property value="@com.app.Util@makeCode()" />
+              </body>
+          </html>
+          """;
+        for (int run = 0; run < 2; run++) {
+            rewriteRun(
+              spec -> spec.recipe(new MigrateStaticOgnlMethodAccess(cacheDirectory.toString(), null, null, null, null, null, null, null)),
+              xml(strutsXml, spec -> spec.path("struts.xml")),
+              xml(
+                dashboardJsp,
+                //language=xml
+                """
+                  <html>
+                      <body>
+                          <s:property <!--~~>-->value="utilMakeCode" />
+                      </body>
+                  </html>
+                  """,
+                spec -> spec.path("dashboard.jsp")
+              )
+            );
+            try (Stream<Path> entries = Files.list(recipeCache)) {
+                // The entries of both files, keyed by a hash of their content, the stale entry is pruned
+                assertThat(entries.map(entry -> entry.getFileName().toString()))
+                  .containsExactlyInAnyOrder("struts-sha256-" + sha256(strutsXml), "sha256-" + sha256(dashboardJsp));
+            }
+        }
+    }
+
+    private static String sha256(String content) throws NoSuchAlgorithmException {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8))) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    @Test
+    void skipClassesWithoutStaticMethodCalls() {
+        rewriteRun(
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="dashboard" class="com.example.DashboardAction">
+                          <result>/dashboard.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("struts.xml")
+          ),
+          xml(
+            //language=xml
+            """
+              <html>
+                  <body>
+                      <s:property value="@com.app.Util@makeCode()" />
+                  </body>
+              </html>
+              """,
+            //language=xml
+            """
+              <html>
+                  <body>
+                      <s:property <!--~~>-->value="utilMakeCode" />
+                  </body>
+              </html>
+              """,
+            spec -> spec.path("dashboard.jsp")
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              public class ReportAction {
+                  public static class DashboardAction {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void visitOnlyClassesThatNeedWrappers(@TempDir Path tempDir) throws Exception {
+        Path dump = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RecipeEvent.NAME);
+            recording.start();
+            rewriteRun(
+              spec -> spec.afterTypeValidationOptions(TypeValidation.none()),
+              xml(
+                //language=xml
+                """
+                  <struts>
+                      <package name="app" extends="struts-default">
+                          <action name="dashboard" class="com.example.DashboardAction">
+                              <result>/dashboard.jsp</result>
+                          </action>
+                      </package>
+                  </struts>
+                  """,
+                spec -> spec.path("struts.xml")
+              ),
+              xml(
+                //language=xml
+                """
+                  <html>
+                      <body>
+                          <s:property value="@com.app.Util@makeCode()" />
+                      </body>
+                  </html>
+                  """,
+                //language=xml
+                """
+                  <html>
+                      <body>
+                          <s:property <!--~~>-->value="utilMakeCode" />
+                      </body>
+                  </html>
+                  """,
+                spec -> spec.path("dashboard.jsp")
+              ),
+              //language=java
+              java(
+                """
+                  package com.example;
+
+                  public class DashboardAction {
+                  }
+                  """,
+                spec -> spec.after(actual -> {
+                    assertThat(actual).contains("getUtilMakeCode()");
+                    return actual;
+                })
+              ),
+              //language=java
+              java(
+                """
+                  package com.example;
+
+                  public class ReportAction {
+                  }
+                  """
+              )
+            );
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        // The action class visitor only runs on the compilation unit of the action class that needs wrappers
+        List<RecordedEvent> edits = RecordingFile.readAllEvents(dump).stream()
+          .filter(event -> RecipeEvent.NAME.equals(event.getEventType().getName()) &&
+                           "edit".equals(event.getString("phase")) &&
+                           event.getString("sourcePath").endsWith(".java"))
+          .toList();
+        assertThat(edits)
+          .extracting(event -> event.getString("sourcePath"))
+          .containsOnly("com/example/DashboardAction.java");
+        assertThat(edits).anySatisfy(event -> assertThat(event.getInt("matches")).isEqualTo(1));
+    }
+
+    @Test
+    void joinJspScannedBeforeStrutsXml() {
+        rewriteRun(
+          spec -> spec.afterTypeValidationOptions(TypeValidation.none()),
+          xml(
+            //language=xml
+            """
+              <html>
+                  <body>
+                      <s:property value="@com.app.Util@makeCode()" />
+                  </body>
+              </html>
+              """,
+            //language=xml
+            """
+              <html>
+                  <body>
+                      <s:property <!--~~>-->value="utilMakeCode" />
+                  </body>
+              </html>
+              """,
+            spec -> spec.path("dashboard.jsp")
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="dashboard" class="com.example.DashboardAction">
+                          <result>/dashboard.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("struts.xml")
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              public class DashboardAction {
+              }
+              """,
+            spec -> spec.after(actual -> {
+                assertThat(actual).contains("getUtilMakeCode()");
+                return actual;
+            })
+          )
+        );
+    }
+
+    @Test
+    void spillStaticMethodCallsToDisk() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateStaticOgnlMethodAccess(null, null, null, null, null, null, 0, null))
+            .afterTypeValidationOptions(TypeValidation.none()),
+          // The JSPs are scanned before struts.xml, the join only happens once all files are scanned
+          xml(
+            //language=xml
+            """
+              <html>
+                  <body>
+                      <s:property value="@com.app.Format@currency(amount)" />
+                      <s:property value="@com.app.DateUtil@formatDate(today)" />
+                  </body>
+              </html>
+              """,
+            //language=xml
+            """
+              <html>
+                  <body>
+                      <s:property <!--~~>-->value="formatCurrency" />
+                      <s:property <!--~~>-->value="dateUtilFormatDate" />
+                  </body>
+              </html>
+              """,
+            spec -> spec.path("report.jsp")
+          ),
+          xml(
+            //language=xml
+            """
+              <html>
+                  <body>
+                      <s:property value="@com.app.Util@makeCode()" />
+                  </body>
+              </html>
+              """,
+            //language=xml
+            """
+              <html>
+                  <body>
+                      <s:property <!--~~>-->value="utilMakeCode" />
+                  </body>
+              </html>
+              """,
+            spec -> spec.path("dashboard.jsp")
+          ),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="report" class="com.example.ReportAction">
+                          <result>/report.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("struts.xml")
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              public class ReportAction {
+              }
+              """,
+            spec -> spec.after(actual -> {
+                assertThat(actual)
+                  .contains("getFormatCurrency()")
+                  .contains("getDateUtilFormatDate()")
+                  .doesNotContain("getUtilMakeCode()");
+                return actual;
+            })
+          )
+        );
+    }
+
+    @Test
+    void spillOnceTheByteThresholdIsCrossed() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateStaticOgnlMethodAccess(null, null, null, null, null, null, null, 1L))
+            .afterTypeValidationOptions(TypeValidation.none())
+            // The calls of the spilled JSP are read back from the spill file when it is edited
+            .dataTable(StaticOgnlMethodAccess.Row.class, rows ->
+              assertThat(rows).containsExactlyInAnyOrder(
+                new StaticOgnlMethodAccess.Row("report.jsp", "@com.app.Format@currency(amount)", "com.app.Format", "currency"),
+                new StaticOgnlMethodAccess.Row("dashboard.jsp", "@com.app.Util@makeCode()", "com.app.Util", "makeCode"))),
+          // struts.xml is kept in memory, every file scanned after it spills to disk with its result mappings
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="app" extends="struts-default">
+                      <action name="report" class="com.example.ReportAction">
+                          <result>/report.jsp</result>
+                      </action>
+                  </package>
+              </struts>
+              """,
+            spec -> spec.path("struts.xml")
+          ),
+          xml(
+            //language=xml
+            """
+              <html>
+                  <body>
+                      <s:property value="@com.app.Format@currency(amount)" />
+                  </body>
+              </html>
+              """,
+            //language=xml
+            """
+              <html>
+                  <body>
+                      <s:property <!--~~>-->value="formatCurrency" />
+                  </body>
+              </html>
+              """,
+            spec -> spec.path("report.jsp")
+          ),
+          xml(
+            //language=xml
+            """
+              <html>
+                  <body>
+                      <s:property value="@com.app.Util@makeCode()" />
+                  </body>
+              </html>
+              """,
+            //language=xml
+            """
+              <html>
+                  <body>
+                      <s:property <!--~~>-->value="utilMakeCode" />
+                  </body>
+              </html>
+              """,
+            spec -> spec.path("dashboard.jsp")
+          ),
+          //language=java
+          java(
+            """
+              package com.example;
+
+              public class ReportAction {
+              }
+              """,
+            spec -> spec.after(actual -> {
+                assertThat(actual)
+                  .contains("getFormatCurrency()")
+                  .doesNotContain("getUtilMakeCode()");
+                return actual;
+            })
+          )
+        );
+    }
+
+    /**
+     * With two shards, struts.xml is scanned by shard 0, and the JSP and action class by shard 1.
+     */
+    private static List<SourceFile> shardedSources() {
+        ExecutionContext parseCtx = new InMemoryExecutionContext();
+        List<SourceFile> sources = new ArrayList<>();
+        sources.add(XmlParser.builder().build().parse(parseCtx,
+          //language=xml
+          """
+            <struts>
+                <package name="app" extends="struts-default">
+                    <action name="dashboard" class="com.example.DashboardAction">
+                        <result>/dashboard.jsp</result>
+                    </action>
+                </package>
+            </struts>
+            """
+        ).findFirst().orElseThrow().withSourcePath(Paths.get("struts.xml")));
+        sources.add(XmlParser.builder().build().parse(parseCtx,
+          //language=xml
+          """
+            <html>
+                <body>
+                    <s:property value="@com.app.Util@makeCode()" />
+                </body>
+            </html>
+            """
+        ).findFirst().orElseThrow().withSourcePath(Paths.get("dashboard.jsp")));
+        sources.add(JavaParser.fromJavaVersion().build().parse(parseCtx,
+          //language=java
+          """
+            package com.example;
+
+            public class DashboardAction {
+            }
+            """
+        ).findFirst().orElseThrow().withSourcePath(Paths.get("src/main/java/com/example/DashboardAction.java")));
+        return sources;
+    }
+
+    /**
+     * Runs the scan of a shard in its own JVM, as a build does, with the shard directory, shard index and run id as
+     * arguments.
+     */
+    static class ShardScan {
+        public static void main(String[] args) {
+            List<Throwable> errors = new ArrayList<>();
+            RecipeRun run = new MigrateStaticOgnlMethodAccess(null, 2, Integer.parseInt(args[1]), args[0], args[2], null, null, null)
+              .run(new InMemoryLargeSourceSet(shardedSources()), new InMemoryExecutionContext(errors::add));
+            if (!errors.isEmpty() || !run.getChangeset().getAllResults().isEmpty()) {
+                errors.forEach(Throwable::printStackTrace);
+                System.exit(1);
+            }
+        }
+    }
+
+    @Test
+    void joinFactsOfShardsScannedInOtherProcesses(@TempDir Path shardDirectory) throws Exception {
+        // Facts left by an earlier run, which mapped the JSP to another action class
+        FactsFile.write(shardDirectory.resolve("shard-0-of-2.bin"), Arrays.asList(
+          new String[]{"run", "run-1"},
+          new String[]{"result", "dashboard.jsp", "com.example.LegacyAction"}));
+
+        List<Process> scans = new ArrayList<>();
+        for (int shard = 0; shard < 2; shard++) {
+            scans.add(new ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+              "-cp", System.getProperty("java.class.path"), ShardScan.class.getName(),
+              shardDirectory.toString(), Integer.toString(shard), "run-2")
+              .inheritIO()
+              .start());
+        }
+        for (Process scan : scans) {
+            assertThat(scan.waitFor(2, TimeUnit.MINUTES)).isTrue();
+            assertThat(scan.exitValue()).isZero();
+        }
+        assertThat(shardDirectory).isDirectoryContaining("glob:**/shard-0-of-2.bin")
+          .isDirectoryContaining("glob:**/shard-1-of-2.bin");
+
+        Map<String, String> after = new HashMap<>();
+        for (int shard = 0; shard < 2; shard++) {
+            Recipe recipe = new MigrateStaticOgnlMethodAccess(null, 2, shard, shardDirectory.toString(), "run-2", true, null, null);
+            assertThat(recipe.validate().isValid()).isTrue();
+            for (Result result : recipe.run(new InMemoryLargeSourceSet(shardedSources()), new InMemoryExecutionContext())
+              .getChangeset().getAllResults()) {
+                //noinspection DataFlowIssue
+                assertThat(after.put(result.getBefore().getSourcePath().toString(), result.getAfter().printAll())).isNull();
+            }
+        }
+        assertThat(after).containsOnlyKeys("dashboard.jsp", "src/main/java/com/example/DashboardAction.java");
+        assertThat(after.get("src/main/java/com/example/DashboardAction.java"))
+          .contains("getUtilMakeCode()")
+          .doesNotContain("LegacyAction");
+    }
+
+    @Test
+    void failJoinWithoutFactsOfThisRun(@TempDir Path shardDirectory) throws Exception {
+        // Facts left by an earlier run, shard 1 has not scanned for this run yet
+        FactsFile.write(shardDirectory.resolve("shard-1-of-2.bin"), Collections.singletonList(new String[]{"run", "run-1"}));
+
+        List<Throwable> errors = new ArrayList<>();
+        new MigrateStaticOgnlMethodAccess(null, 2, 0, shardDirectory.toString(), "run-2", true, null, null)
+          .run(new InMemoryLargeSourceSet(shardedSources()), new InMemoryExecutionContext(errors::add));
+        assertThat(errors).isNotEmpty()
+          .allSatisfy(error -> assertThat(error).hasStackTraceContaining("written by run run-1, not by run run-2"));
+    }
+
+    @Test
+    void shardIndexMustBeLessThanShardCount() {
+        assertThat(new MigrateStaticOgnlMethodAccess(null, 2, 2, "build/shards", "run-1", null, null, null).validate().isValid()).isFalse();
+        assertThat(new MigrateStaticOgnlMethodAccess(null, 2, null, null, null, null, null, null).validate().isValid()).isFalse();
+        assertThat(new MigrateStaticOgnlMethodAccess(null, 2, 0, "build/shards", null, null, null, null).validate().isValid()).isFalse();
+        assertThat(new MigrateStaticOgnlMethodAccess(null, null, null, null, null, true, null, null).validate().isValid()).isFalse();
+    }
 }
@@ -22,7 +22,9 @@ import org.openrewrite.java.JavaParser;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import static org.openrewrite.java.Assertions.mavenProject;
 import static org.openrewrite.java.Assertions.srcMainResources;
+import static org.openrewrite.properties.Assertions.properties;
 import static org.openrewrite.xml.Assertions.xml;
 
 class MigrateStruts6ConstantsTest implements RewriteTest {
@@ -64,4 +66,161 @@ class MigrateStruts6ConstantsTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void inStrutsProperties() {
+        rewriteRun(
+          srcMainResources(
+            properties(
+              """
+                devMode=true
+                struts.xwork.chaining.copyErrors=true
+                struts.i18n.encoding=UTF-8
+                """,
+              """
+                struts.devMode=true
+                struts.chaining.copyErrors=true
+                struts.i18n.encoding=UTF-8
+                """,
+              spec -> spec.path("struts.properties")
+            ),
+            properties(
+              """
+                devMode=true
+                """,
+              spec -> spec.path("application.properties")
+            ),
+            properties(
+              """
+                devMode=true
+                """,
+              """
+                struts.devMode=true
+                """,
+              spec -> spec.path("org/apache/struts2/default.properties")
+            ),
+            properties(
+              """
+                devMode=true
+                """,
+              spec -> spec.path("com/example/default.properties")
+            ),
+            xml(
+              //language=xml
+              """
+                <struts>
+                    <package name="default" extends="struts-default"/>
+                </struts>
+                """,
+              spec -> spec.path("struts.xml")
+            )
+          )
+        );
+    }
+
+    @Test
+    void leaveProjectsWithoutStrutsAlone() {
+        rewriteRun(
+          srcMainResources(
+            properties(
+              """
+                devMode=true
+                """,
+              spec -> spec.path("struts.properties")
+            ),
+            properties(
+              """
+                devMode=true
+                """,
+              spec -> spec.path("org/apache/struts2/default.properties")
+            )
+          )
+        );
+    }
+
+    @Test
+    void leaveSiblingProjectsWithoutStrutsAlone() {
+        rewriteRun(
+          mavenProject("web",
+            srcMainResources(
+              xml(
+                //language=xml
+                """
+                  <struts>
+                      <constant name="devMode" value="true" />
+                  </struts>
+                  """,
+                //language=xml
+                """
+                  <struts>
+                      <constant name="struts.devMode" value="true" />
+                  </struts>
+                  """,
+                spec -> spec.path("struts.xml")
+              )
+            )
+          ),
+          mavenProject("batch",
+            srcMainResources(
+              properties(
+                """
+                  devMode=true
+                  """,
+                spec -> spec.path("struts.properties")
+              )
+            )
+          )
+        );
+    }
+
+    @Test
+    void inFilterInitParams() {
+        rewriteRun(
+          xml(
+            //language=xml
+            """
+              <web-app>
+                  <filter>
+                      <filter-name>struts2</filter-name>
+                      <filter-class>org.apache.struts2.dispatcher.filter.StrutsPrepareAndExecuteFilter</filter-class>
+                      <init-param>
+                          <param-name>devMode</param-name>
+                          <param-value>false</param-value>
+                      </init-param>
+                  </filter>
+                  <filter>
+                      <filter-name>other</filter-name>
+                      <filter-class>com.example.OtherFilter</filter-class>
+                      <init-param>
+                          <param-name>devMode</param-name>
+                          <param-value>false</param-value>
+                      </init-param>
+                  </filter>
+              </web-app>
+              """,
+            //language=xml
+            """
+              <web-app>
+                  <filter>
+                      <filter-name>struts2</filter-name>
+                      <filter-class>org.apache.struts2.dispatcher.filter.StrutsPrepareAndExecuteFilter</filter-class>
+                      <init-param>
+                          <param-name>struts.devMode</param-name>
+                          <param-value>false</param-value>
+                      </init-param>
+                  </filter>
+                  <filter>
+                      <filter-name>other</filter-name>
+                      <filter-class>com.example.OtherFilter</filter-class>
+                      <init-param>
+                          <param-name>devMode</param-name>
+                          <param-value>false</param-value>
+                      </init-param>
+                  </filter>
+              </web-app>
+              """,
+            spec -> spec.path("src/main/webapp/WEB-INF/web.xml")
+          )
+        );
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.migrate6;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.test.SourceSpecs.text;
+import static org.openrewrite.xml.Assertions.xml;
+
+class MigrateStruts6Test implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipeFromResources("org.openrewrite.java.struts.migrate6.MigrateStruts6");
+    }
+
+    @Test
+    void leaveMigratedProjectAlone() {
+        rewriteRun(
+          xml(
+            //language=xml
+            """
+              <project>
+                  <groupId>com.example</groupId>
+                  <artifactId>app</artifactId>
+                  <version>1.0</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>org.apache.struts</groupId>
+                          <artifactId>struts2-core</artifactId>
+                          <version>6.3.0.2</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """,
+            spec -> spec.path("pom.xml")
+          ),
+          xml(
+            //language=xml
+            """
+              <?xml version="1.0" encoding="UTF-8"?>
+              <!DOCTYPE struts PUBLIC
+                      "-//Apache Software Foundation//DTD Struts Configuration 2.5//EN"
+                      "http://struts.apache.org/dtds/struts-2.5.dtd">
+              <struts>
+                  <constant name="devMode" value="false"/>
+                  <constant name="struts.enable.DynamicMethodInvocation" value="true"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          ),
+          text(
+            """
+              <s:date name="created" format="YYYY-MM-dd"/>
+              <s:property value="@com.example.util.Codes@makeCode()"/>
+              """,
+            spec -> spec.path("src/main/webapp/index.jsp")
+          )
+        );
+    }
+}
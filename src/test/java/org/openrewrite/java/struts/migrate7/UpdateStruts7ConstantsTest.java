@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.migrate7;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.properties.Assertions.properties;
+import static org.openrewrite.xml.Assertions.xml;
+
+class UpdateStruts7ConstantsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UpdateStruts7Constants());
+    }
+
+    @DocumentExample
+    @Test
+    void renameChainingConstants() {
+        rewriteRun(
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.xwork.chaining.copyErrors" value="true"/>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <constant name="struts.chaining.copyErrors" value="true"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          ),
+          properties(
+            """
+              struts.xwork.chaining.copyMessages=true
+              """,
+            """
+              struts.chaining.copyMessages=true
+              """,
+            spec -> spec.path("src/main/resources/org/apache/struts2/default.properties")
+          )
+        );
+    }
+}
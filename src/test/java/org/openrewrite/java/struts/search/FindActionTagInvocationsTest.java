@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.struts.table.ActionTagInvocations;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.test.SourceSpecs.text;
+
+class FindActionTagInvocationsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindActionTagInvocations(null));
+    }
+
+    @DocumentExample
+    @Test
+    void findActionTagsInsideIterators() {
+        rewriteRun(
+          spec -> spec.dataTable(ActionTagInvocations.Row.class, rows ->
+            assertThat(rows).containsExactly(
+              new ActionTagInvocations.Row("src/main/webapp/orders.jsp", 3, "header", "", true, 0, 1),
+              new ActionTagInvocations.Row("src/main/webapp/orders.jsp", 5, "orderLine", "/orders", true, 1, 10),
+              new ActionTagInvocations.Row("src/main/webapp/orders.jsp", 7, "price", "", false, 2, 100)
+            )),
+          text(
+            """
+              <%@ taglib prefix="s" uri="/struts-tags" %>
+              <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
+              <s:action name="header" executeResult="true"/>
+              <s:iterator value="orders">
+                  <s:action name="orderLine" namespace="/orders" executeResult="true"/>
+                  <c:forEach items="${lines}" var="line">
+                      <s:action name="price"/>
+                  </c:forEach>
+              </s:iterator>
+              <s:actionerror/>
+              """,
+            """
+              ~~(3 action tag invocations, 2 inside iterators)~~><%@ taglib prefix="s" uri="/struts-tags" %>
+              <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
+              <s:action name="header" executeResult="true"/>
+              <s:iterator value="orders">
+                  <s:action name="orderLine" namespace="/orders" executeResult="true"/>
+                  <c:forEach items="${lines}" var="line">
+                      <s:action name="price"/>
+                  </c:forEach>
+              </s:iterator>
+              <s:actionerror/>
+              """,
+            spec -> spec.path("src/main/webapp/orders.jsp")
+          )
+        );
+    }
+
+    @Test
+    void findFreemarkerActionTags() {
+        rewriteRun(
+          spec -> spec.recipe(new FindActionTagInvocations(5))
+            .dataTable(ActionTagInvocations.Row.class, rows ->
+              assertThat(rows).singleElement().satisfies(row -> {
+                  assertThat(row.getName()).isEqualTo("summary");
+                  assertThat(row.isExecuteResult()).isTrue();
+                  assertThat(row.getEstimatedInvocations()).isEqualTo(5);
+              })),
+          text(
+            """
+              <#list customers as customer>
+                  <@s.action name="summary" executeResult=true/>
+              </#list>
+              """,
+            """
+              ~~(1 action tag invocation, 1 inside iterators)~~><#list customers as customer>
+                  <@s.action name="summary" executeResult=true/>
+              </#list>
+              """,
+            spec -> spec.path("src/main/resources/templates/customers.ftl")
+          )
+        );
+    }
+
+    @Test
+    void ignoreTemplatesWithoutActionTags() {
+        rewriteRun(
+          text(
+            """
+              <s:iterator value="items">
+                  <s:property value="name"/>
+              </s:iterator>
+              <s:actionmessage/>
+              """,
+            spec -> spec.path("src/main/webapp/items.jsp")
+          )
+        );
+    }
+}
@@ -16,17 +16,24 @@
 package org.openrewrite.java.struts.search;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.xml.Assertions.xml;
 
 class FindStaticOgnlMethodAccessTest implements RewriteTest {
 
     @Override
     public void defaults(RecipeSpec spec) {
-        spec.recipe(new FindStaticOgnlMethodAccess());
+        spec.recipe(new FindStaticOgnlMethodAccess(null));
     }
 
     @DocumentExample
@@ -184,4 +191,47 @@ class FindStaticOgnlMethodAccessTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void cacheFilesWithAndWithoutStaticMethodAccess(@TempDir Path cacheDirectory) throws IOException {
+        for (int run = 0; run < 2; run++) {
+            rewriteRun(
+              spec -> spec.recipe(new FindStaticOgnlMethodAccess(cacheDirectory.toString())),
+              xml(
+                //language=xml
+                """
+                  <html>
+                      <body>
+                          <s:property value="@com.app.Util@makeCode()" />
+                      </body>
+                  </html>
+                  """,
+                //language=xml
+                """
+                  <html>
+                      <body>
+                          <s:property <!--~~>-->value="@com.app.Util@makeCode()" />
+                      </body>
+                  </html>
+                  """,
+                spec -> spec.path("index.jsp")
+              ),
+              xml(
+                //language=xml
+                """
+                  <html>
+                      <body>
+                          <s:property value="name" />
+                      </body>
+                  </html>
+                  """,
+                spec -> spec.path("plain.jsp")
+              )
+            );
+        }
+
+        try (Stream<Path> cached = Files.list(cacheDirectory.resolve("org.openrewrite.java.struts.search.FindStaticOgnlMethodAccess"))) {
+            assertThat(cached).hasSize(2);
+        }
+    }
 }
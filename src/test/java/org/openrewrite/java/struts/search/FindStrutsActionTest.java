@@ -17,9 +17,14 @@ package org.openrewrite.java.struts.search;
 
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.struts.table.StrutsActions;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.java.Assertions.java;
 import static org.openrewrite.java.Assertions.srcMainResources;
 import static org.openrewrite.xml.Assertions.xml;
 
@@ -27,7 +32,35 @@ class FindStrutsActionTest implements RewriteTest {
 
     @Override
     public void defaults(RecipeSpec spec) {
-        spec.recipe(new FindStrutsActions());
+        spec.recipe(new FindStrutsActions())
+          .parser(JavaParser.fromJavaVersion()
+            //language=java
+            .dependsOn(
+              """
+                package org.apache.struts2.convention.annotation;
+                public @interface Action {
+                    String value() default "";
+                }
+                """,
+              """
+                package org.apache.struts2.convention.annotation;
+                public @interface Actions {
+                    Action[] value() default {};
+                }
+                """,
+              """
+                package org.apache.struts2.convention.annotation;
+                public @interface Namespace {
+                    String value();
+                }
+                """,
+              """
+                package org.apache.struts2.convention.annotation;
+                public @interface ParentPackage {
+                    String value();
+                }
+                """
+            ));
     }
 
     @DocumentExample
@@ -66,4 +99,120 @@ class FindStrutsActionTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void resolveNamespaceOfPackage() {
+        rewriteRun(
+          spec -> spec.dataTable(StrutsActions.Row.class, rows ->
+            assertThat(rows).extracting(StrutsActions.Row::getPkg, StrutsActions.Row::getNamespace, StrutsActions.Row::getName)
+              .containsExactly(tuple("admin", "/admin", "users"))),
+          xml(
+            //language=xml
+            """
+              <struts>
+                  <package name="admin" extends="struts-default" namespace="/admin">
+                      <action name="users" class="com.example.UsersAction"/>
+                  </package>
+              </struts>
+              """,
+            //language=xml
+            """
+              <struts>
+                  <package name="admin" extends="struts-default" namespace="/admin">
+                      <!--~~>--><action name="users" class="com.example.UsersAction"/>
+                  </package>
+              </struts>
+              """
+          )
+        );
+    }
+
+    @Test
+    void findAnnotatedActions() {
+        rewriteRun(
+          spec -> spec.dataTable(StrutsActions.Row.class, rows ->
+            assertThat(rows).containsExactlyInAnyOrder(
+              new StrutsActions.Row("com/example/actions/admin/UserAdmin.java", "admin-default", "list", "com.example.actions.admin.UserAdmin", "list", "/admin"),
+              new StrutsActions.Row("com/example/actions/admin/UserAdmin.java", "admin-default", "edit", "com.example.actions.admin.UserAdmin", "edit", "/admin"),
+              new StrutsActions.Row("com/example/actions/admin/UserAdmin.java", "admin-default", "update", "com.example.actions.admin.UserAdmin", "edit", "/users"),
+              new StrutsActions.Row("com/example/web/MonthlyReportAction.java", "", "monthly-report", "com.example.web.MonthlyReportAction", "execute", "/reports")
+            )),
+          //language=java
+          java(
+            """
+              package com.example.actions.admin;
+
+              import org.apache.struts2.convention.annotation.Action;
+              import org.apache.struts2.convention.annotation.Actions;
+              import org.apache.struts2.convention.annotation.ParentPackage;
+
+              @ParentPackage("admin-default")
+              public class UserAdmin {
+                  @Action("list")
+                  public String list() {
+                      return "success";
+                  }
+
+                  @Actions({
+                      @Action("edit"),
+                      @Action("/users/update")
+                  })
+                  public String edit() {
+                      return "success";
+                  }
+              }
+              """,
+            """
+              package com.example.actions.admin;
+
+              import org.apache.struts2.convention.annotation.Action;
+              import org.apache.struts2.convention.annotation.Actions;
+              import org.apache.struts2.convention.annotation.ParentPackage;
+
+              @ParentPackage("admin-default")
+              public class UserAdmin {
+                  /*~~>*/@Action("list")
+                  public String list() {
+                      return "success";
+                  }
+
+                  /*~~>*/@Actions({
+                      @Action("edit"),
+                      @Action("/users/update")
+                  })
+                  public String edit() {
+                      return "success";
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              package com.example.web;
+
+              import org.apache.struts2.convention.annotation.Namespace;
+
+              @Namespace("/reports")
+              public class MonthlyReportAction {
+                  public String execute() {
+                      return "success";
+                  }
+              }
+              """,
+            """
+              package com.example.web;
+
+              import org.apache.struts2.convention.annotation.Namespace;
+
+              /*~~>*/@Namespace("/reports")
+              public class MonthlyReportAction {
+                  public String execute() {
+                      return "success";
+                  }
+              }
+              """
+          )
+        );
+    }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.xml.XmlParser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.test.SourceSpecs.text;
+import static org.openrewrite.xml.Assertions.xml;
+
+class HasStrutsVersionBelowTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new HasStrutsVersionBelow("6.0"));
+    }
+
+    @DocumentExample
+    @Test
+    void findProjectOnOlderGradleDependency() {
+        rewriteRun(
+          text(
+            """
+              dependencies {
+                  implementation 'org.apache.struts:struts2-core:2.5.30'
+              }
+              """,
+            """
+              ~~(Struts 2.5.30)~~>dependencies {
+                  implementation 'org.apache.struts:struts2-core:2.5.30'
+              }
+              """,
+            spec -> spec.path("build.gradle")
+          )
+        );
+    }
+
+    @Test
+    void skipProjectOnMigratedMavenDependency() {
+        rewriteRun(
+          xml(
+            //language=xml
+            """
+              <project>
+                  <groupId>com.example</groupId>
+                  <artifactId>app</artifactId>
+                  <version>1.0</version>
+                  <properties>
+                      <struts.version>6.3.0.2</struts.version>
+                  </properties>
+                  <dependencies>
+                      <dependency>
+                          <groupId>org.apache.struts</groupId>
+                          <artifactId>struts2-core</artifactId>
+                          <version>${struts.version}</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """,
+            spec -> spec.path("pom.xml")
+          ),
+          text(
+            "struts.devMode=false",
+            spec -> spec.path("src/main/resources/struts.properties")
+          )
+        );
+    }
+
+    @Test
+    void skipProjectOnMigratedDtd() {
+        rewriteRun(
+          xml(
+            //language=xml
+            """
+              <?xml version="1.0" encoding="UTF-8"?>
+              <!DOCTYPE struts PUBLIC
+                      "-//Apache Software Foundation//DTD Struts Configuration 6.0//EN"
+                      "https://struts.apache.org/dtds/struts-6.0.dtd">
+              <struts>
+                  <constant name="struts.devMode" value="false"/>
+              </struts>
+              """,
+            spec -> spec.path("src/main/resources/struts.xml")
+          )
+        );
+    }
+
+    @Test
+    void findProjectWithUnknownVersion() {
+        rewriteRun(
+          text(
+            "struts.devMode=false",
+            "~~(Struts version unknown)~~>struts.devMode=false",
+            spec -> spec.path("src/main/resources/struts.properties")
+          )
+        );
+    }
+
+    @Test
+    void keepVersionOfFirstCycle() {
+        HasStrutsVersionBelow recipe = new HasStrutsVersionBelow("6.0");
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        HasStrutsVersionBelow.Accumulator acc = recipe.getInitialValue(ctx);
+
+        SourceFile before = strutsXml("2.5");
+        recipe.getScanner(acc).visit(before, ctx);
+        assertThat(recipe.getVisitor(acc).visit(before, ctx)).isNotSameAs(before);
+
+        // The next cycle sees the DTD the migration upgraded in the first cycle
+        SourceFile after = strutsXml("6.0");
+        recipe.getScanner(acc).visit(after, ctx);
+        SourceFile found = (SourceFile) recipe.getVisitor(acc).visit(after, ctx);
+        assertThat(found.getMarkers().findFirst(SearchResult.class))
+          .hasValueSatisfying(result -> assertThat(result.getDescription()).isEqualTo("Struts 2.5"));
+    }
+
+    private static SourceFile strutsXml(String version) {
+        return new XmlParser().parse(
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<!DOCTYPE struts PUBLIC\n" +
+            "        \"-//Apache Software Foundation//DTD Struts Configuration " + version + "//EN\"\n" +
+            "        \"https://struts.apache.org/dtds/struts-" + version + ".dtd\">\n" +
+            "<struts/>\n")
+          .findFirst()
+          .orElseThrow(IllegalStateException::new);
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.struts;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.properties.PropertiesParser;
+import org.openrewrite.text.PlainTextParser;
+import org.openrewrite.xml.XmlParser;
+
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a synthetic Struts 2.5 monorepo for scale tests. The same seed and sizes always produce the same sources.
+ * <p>
+ * The root {@code struts.xml} includes every other Struts XML file, and each of those declares a share of the action
+ * classes, next to a {@code struts.properties} with Xwork constants. JSP pages and FreeMarker templates are the results
+ * of these actions, and contain date tags, static OGNL method calls, dynamic method invocation links and action tags,
+ * in proportions drawn from the seed. Half of the JSP pages start with a taglib directive, which is not XML.
+ */
+public class StrutsMonorepoGenerator {
+    private static final String[] DATE_FORMATS = {"dd/MM/yyyy", "yyyy-MM-dd hh:mm a", "EEE, d MMM yyyy", "MM/dd/yy HH:mm:ss"};
+    private static final String[] UTILITIES = {"com.example.util.Format@currency(amount)", "com.example.util.Codes@makeCode()",
+            "com.example.util.DateUtil@formatDate(today)", "java.lang.Math@max(low, high)"};
+
+    private final long seed;
+    private final int strutsXmlFiles;
+    private final int templates;
+    private final int actionClasses;
+
+    public StrutsMonorepoGenerator(long seed, int strutsXmlFiles, int templates, int actionClasses) {
+        this.seed = seed;
+        this.strutsXmlFiles = Math.max(1, strutsXmlFiles);
+        this.templates = Math.max(1, templates);
+        this.actionClasses = Math.max(1, actionClasses);
+    }
+
+    /**
+     * @return A generator of the same seed, with every size multiplied by {@code factor}.
+     */
+    public StrutsMonorepoGenerator scale(int factor) {
+        return new StrutsMonorepoGenerator(seed, strutsXmlFiles * factor, templates * factor, actionClasses * factor);
+    }
+
+    public int getSourceFileCount() {
+        return 2 + strutsXmlFiles + templates + actionClasses;
+    }
+
+    /**
+     * @return The generated sources, by source path, in a stable order.
+     */
+    public Map<String, String> generate() {
+        Random random = new Random(seed);
+        Map<String, String> sources = new LinkedHashMap<>();
+
+        List<String> templatePaths = new ArrayList<>();
+        for (int t = 0; t < templates; t++) {
+            templatePaths.add((random.nextInt(3) == 0 ? "WEB-INF/templates/" : "pages/") + "page" + t +
+                              (t % 3 == 2 ? ".ftl" : ".jsp"));
+        }
+
+        StringBuilder root = new StringBuilder(header()).append("<struts>\n");
+        root.append("    <constant name=\"struts.enable.DynamicMethodInvocation\" value=\"true\"/>\n");
+        for (int n = 0; n < strutsXmlFiles; n++) {
+            root.append("    <include file=\"struts-module").append(n).append(".xml\"/>\n");
+        }
+        sources.put("src/main/resources/struts.xml", root.append("</struts>\n").toString());
+        sources.put("src/main/resources/struts.properties", "devMode=false\nstruts.xwork.chaining.copyErrors=true\n");
+
+        for (int n = 0; n < strutsXmlFiles; n++) {
+            StringBuilder module = new StringBuilder(header()).append("<struts>\n");
+            module.append("    <package name=\"module").append(n).append("\" namespace=\"/module").append(n)
+                    .append("\" extends=\"struts-default\">\n");
+            for (int k = n; k < actionClasses; k += strutsXmlFiles) {
+                module.append("        <action name=\"item").append(k).append("\" class=\"").append(actionClassName(k)).append("\">\n");
+                for (String result : new String[]{"success", "input"}) {
+                    String location = templatePaths.get(random.nextInt(templatePaths.size()));
+                    module.append("            <result name=\"").append(result).append('"')
+                            .append(location.endsWith(".ftl") ? " type=\"freemarker\"" : "")
+                            .append(">/").append(location).append("</result>\n");
+                }
+                module.append("        </action>\n");
+            }
+            module.append("    </package>\n</struts>\n");
+            sources.put("src/main/resources/struts-module" + n + ".xml", module.toString());
+        }
+
+        for (int t = 0; t < templates; t++) {
+            String path = templatePaths.get(t);
+            sources.put("src/main/webapp/" + path, path.endsWith(".ftl") ? freemarkerTemplate(random) : jsp(t % 3 == 1, random));
+        }
+
+        for (int k = 0; k < actionClasses; k++) {
+            sources.put("src/main/java/" + actionClassName(k).replace('.', '/') + ".java", actionClass(k, random));
+        }
+        return sources;
+    }
+
+    /**
+     * Parses the generated sources: Java with the Struts 2.5 classpath, Struts XML files and JSP pages as XML, and
+     * FreeMarker templates and JSP pages with directives as plain text, so that the recipes run over templates in both
+     * of the forms they handle.
+     */
+    public List<SourceFile> parse(ExecutionContext ctx) {
+        Map<String, String> sources = generate();
+        List<SourceFile> parsed = new ArrayList<>();
+
+        List<String> javaSources = new ArrayList<>();
+        XmlParser xmlParser = new XmlParser();
+        PlainTextParser textParser = new PlainTextParser();
+        PropertiesParser propertiesParser = new PropertiesParser();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            if (source.getKey().endsWith(".java")) {
+                javaSources.add(source.getValue());
+            } else if (source.getKey().endsWith(".properties")) {
+                parsed.add(propertiesParser.parse(ctx, source.getValue()).findFirst().orElseThrow(IllegalStateException::new)
+                        .withSourcePath(Paths.get(source.getKey())));
+            } else if (source.getKey().endsWith(".ftl") || source.getValue().startsWith("<%@")) {
+                parsed.add(textParser.parse(ctx, source.getValue()).findFirst().orElseThrow(IllegalStateException::new)
+                        .withSourcePath(Paths.get(source.getKey())));
+            } else {
+                parsed.add(xmlParser.parse(ctx, source.getValue()).findFirst().orElseThrow(IllegalStateException::new)
+                        .withSourcePath(Paths.get(source.getKey())));
+            }
+        }
+        parsed.addAll(JavaParser.fromJavaVersion()
+                .classpathFromResources(ctx, "struts2-core-2.5")
+                .build()
+                .parse(ctx, javaSources.toArray(new String[0]))
+                .map(cu -> cu.withSourcePath(Paths.get("src/main/java").resolve(cu.getSourcePath())))
+                .collect(Collectors.toList()));
+        return parsed;
+    }
+
+    private static String header() {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+               "<!DOCTYPE struts PUBLIC\n" +
+               "    \"-//Apache Software Foundation//DTD Struts Configuration 2.5//EN\"\n" +
+               "    \"http://struts.apache.org/dtds/struts-2.5.dtd\">\n";
+    }
+
+    private String actionClassName(int k) {
+        return "com.example.module" + (k % strutsXmlFiles) + ".ItemAction" + k;
+    }
+
+    private String jsp(boolean directive, Random random) {
+        StringBuilder jsp = new StringBuilder(directive ? "<%@ taglib prefix=\"s\" uri=\"/struts-tags\" %>\n" : "")
+                .append("<html>\n    <body>\n");
+        for (int i = 0, tags = 2 + random.nextInt(6); i < tags; i++) {
+            switch (random.nextInt(4)) {
+                case 0:
+                    jsp.append("        <s:date name=\"created").append(i).append("\" format=\"")
+                            .append(DATE_FORMATS[random.nextInt(DATE_FORMATS.length)]).append("\"/>\n");
+                    break;
+                case 1:
+                    jsp.append("        <s:property value=\"@").append(UTILITIES[random.nextInt(UTILITIES.length)]).append("\"/>\n");
+                    break;
+                case 2:
+                    jsp.append("        <a href=\"item").append(random.nextInt(actionClasses)).append("!edit.action\">Edit</a>\n");
+                    break;
+                default:
+                    jsp.append("        <s:iterator value=\"rows\">\n")
+                            .append("            <s:action name=\"item").append(random.nextInt(actionClasses))
+                            .append("\" executeResult=\"true\"/>\n")
+                            .append("        </s:iterator>\n");
+            }
+        }
+        return jsp.append("    </body>\n</html>\n").toString();
+    }
+
+    private String freemarkerTemplate(Random random) {
+        StringBuilder ftl = new StringBuilder("<#list items as item>\n");
+        for (int i = 0, tags = 2 + random.nextInt(6); i < tags; i++) {
+            switch (random.nextInt(4)) {
+                case 0:
+                    ftl.append("    <@s.date name=\"item.created").append(i).append("\" format=\"")
+                            .append(DATE_FORMATS[random.nextInt(DATE_FORMATS.length)]).append("\"/>\n");
+                    break;
+                case 1:
+                    ftl.append("    <@s.property value=\"@").append(UTILITIES[random.nextInt(UTILITIES.length)]).append("\"/>\n");
+                    break;
+                case 2:
+                    ftl.append("    <a href=\"item").append(random.nextInt(actionClasses)).append("!list.action\">${item.name?html}</a>\n");
+                    break;
+                default:
+                    ftl.append("    <@s.action name=\"item").append(random.nextInt(actionClasses)).append("\"/>\n");
+            }
+        }
+        return ftl.append("</#list>\n").toString();
+    }
+
+    private String actionClass(int k, Random random) {
+        String className = actionClassName(k);
+        StringBuilder java = new StringBuilder()
+                .append("package ").append(className, 0, className.lastIndexOf('.')).append(";\n\n")
+                .append("import com.opensymphony.xwork2.ActionSupport;\n\n")
+                .append("public class ").append(className.substring(className.lastIndexOf('.') + 1))
+                .append(" extends ActionSupport {\n");
+        for (int i = 0, properties = 1 + random.nextInt(4); i < properties; i++) {
+            java.append("    private String property").append(i).append(";\n\n")
+                    .append("    public String getProperty").append(i).append("() {\n")
+                    .append("        return property").append(i).append(";\n")
+                    .append("    }\n\n")
+                    .append("    public void setProperty").append(i).append("(String property").append(i).append(") {\n")
+                    .append("        this.property").append(i).append(" = property").append(i).append(";\n")
+                    .append("    }\n\n");
+        }
+        return java.append("    public String list() {\n")
+                .append("        return SUCCESS;\n")
+                .append("    }\n\n")
+                .append("    public String edit() {\n")
+                .append("        return INPUT;\n")
+                .append("    }\n")
+                .append("}\n")
+                .toString();
+    }
+}